@@ -0,0 +1,91 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.context.CourseSearchConditionContext;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.strategy.CourseDescriptionSearchStrategy;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.strategy.CourseTitleSearchStrategy;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepositoryCustomImpl;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CacheAsideTemplate.getOrLoad on the course entity path
+ * <p>
+ * hit: the key is always in Redis (with hotKeys=true it is promoted to the local replica after warmup).
+ * miss: every call uses a fresh key, so it pays GET + H2 load + SET.
+ * Loads go through CourseRepositoryCustomImpl.findSummaryById, the loader of CourseService.getCourseById.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheAsideTemplateBenchmark {
+
+    private static final int COURSES = 1_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration MISS_TTL = Duration.ofSeconds(5);
+
+    @Param({"false", "true"})
+    public boolean hotKeys;
+
+    private RedisFixture redis;
+    private CacheAsideTemplate cacheAsideTemplate;
+    private H2Fixture h2;
+    private CourseSearchConditionContext conditionContext;
+    private String hitKey;
+    private final AtomicLong missId = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = new RedisFixture(hotKeys);
+        cacheAsideTemplate = redis.cacheAsideTemplate();
+
+        h2 = new H2Fixture("jmh-cache", COURSES);
+        conditionContext = new CourseSearchConditionContext(
+                List.of(new CourseTitleSearchStrategy(), new CourseDescriptionSearchStrategy()));
+
+        hitKey = RedisKey.COURSE.getKey(1L);
+        cacheAsideTemplate.put(hitKey, loadCourse(1L), TTL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        h2.close();
+        redis.close();
+    }
+
+    @Benchmark
+    public RCourse getOrLoadHit() {
+        return cacheAsideTemplate.getOrLoad(hitKey, () -> loadCourse(1L), TTL);
+    }
+
+    @Benchmark
+    public RCourse getOrLoadMiss() {
+        long sequence = missId.incrementAndGet();
+        long courseId = sequence % COURSES + 1;
+        // 키는 매번 새로 만들어 항상 MISS, 짧은 TTL로 Redis 메모리가 쌓이지 않게 한다
+        return cacheAsideTemplate.getOrLoad(RedisKey.COURSE.getKey(COURSES + sequence),
+                () -> loadCourse(courseId), MISS_TTL);
+    }
+
+    private RCourse loadCourse(long courseId) {
+        return h2.read(em -> new CourseRepositoryCustomImpl(em, conditionContext)
+                .findSummaryById(courseId)
+                .map(RCourse::new)
+                .orElse(null));
+    }
+}
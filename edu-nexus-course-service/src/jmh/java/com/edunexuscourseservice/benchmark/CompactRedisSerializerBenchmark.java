@@ -0,0 +1,61 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.config.RedisConfig;
+import com.edunexuscourseservice.domain.course.template.CachedEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode of the cached value types with the RedisTemplate value serializer
+ * <p>
+ * format: binary (CompactRedisSerializer) or json, as selected by redis.cache.serializer.
+ * payload: a counter, a course entity, and a course in the early-refresh envelope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompactRedisSerializerBenchmark {
+
+    @Param({"binary", "json"})
+    public String format;
+
+    @Param({"counter", "course", "entry"})
+    public String payload;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        serializer = RedisConfig.valueSerializer(format);
+        RCourse course = new RCourse(1L, "Spring Boot 완벽 가이드", "Spring Boot 3 기반 백엔드 개발 입문 강의", 100L);
+        value = switch (payload) {
+            case "counter" -> 123_456L;
+            case "course" -> course;
+            case "entry" -> new CachedEntry(course, 12L, System.currentTimeMillis());
+            default -> throw new IllegalArgumentException("Unknown payload: " + payload);
+        };
+        bytes = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(bytes);
+    }
+}
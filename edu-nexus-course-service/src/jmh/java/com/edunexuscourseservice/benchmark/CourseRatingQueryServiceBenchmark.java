@@ -0,0 +1,77 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.adapter.out.persistence.repository.CacheOperationTemplate;
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRedisRepositoryImpl;
+import com.edunexuscourseservice.application.service.CourseRatingCrudService;
+import com.edunexuscourseservice.application.service.CourseRatingQueryService;
+import com.edunexuscourseservice.application.service.CourseRatingWarmupService;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexusobservability.metrics.MetricsRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * CourseRatingQueryService.getAverageRatings for a page of N courses (one pipelined read-script round trip)
+ * <p>
+ * Every course is seeded in Redis, so the warm-up fallback, and with it the database, is never reached:
+ * the services are built with a CourseRatingCrudService without repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseRatingQueryServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int courses;
+
+    private RedisFixture redis;
+    private CourseRatingWarmupService warmupService;
+    private CourseRatingQueryService queryService;
+    private List<Long> courseIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = new RedisFixture(false);
+        CourseRatingRedisRepositoryImpl redisRepository =
+                new CourseRatingRedisRepositoryImpl(redis.cacheAsideTemplate(), new CacheOperationTemplate(),
+                        Duration.ofHours(24));
+        CourseRatingCrudService crudService = new CourseRatingCrudService(null, null, null);
+        warmupService = new CourseRatingWarmupService(crudService, redisRepository,
+                new MetricsRegistry(new SimpleMeterRegistry()), 1000);
+        queryService = new CourseRatingQueryService(crudService, redisRepository, warmupService);
+
+        courseIds = LongStream.rangeClosed(1, courses).boxed().toList();
+        List<CourseRatingAggregate> aggregates = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            aggregates.add(new CourseRatingAggregate(courseId, courseId * 4, courseId));
+        }
+        redisRepository.initializeRatings(courseIds, ids -> aggregates);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        warmupService.shutdown();
+        redis.close();
+    }
+
+    @Benchmark
+    public Map<Long, Double> getAverageRatings() {
+        return queryService.getAverageRatings(courseIds);
+    }
+}
@@ -0,0 +1,68 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.context.CourseSearchConditionContext;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.strategy.CourseDescriptionSearchStrategy;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.strategy.CourseTitleSearchStrategy;
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepositoryCustomImpl;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One course listing page read as managed entities vs the constructor projection of findSummaries
+ * <p>
+ * Allocation per read is reported with the GC profiler: -Pjmh.includes=CourseReadModelBenchmark
+ * and profilers = ['gc'] in the jmh block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseReadModelBenchmark {
+
+    private static final int COURSES = 10_000;
+    private static final PageRequest PAGE = PageRequest.of(3, 100);
+
+    private H2Fixture h2;
+    private CourseSearchConditionContext conditionContext;
+    private CourseSearchCondition condition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        h2 = new H2Fixture("read_model", COURSES);
+        conditionContext = new CourseSearchConditionContext(
+                List.of(new CourseTitleSearchStrategy(), new CourseDescriptionSearchStrategy()));
+        condition = new CourseSearchCondition();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        h2.close();
+    }
+
+    // Baseline: the same page as managed entities
+    @Benchmark
+    public List<Course> entityPage() {
+        return h2.read(em -> em.createQuery("select c from Course c", Course.class)
+                .setFirstResult((int) PAGE.getOffset())
+                .setMaxResults(PAGE.getPageSize())
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<CourseSummaryDto> summaryPage() {
+        return h2.read(em -> new CourseRepositoryCustomImpl(em, conditionContext).findSummaries(condition, PAGE));
+    }
+}
@@ -0,0 +1,55 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.context.CourseSearchConditionContext;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.strategy.CourseDescriptionSearchStrategy;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.strategy.CourseTitleSearchStrategy;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CourseSearchConditionContext.buildExpression with the strategies registered in the application
+ * <p>
+ * condition: title only, description only, or both (two predicates OR-ed together).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CourseSearchConditionContextBenchmark {
+
+    @Param({"title", "description", "both"})
+    public String condition;
+
+    private CourseSearchConditionContext context;
+    private CourseSearchCondition searchCondition;
+
+    @Setup
+    public void setUp() {
+        context = new CourseSearchConditionContext(List.of(
+                new CourseTitleSearchStrategy(),
+                new CourseDescriptionSearchStrategy()));
+
+        searchCondition = new CourseSearchCondition();
+        if (!"description".equals(condition)) {
+            searchCondition.setTitle("Spring");
+        }
+        if (!"title".equals(condition)) {
+            searchCondition.setDescription("Redis");
+        }
+    }
+
+    @Benchmark
+    public BooleanExpression buildExpression() {
+        return context.buildExpression(searchCondition);
+    }
+}
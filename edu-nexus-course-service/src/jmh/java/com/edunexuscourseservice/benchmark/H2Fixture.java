@@ -0,0 +1,63 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseSession;
+import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * In-memory H2 with the course tables, bootstrapped through Hibernate from the entity mappings
+ * <p>
+ * Holds courses 1..N; every read runs in a fresh EntityManager, as a request would.
+ */
+public class H2Fixture implements AutoCloseable {
+
+    private final SessionFactory sessionFactory;
+
+    public H2Fixture(String database, int courses) {
+        this.sessionFactory = new Configuration()
+                .addAnnotatedClass(Course.class)
+                .addAnnotatedClass(CourseSession.class)
+                .addAnnotatedClass(CourseRating.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.SHOW_SQL, "false")
+                .buildSessionFactory();
+        insertCourses(courses);
+    }
+
+    public <T> T read(Function<EntityManager, T> query) {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            return query.apply(em);
+        }
+    }
+
+    @Override
+    public void close() {
+        sessionFactory.close();
+    }
+
+    private void insertCourses(int courses) {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 1; i <= courses; i++) {
+                Course course = new Course();
+                course.setCourseInfo(CourseInfoDto.builder()
+                        .title("Spring Boot 강의 " + i)
+                        .description("Spring Boot 3 기반 백엔드 개발 입문 강의 " + i)
+                        .instructorId((long) (i % 50) + 1)
+                        .build());
+                session.persist(course);
+                if (i % 500 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
+import com.edunexuscourseservice.application.service.kafka.codec.RatingEventCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer-side encode of a rating update event, as CourseRatingProducerService writes it to the outbox
+ * <p>
+ * format: the binary RatingEventCodec payload, or the String.format JSON the producer used to send.
+ * Decode cost is measured by RatingEventDeserializerBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RatingEventCodecBenchmark {
+
+    @Param({"binary", "json"})
+    public String format;
+
+    private CourseRatingUpdateEvent event;
+
+    @Setup
+    public void setUp() {
+        event = CourseRatingUpdateEvent.create(12_345L, 3, 5, "Spring Boot 완벽 가이드 최고");
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        if ("json".equals(format)) {
+            return String.format("{\"courseId\": %d, \"oldRating\": %d, \"newRating\": %d, \"comment\": \"%s\"}",
+                    event.getCourseId(), event.getOldRating(), event.getNewRating(), event.getComment())
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        return RatingEventCodec.encode(event);
+    }
+}
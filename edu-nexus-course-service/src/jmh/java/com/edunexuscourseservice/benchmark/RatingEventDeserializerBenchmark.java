@@ -0,0 +1,53 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.application.saga.event.CourseRatingAddEvent;
+import com.edunexuscourseservice.application.service.kafka.codec.RatingEventCodec;
+import com.edunexuscourseservice.application.service.kafka.codec.RatingEventDeserializer;
+import com.edunexuscourseservice.domain.course.util.KafkaTopic;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumer-side decode of a rating add event, as the Kafka listener container calls it
+ * <p>
+ * format: the binary RatingEventCodec payload, or a legacy JSON payload still accepted by the codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RatingEventDeserializerBenchmark {
+
+    private static final String TOPIC = KafkaTopic.COURSE_RATING_ADD.getTopic();
+
+    @Param({"binary", "json"})
+    public String format;
+
+    private final RatingEventDeserializer deserializer = new RatingEventDeserializer();
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        CourseRatingAddEvent event = new CourseRatingAddEvent(
+                UUID.randomUUID().toString(), Instant.now(), 12_345L, 4, 99L);
+        payload = "json".equals(format)
+                ? new ObjectMapper().findAndRegisterModules().writeValueAsBytes(event)
+                : RatingEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return deserializer.deserialize(TOPIC, payload);
+    }
+}
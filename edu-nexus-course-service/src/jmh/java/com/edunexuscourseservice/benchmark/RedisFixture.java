@@ -0,0 +1,98 @@
+package com.edunexuscourseservice.benchmark;
+
+import com.edunexuscourseservice.config.RedisConfig;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.template.CacheInvalidationBus;
+import com.edunexuscourseservice.domain.course.template.CacheMetrics;
+import com.edunexuscourseservice.domain.course.template.EarlyRefreshPolicy;
+import com.edunexuscourseservice.domain.course.template.HotKeyDetector;
+import com.edunexuscourseservice.domain.course.template.HotKeyReplica;
+import com.edunexuscourseservice.domain.course.template.LocalCacheTier;
+import com.edunexuscourseservice.domain.course.template.RedisCounterOperations;
+import com.edunexuscourseservice.domain.course.template.RedisScanOperations;
+import com.edunexuscourseservice.domain.course.template.SingleFlightLoader;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+/**
+ * Embedded Redis plus a CacheAsideTemplate wired like the application context does
+ * <p>
+ * L1 and distributed single-flight are off (their defaults); hot-key replication is
+ * configurable so benchmarks can measure the Redis round trip on its own.
+ */
+public class RedisFixture implements AutoCloseable {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EarlyRefreshPolicy earlyRefreshPolicy;
+    private final CacheAsideTemplate cacheAsideTemplate;
+
+    public RedisFixture(boolean hotKeys) {
+        int port = freePort();
+        this.server = RedisServer.builder()
+                .port(port)
+                .setting("maxmemory 256M")
+                .setting("save \"\"")
+                .build();
+        server.start();
+
+        this.connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        CacheMetrics metrics = new CacheMetrics();
+        RedisConfig redisConfig = new RedisConfig();
+        this.redisTemplate = redisConfig.redisTemplate(connectionFactory,
+                redisConfig.redisValueSerializer("binary", metrics));
+        this.stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        LocalCacheTier localCacheTier = new LocalCacheTier(false, 10_000, Duration.ofSeconds(30), metrics);
+        HotKeyDetector detector = new HotKeyDetector(hotKeys, 1000, Duration.ofSeconds(10), 5, 4096, 128);
+        HotKeyReplica hotKeyReplica = new HotKeyReplica(detector, metrics, Duration.ofSeconds(2), 128);
+        this.earlyRefreshPolicy = new EarlyRefreshPolicy(1.0, 2, 1000, metrics);
+        this.cacheAsideTemplate = new CacheAsideTemplate(
+                redisTemplate,
+                metrics,
+                new RedisScanOperations(redisTemplate),
+                new RedisCounterOperations(redisTemplate, stringRedisTemplate),
+                localCacheTier,
+                new CacheInvalidationBus(stringRedisTemplate, localCacheTier, hotKeyReplica),
+                new SingleFlightLoader(redisTemplate, stringRedisTemplate, metrics, false,
+                        Duration.ofSeconds(3), Duration.ofMillis(50)),
+                earlyRefreshPolicy,
+                hotKeyReplica);
+    }
+
+    public CacheAsideTemplate cacheAsideTemplate() {
+        return cacheAsideTemplate;
+    }
+
+    public RedisTemplate<String, Object> redisTemplate() {
+        return redisTemplate;
+    }
+
+    @Override
+    public void close() {
+        earlyRefreshPolicy.shutdown();
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.edunexuscourseservice.loadtest;
+
+import com.edunexuscourseservice.EduNexusCourseServiceApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Course-service load test without outside services
+ * <p>
+ * 1. Generates (or reuses) the synthetic dataset in a file-based H2 database
+ * 2. Starts an embedded Redis and boots the application in-process against both, with the
+ *    local profile; Eureka, Kafka listeners, the outbox relay and tracing export are switched off
+ * 3. Runs each scenario and writes the reports (see LoadReport)
+ * <p>
+ * Run with ./gradlew :edu-nexus-course-service:loadTest; options are listed in LoadTestOptions.
+ */
+public class CourseLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseLoadTest.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        SyntheticDataset dataset = SyntheticDataset.of(options);
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        Files.createDirectories(options.dataDir());
+        String jdbcUrl = "jdbc:h2:file:" + options.dataDir().resolve("course").toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "sa", "")) {
+            new SyntheticDataGenerator(dataset).populate(connection);
+        }
+
+        int redisPort = freePort();
+        RedisServer redis = redisServer(options, redisPort);
+        redis.start();
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(EduNexusCourseServiceApplication.class)
+                .profiles("local")
+                .run(applicationArguments(options, jdbcUrl, redisPort))) {
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            LoadRunner runner = new LoadRunner(URI.create("http://localhost:" + port), dataset, options);
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (Scenario scenario : options.scenarios()) {
+                results.add(runner.run(scenario));
+            }
+
+            Path summary = new LoadReport(options.resultDir(), startedAt).write(dataset, options, results);
+            log.info("Load test report: {}\n{}", summary.toAbsolutePath(), Files.readString(summary));
+        } finally {
+            redis.stop();
+        }
+    }
+
+    /**
+     * Command-line arguments, so they take precedence over application-local.yml
+     */
+    private static String[] applicationArguments(LoadTestOptions options, String jdbcUrl, int redisPort) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", String.valueOf(redisPort));
+        properties.put("spring.kafka.listener.auto-startup", "false");
+        properties.put("spring.kafka.admin.auto-create", "false");
+        properties.put("kafka.outbox.relay.enabled", "false");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("management.tracing.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.edunexuscourseservice.loadtest", "INFO");
+        properties.putAll(options.appProperties());
+
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static RedisServer redisServer(LoadTestOptions options, int port) throws IOException {
+        if (options.redisExecutable() != null) {
+            return new RedisServer(new File(options.redisExecutable()), port);
+        }
+        return RedisServer.builder()
+                .port(port)
+                .setting("maxmemory 1gb")
+                .setting("maxmemory-policy allkeys-lru")
+                .setting("save \"\"")
+                .build();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
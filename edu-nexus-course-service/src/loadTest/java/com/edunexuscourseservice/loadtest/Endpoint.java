@@ -0,0 +1,154 @@
+package com.edunexuscourseservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Course-service requests issued by the virtual users
+ * <p>
+ * Course IDs are drawn by popularity (see SyntheticDataset); the weight is relative
+ * to the other reads or writes. The name is the path template, as locust reports it.
+ */
+public enum Endpoint {
+    GET_COURSE("GET", "/courses/{courseId}", 30, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return get(base, "/courses/" + data.sampleCourse(random));
+        }
+    },
+    SEARCH_COURSES("GET", "/courses?courseTitle={topic}", 10, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            String topic = SyntheticDataset.TOPICS[random.nextInt(SyntheticDataset.TOPICS.length)];
+            return get(base, "/courses?courseTitle=" + topic + "&page=" + random.nextInt(5) + "&size=20");
+        }
+    },
+    SCROLL_COURSES("GET", "/courses/scroll", 5, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return get(base, "/courses/scroll?size=20");
+        }
+    },
+    BATCH_COURSES("POST", "/courses/batch", 5, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            StringJoiner ids = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < 20; i++) {
+                ids.add(String.valueOf(data.sampleCourse(random)));
+            }
+            return post(base, "/courses/batch", ids.toString());
+        }
+    },
+    LIST_SESSIONS("GET", "/courses/{courseId}/sessions", 10, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return get(base, "/courses/" + data.sampleCourse(random) + "/sessions");
+        }
+    },
+    GET_SESSION("GET", "/courses/{courseId}/sessions/{sessionId}", 10, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            long courseId = data.sampleCourse(random);
+            long sessionId = data.sessionId(courseId, random.nextInt(data.getSessionsPerCourse()));
+            return get(base, "/courses/" + courseId + "/sessions/" + sessionId);
+        }
+    },
+    RATING_AVERAGE("GET", "/courses/{courseId}/ratings/average", 15, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return get(base, "/courses/" + data.sampleCourse(random) + "/ratings/average");
+        }
+    },
+    SCROLL_RATINGS("GET", "/courses/{courseId}/ratings/scroll", 10, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return get(base, "/courses/" + data.sampleCourse(random) + "/ratings/scroll?size=20");
+        }
+    },
+    RATING_DISTRIBUTION("GET", "/courses/{courseId}/ratings/distribution", 5, false) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return get(base, "/courses/" + data.sampleCourse(random) + "/ratings/distribution");
+        }
+    },
+    ADD_RATING("POST", "/courses/{courseId}/ratings", 60, true) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return post(base, "/courses/" + data.sampleCourse(random) + "/ratings", String.format(
+                    "{\"userId\": %d, \"rating\": %d, \"comment\": \"load test\"}",
+                    random.nextInt(1_000_000) + 1, random.nextInt(5) + 1));
+        }
+    },
+    UPDATE_RATING("PUT", "/courses/{courseId}/ratings/{ratingId}", 25, true) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            long ratingId = data.sampleRating(random);
+            long courseId = data.courseOfRating(ratingId);
+            return put(base, "/courses/" + courseId + "/ratings/" + ratingId, String.format(
+                    "{\"rating\": %d, \"comment\": \"load test update\"}", random.nextInt(5) + 1));
+        }
+    },
+    ADD_SESSION("POST", "/courses/{courseId}/sessions", 5, true) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            return post(base, "/courses/" + data.sampleCourse(random) + "/sessions",
+                    "{\"title\": \"load test session\"}");
+        }
+    },
+    UPDATE_COURSE("PUT", "/courses/{courseId}", 10, true) {
+        @Override
+        HttpRequest.Builder request(URI base, SyntheticDataset data, Random random) {
+            long courseId = data.sampleCourse(random);
+            return put(base, "/courses/" + courseId, String.format(
+                    "{\"title\": \"%s\", \"description\": \"updated by load test\"}", data.title(courseId)));
+        }
+    };
+
+    private final String method;
+    private final String path;
+    private final int weight;
+    private final boolean write;
+
+    Endpoint(String method, String path, int weight, boolean write) {
+        this.method = method;
+        this.path = path;
+        this.weight = weight;
+        this.write = write;
+    }
+
+    abstract HttpRequest.Builder request(URI base, SyntheticDataset data, Random random);
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+
+    private static HttpRequest.Builder get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET();
+    }
+
+    private static HttpRequest.Builder post(URI base, String path, String json) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private static HttpRequest.Builder put(URI base, String path, String json) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
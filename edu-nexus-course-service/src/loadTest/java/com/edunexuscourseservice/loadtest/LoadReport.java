@@ -0,0 +1,155 @@
+package com.edunexuscourseservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the results of a load-test run
+ * <p>
+ * Per scenario a {timestamp}_{scenario}_stats.csv in locust's stats format, so runs can be compared
+ * with the locust results next to them, and one {timestamp}_summary.md with p50/p99/throughput per
+ * endpoint. Latencies are in milliseconds.
+ */
+public class LoadReport {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double[] PERCENTILES = {50, 66, 75, 80, 90, 95, 98, 99, 99.9, 99.99, 100};
+
+    private final Path resultDir;
+    private final String timestamp;
+
+    public LoadReport(Path resultDir, LocalDateTime startedAt) {
+        this.resultDir = resultDir;
+        this.timestamp = startedAt.format(TIMESTAMP);
+    }
+
+    /**
+     * @return The summary file
+     */
+    public Path write(SyntheticDataset dataset, LoadTestOptions options, List<ScenarioResult> results) {
+        try {
+            Files.createDirectories(resultDir);
+            for (ScenarioResult result : results) {
+                writeStats(result);
+            }
+            return writeSummary(dataset, options, results);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeStats(ScenarioResult result) throws IOException {
+        Path file = resultDir.resolve(timestamp + "_" + result.getScenario().getName() + "_stats.csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            StringBuilder header = new StringBuilder("Type,Name,Request Count,Failure Count,Median Response Time,"
+                    + "Average Response Time,Min Response Time,Max Response Time,Average Content Size,Requests/s,Failures/s");
+            for (double percentile : PERCENTILES) {
+                header.append(',').append(percentileLabel(percentile));
+            }
+            out.println(header);
+
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram latency = result.latency(endpoint);
+                if (latency.getTotalCount() > 0) {
+                    out.println(statsRow(endpoint.getMethod(), csv(endpoint.getPath()), result, latency,
+                            result.failures(endpoint), result.bytes(endpoint)));
+                }
+            }
+            out.println(statsRow("", "Aggregated", result, result.aggregatedLatency(),
+                    result.aggregatedFailures(), result.aggregatedBytes()));
+        }
+    }
+
+    private static String statsRow(String type, String name, ScenarioResult result, Histogram latency,
+                                   long failures, long bytes) {
+        long requests = latency.getTotalCount();
+        StringBuilder row = new StringBuilder()
+                .append(type).append(',')
+                .append(name).append(',')
+                .append(requests).append(',')
+                .append(failures).append(',')
+                .append(format(millis(latency.getValueAtPercentile(50)))).append(',')
+                .append(format(latency.getMean() / 1000.0)).append(',')
+                .append(format(millis(latency.getMinValue()))).append(',')
+                .append(format(millis(latency.getMaxValue()))).append(',')
+                .append(format(requests == 0 ? 0.0 : (double) bytes / requests)).append(',')
+                .append(format(result.throughput(requests))).append(',')
+                .append(format(result.throughput(failures)));
+        for (double percentile : PERCENTILES) {
+            row.append(',').append(format(millis(latency.getValueAtPercentile(percentile))));
+        }
+        return row.toString();
+    }
+
+    private Path writeSummary(SyntheticDataset dataset, LoadTestOptions options, List<ScenarioResult> results)
+            throws IOException {
+        Path file = resultDir.resolve(timestamp + "_summary.md");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println("# Course service load test " + timestamp);
+            out.println();
+            out.printf("- Data: %s%n", dataset);
+            out.printf("- Users: %d (closed model, no think time), warmup %s, measured %s per scenario%n",
+                    options.users(), options.warmup(), options.duration());
+            out.printf("- Java %s, %d CPUs%n", Runtime.version(), Runtime.getRuntime().availableProcessors());
+            if (!options.appProperties().isEmpty()) {
+                out.printf("- Application overrides: %s%n", options.appProperties());
+            }
+
+            for (ScenarioResult result : results) {
+                Histogram aggregated = result.aggregatedLatency();
+                out.println();
+                out.printf("## %s (%d%% reads)%n", result.getScenario().getName(), result.getScenario().getReadPercent());
+                out.println();
+                out.printf("%s req/s, p50 %s ms, p99 %s ms, %d failures%n",
+                        format(result.throughput(aggregated.getTotalCount())),
+                        format(millis(aggregated.getValueAtPercentile(50))),
+                        format(millis(aggregated.getValueAtPercentile(99))),
+                        result.aggregatedFailures());
+                out.println();
+                out.println("| Endpoint | Requests | Failures | Req/s | p50 (ms) | p99 (ms) | Max (ms) |");
+                out.println("|----------|---------:|---------:|------:|---------:|---------:|---------:|");
+                for (Endpoint endpoint : Endpoint.values()) {
+                    Histogram latency = result.latency(endpoint);
+                    if (latency.getTotalCount() == 0) {
+                        continue;
+                    }
+                    out.printf("| %s %s | %d | %d | %s | %s | %s | %s |%n",
+                            endpoint.getMethod(), endpoint.getPath(),
+                            latency.getTotalCount(),
+                            result.failures(endpoint),
+                            format(result.throughput(latency.getTotalCount())),
+                            format(millis(latency.getValueAtPercentile(50))),
+                            format(millis(latency.getValueAtPercentile(99))),
+                            format(millis(latency.getMaxValue())));
+                }
+            }
+        }
+        return file;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String percentileLabel(double percentile) {
+        return (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile)) + "%";
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") ? "\"" + value + "\"" : value;
+    }
+}
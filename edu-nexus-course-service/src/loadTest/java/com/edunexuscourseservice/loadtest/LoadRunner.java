@@ -0,0 +1,87 @@
+package com.edunexuscourseservice.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-model load generator: each virtual user sends its next request as soon as the previous one returns
+ * <p>
+ * Users run on virtual threads and share one HTTP/1.1 client. Requests completing during the warmup are
+ * not recorded. Every user has its own seeded Random, so a run with the same options replays the same
+ * request mix (interleaving, and therefore the data the writes see, still depends on timing).
+ */
+public class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI base;
+    private final SyntheticDataset dataset;
+    private final LoadTestOptions options;
+
+    public LoadRunner(URI base, SyntheticDataset dataset, LoadTestOptions options) {
+        this.base = base;
+        this.dataset = dataset;
+        this.options = options;
+    }
+
+    public ScenarioResult run(Scenario scenario) {
+        ScenarioResult result = new ScenarioResult(scenario, options.duration());
+        log.info("Running {} ({}% reads): {} users, {} warmup, {} measured",
+                scenario.getName(), scenario.getReadPercent(), options.users(), options.warmup(), options.duration());
+
+        long measureFrom = System.nanoTime() + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+             ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.users(); user++) {
+                Random random = new Random(options.seed() * 31 + scenario.ordinal() * 1_000L + user);
+                users.execute(() -> simulateUser(client, scenario, random, result, measureFrom, end));
+            }
+            // closing the executor waits for every user to finish its last request
+        }
+        return result;
+    }
+
+    private void simulateUser(HttpClient client, Scenario scenario, Random random, ScenarioResult result,
+                              long measureFrom, long end) {
+        while (System.nanoTime() < end) {
+            Endpoint endpoint = scenario.next(random);
+            HttpRequest request = endpoint.request(base, dataset, random)
+                    .timeout(REQUEST_TIMEOUT)
+                    .build();
+
+            long started = System.nanoTime();
+            boolean success;
+            long bytes = 0;
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                success = response.statusCode() < 400;
+                bytes = response.body().length;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long finished = System.nanoTime();
+
+            if (started >= measureFrom && finished <= end) {
+                result.record(endpoint, finished - started, success, bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.edunexuscourseservice.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load-test settings, read from loadtest.* system properties
+ * <p>
+ * loadtest.app.* properties are handed to the application unchanged (prefix stripped),
+ * e.g. loadtest.app.redis.cache.l1.enabled=true to compare runs with and without L1.
+ *
+ * @param courses Number of generated courses
+ * @param sessionsPerCourse Sessions generated per course
+ * @param ratings Total generated ratings, skewed towards popular courses
+ * @param seed Seed for the data generator and the virtual users
+ * @param users Concurrent virtual users (closed model, no think time)
+ * @param warmup Time per scenario before latencies are recorded
+ * @param duration Measured time per scenario
+ * @param scenarios Scenarios to run, in order
+ * @param dataDir Directory of the generated H2 database, reused while the data settings are unchanged
+ * @param resultDir Directory the reports are written to
+ * @param redisExecutable redis-server binary to use instead of the one bundled with embedded-redis, or null
+ * @param appProperties Extra application properties
+ */
+public record LoadTestOptions(int courses,
+                              int sessionsPerCourse,
+                              long ratings,
+                              long seed,
+                              int users,
+                              Duration warmup,
+                              Duration duration,
+                              List<Scenario> scenarios,
+                              Path dataDir,
+                              Path resultDir,
+                              String redisExecutable,
+                              Map<String, String> appProperties) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    public static LoadTestOptions fromSystemProperties() {
+        Map<String, String> appProperties = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .sorted()
+                .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+
+        return new LoadTestOptions(
+                Integer.parseInt(property("courses", "100000")),
+                Integer.parseInt(property("sessions-per-course", "3")),
+                Long.parseLong(property("ratings", "10000000")),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("users", "50")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                DurationStyle.detectAndParse(property("duration", "60s")),
+                Arrays.stream(property("scenarios", "read_heavy,mixed,write_heavy").split(","))
+                        .map(name -> Scenario.valueOf(name.trim().toUpperCase(Locale.ROOT)))
+                        .toList(),
+                Path.of(property("data-dir", "build/load-test")),
+                Path.of(property("result-dir", "src/main/resources/load_test/result")),
+                System.getProperty(PREFIX + "redis-executable"),
+                appProperties);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,53 @@
+package com.edunexuscourseservice.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Read/write mixes across the course, session and rating endpoints
+ * <p>
+ * Each request is a read with probability readPercent; within reads or writes the
+ * endpoint is picked by its weight.
+ */
+public enum Scenario {
+    READ_HEAVY(95),
+    MIXED(80),
+    WRITE_HEAVY(50);
+
+    private static final Endpoint[] READS = Arrays.stream(Endpoint.values()).filter(endpoint -> !endpoint.isWrite()).toArray(Endpoint[]::new);
+    private static final Endpoint[] WRITES = Arrays.stream(Endpoint.values()).filter(Endpoint::isWrite).toArray(Endpoint[]::new);
+
+    private final int readPercent;
+
+    Scenario(int readPercent) {
+        this.readPercent = readPercent;
+    }
+
+    public Endpoint next(Random random) {
+        return pick(random.nextInt(100) < readPercent ? READS : WRITES, random);
+    }
+
+    public int getReadPercent() {
+        return readPercent;
+    }
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Endpoint pick(Endpoint[] endpoints, Random random) {
+        int total = 0;
+        for (Endpoint endpoint : endpoints) {
+            total += endpoint.getWeight();
+        }
+        int roll = random.nextInt(total);
+        for (Endpoint endpoint : endpoints) {
+            roll -= endpoint.getWeight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+}
@@ -0,0 +1,91 @@
+package com.edunexuscourseservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and failures of one scenario run, per endpoint
+ * <p>
+ * Latencies are recorded in microseconds into HdrHistograms (3 significant digits, up to one minute).
+ */
+public class ScenarioResult {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Scenario scenario;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Duration measured;
+
+    public ScenarioResult(Scenario scenario, Duration measured) {
+        this.scenario = scenario;
+        this.measured = measured;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public void record(Endpoint endpoint, long nanos, boolean success, long bytes) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        endpointStats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_LATENCY_MICROS));
+        endpointStats.bytes.add(bytes);
+        if (!success) {
+            endpointStats.failures.increment();
+        }
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public Duration getMeasured() {
+        return measured;
+    }
+
+    public Histogram latency(Endpoint endpoint) {
+        return stats.get(endpoint).latency;
+    }
+
+    public long failures(Endpoint endpoint) {
+        return stats.get(endpoint).failures.sum();
+    }
+
+    public long bytes(Endpoint endpoint) {
+        return stats.get(endpoint).bytes.sum();
+    }
+
+    /**
+     * All endpoints merged
+     */
+    public Histogram aggregatedLatency() {
+        Histogram aggregated = new Histogram(MAX_LATENCY_MICROS, 3);
+        stats.values().forEach(endpointStats -> aggregated.add(endpointStats.latency));
+        return aggregated;
+    }
+
+    public long aggregatedFailures() {
+        return stats.values().stream().mapToLong(endpointStats -> endpointStats.failures.sum()).sum();
+    }
+
+    public long aggregatedBytes() {
+        return stats.values().stream().mapToLong(endpointStats -> endpointStats.bytes.sum()).sum();
+    }
+
+    /**
+     * Requests per second over the measured time
+     */
+    public double throughput(long requests) {
+        return measured.isZero() ? 0.0 : requests * 1_000_000_000.0 / measured.toNanos();
+    }
+
+    private static final class EndpointStats {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+    }
+}
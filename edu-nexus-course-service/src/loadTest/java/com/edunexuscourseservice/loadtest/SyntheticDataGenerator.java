@@ -0,0 +1,222 @@
+package com.edunexuscourseservice.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Writes the synthetic dataset into H2 with JDBC batches
+ * <p>
+ * Uses the application's schema-h2.sql. An existing database whose COURSES, COURSE_SESSIONS and
+ * COURSE_RATINGS row counts match the dataset is reused, since generating 10M ratings takes minutes.
+ * COURSE_RATING_STATS is computed from the generated ratings, and identity columns are moved past
+ * the generated IDs so rows created during the run don't collide.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int USERS = 1_000_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final long SPAN_SECONDS = Duration.ofDays(730).toSeconds();
+    // 별점 분포: 4, 5점 위주
+    private static final int[] STAR_WEIGHTS = {5, 7, 15, 33, 40};
+    private static final String[] COMMENTS = {
+            "훌륭한 강의입니다!", "예제가 실무에 바로 도움이 됐어요", "설명이 명확하고 좋아요",
+            "조금 어려웠지만 유익했습니다", "기초가 부족하면 따라가기 힘들어요", "구성이 조금 아쉽네요", null
+    };
+
+    private final SyntheticDataset dataset;
+
+    public SyntheticDataGenerator(SyntheticDataset dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * @return true if data was generated, false if the existing database was reused
+     */
+    public boolean populate(Connection connection) throws SQLException {
+        if (matchesDataset(connection)) {
+            log.info("Reusing generated data ({})", dataset);
+            return false;
+        }
+
+        long started = System.nanoTime();
+        log.info("Generating data ({})", dataset);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("sql/schema-h2.sql"));
+
+        connection.setAutoCommit(false);
+        try {
+            insertCourses(connection);
+            insertSessions(connection);
+            insertRatingsAndStats(connection);
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        restartIdentity(connection, "COURSES", "course_id", dataset.getCourses() + 1L);
+        restartSequence(connection, "COURSE_SESSIONS_SEQ",
+                (long) dataset.getCourses() * dataset.getSessionsPerCourse() + 1);
+        restartSequence(connection, "COURSE_RATINGS_SEQ", dataset.getRatings() + 1);
+
+        log.info("Generated data in {}s", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+        return true;
+    }
+
+    private boolean matchesDataset(Connection connection) {
+        try {
+            return count(connection, "COURSES") == dataset.getCourses()
+                    && count(connection, "COURSE_SESSIONS") == (long) dataset.getCourses() * dataset.getSessionsPerCourse()
+                    && count(connection, "COURSE_RATINGS") == dataset.getRatings();
+        } catch (SQLException e) {
+            // no schema yet
+            return false;
+        }
+    }
+
+    private void insertCourses(Connection connection) throws SQLException {
+        Random random = new Random(dataset.getSeed());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO COURSES (course_id, title, description, instructor_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long courseId = 1; courseId <= dataset.getCourses(); courseId++) {
+                Timestamp createdAt = randomTimestamp(random);
+                insert.setLong(1, courseId);
+                insert.setString(2, dataset.title(courseId));
+                insert.setString(3, dataset.topic(courseId) + " 기반 백엔드 개발을 예제와 함께 다루는 강의 " + courseId);
+                insert.setLong(4, dataset.instructorId(courseId));
+                insert.setTimestamp(5, createdAt);
+                insert.setTimestamp(6, createdAt);
+                addBatch(connection, insert, courseId, "courses");
+            }
+            flush(connection, insert);
+        }
+    }
+
+    private void insertSessions(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO COURSE_SESSIONS (session_id, course_id, title) VALUES (?, ?, ?)")) {
+            for (long courseId = 1; courseId <= dataset.getCourses(); courseId++) {
+                for (int index = 0; index < dataset.getSessionsPerCourse(); index++) {
+                    long sessionId = dataset.sessionId(courseId, index);
+                    insert.setLong(1, sessionId);
+                    insert.setLong(2, courseId);
+                    insert.setString(3, dataset.topic(courseId) + " " + (index + 1) + "강");
+                    addBatch(connection, insert, sessionId, "sessions");
+                }
+            }
+            flush(connection, insert);
+        }
+    }
+
+    private void insertRatingsAndStats(Connection connection) throws SQLException {
+        Random random = new Random(dataset.getSeed() + 1);
+        int starTotal = 0;
+        for (int weight : STAR_WEIGHTS) {
+            starTotal += weight;
+        }
+
+        try (PreparedStatement insertRating = connection.prepareStatement(
+                "INSERT INTO COURSE_RATINGS (rating_id, course_id, user_id, rating, comment, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement insertStats = connection.prepareStatement(
+                     "INSERT INTO COURSE_RATING_STATS (course_id, rating_sum, rating_count, star_1, star_2, star_3, star_4, star_5) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            long[] stars = new long[STAR_WEIGHTS.length];
+            for (long courseId = 1; courseId <= dataset.getCourses(); courseId++) {
+                long sum = 0;
+                long count = dataset.ratingCount(courseId);
+                Arrays.fill(stars, 0);
+
+                long ratingId = dataset.firstRatingId(courseId);
+                for (long i = 0; i < count; i++, ratingId++) {
+                    int star = star(random.nextInt(starTotal));
+                    Timestamp createdAt = randomTimestamp(random);
+                    insertRating.setLong(1, ratingId);
+                    insertRating.setLong(2, courseId);
+                    insertRating.setLong(3, random.nextInt(USERS) + 1);
+                    insertRating.setInt(4, star);
+                    insertRating.setString(5, COMMENTS[random.nextInt(COMMENTS.length)]);
+                    insertRating.setTimestamp(6, createdAt);
+                    insertRating.setTimestamp(7, createdAt);
+                    addBatch(connection, insertRating, ratingId, "ratings");
+                    sum += star;
+                    stars[star - 1]++;
+                }
+
+                insertStats.setLong(1, courseId);
+                insertStats.setLong(2, sum);
+                insertStats.setLong(3, count);
+                for (int star = 0; star < stars.length; star++) {
+                    insertStats.setLong(4 + star, stars[star]);
+                }
+                insertStats.addBatch();
+            }
+            flush(connection, insertRating);
+            insertStats.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static int star(int roll) {
+        for (int star = 0; star < STAR_WEIGHTS.length; star++) {
+            roll -= STAR_WEIGHTS[star];
+            if (roll < 0) {
+                return star + 1;
+            }
+        }
+        return STAR_WEIGHTS.length;
+    }
+
+    private static Timestamp randomTimestamp(Random random) {
+        return Timestamp.valueOf(EPOCH.plusSeconds((long) (random.nextDouble() * SPAN_SECONDS)));
+    }
+
+    private static void addBatch(Connection connection, PreparedStatement insert, long row, String table) throws SQLException {
+        insert.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            flush(connection, insert);
+            if (row % 1_000_000 == 0) {
+                log.info("  {} {} rows", table, row);
+            }
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement insert) throws SQLException {
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void restartIdentity(Connection connection, String table, String column, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+        }
+    }
+
+    private static void restartSequence(Connection connection, String sequence, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+        }
+    }
+}
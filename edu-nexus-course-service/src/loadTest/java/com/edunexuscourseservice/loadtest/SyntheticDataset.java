@@ -0,0 +1,160 @@
+package com.edunexuscourseservice.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Shape of the generated course data, derived from the options alone
+ * <p>
+ * Course popularity follows a Zipf distribution over a seeded shuffle of the course IDs, so
+ * popular courses are spread over the ID range. Each course owns a contiguous range of rating IDs
+ * sized by its popularity, and sessions are numbered course by course. The generator and the
+ * virtual users therefore agree on every ID without reading the database back.
+ */
+public class SyntheticDataset {
+
+    static final String[] TOPICS = {
+            "Spring", "Java", "Kotlin", "JPA", "Redis", "Kafka", "Docker", "Kubernetes", "React", "Python"
+    };
+    static final String[] LEVELS = {"입문", "실전", "심화", "완벽 가이드"};
+
+    private static final double ZIPF_EXPONENT = 0.8;
+
+    private final int courses;
+    private final int sessionsPerCourse;
+    private final long ratings;
+    private final long seed;
+
+    // rank -> course ID, and the running popularity weight up to each rank
+    private final long[] courseByRank;
+    private final double[] cumulativeWeight;
+    // course ID -> first rating ID; ratingStart[courses + 1] is one past the last rating
+    private final long[] ratingStart;
+
+    public SyntheticDataset(int courses, int sessionsPerCourse, long ratings, long seed) {
+        this.courses = courses;
+        this.sessionsPerCourse = sessionsPerCourse;
+        this.ratings = ratings;
+        this.seed = seed;
+
+        this.courseByRank = new long[courses];
+        for (int i = 0; i < courses; i++) {
+            courseByRank[i] = i + 1;
+        }
+        Random random = new Random(seed);
+        for (int i = courses - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = courseByRank[i];
+            courseByRank[i] = courseByRank[j];
+            courseByRank[j] = swap;
+        }
+
+        double[] weights = new double[courses];
+        this.cumulativeWeight = new double[courses];
+        double total = 0;
+        for (int rank = 0; rank < courses; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            total += weights[rank];
+            cumulativeWeight[rank] = total;
+        }
+
+        // floor of each share first, then the remainder one by one from the most popular course
+        long[] countByCourse = new long[courses + 1];
+        long assigned = 0;
+        for (int rank = 0; rank < courses; rank++) {
+            long count = (long) (ratings * weights[rank] / total);
+            countByCourse[(int) courseByRank[rank]] = count;
+            assigned += count;
+        }
+        for (int rank = 0; assigned < ratings; rank = (rank + 1) % courses, assigned++) {
+            countByCourse[(int) courseByRank[rank]]++;
+        }
+
+        this.ratingStart = new long[courses + 2];
+        ratingStart[1] = 1;
+        for (int courseId = 1; courseId <= courses; courseId++) {
+            ratingStart[courseId + 1] = ratingStart[courseId] + countByCourse[courseId];
+        }
+    }
+
+    public static SyntheticDataset of(LoadTestOptions options) {
+        return new SyntheticDataset(options.courses(), options.sessionsPerCourse(), options.ratings(), options.seed());
+    }
+
+    /**
+     * Pick a course, weighted by popularity
+     */
+    public long sampleCourse(Random random) {
+        double target = random.nextDouble() * cumulativeWeight[courses - 1];
+        int rank = Arrays.binarySearch(cumulativeWeight, target);
+        return courseByRank[rank >= 0 ? rank : Math.min(-rank - 1, courses - 1)];
+    }
+
+    /**
+     * Pick one of the generated ratings; popular courses own more of them
+     */
+    public long sampleRating(Random random) {
+        return 1 + (long) (random.nextDouble() * ratings);
+    }
+
+    public long courseOfRating(long ratingId) {
+        int index = Arrays.binarySearch(ratingStart, 1, courses + 2, ratingId);
+        // an exact match may be the start of a course without ratings: take the last course starting there
+        if (index >= 0) {
+            while (index + 1 <= courses && ratingStart[index + 1] == ratingId) {
+                index++;
+            }
+            return index;
+        }
+        return -index - 2;
+    }
+
+    /**
+     * @param index 0-based session index within the course
+     */
+    public long sessionId(long courseId, int index) {
+        return (courseId - 1) * sessionsPerCourse + index + 1;
+    }
+
+    public long firstRatingId(long courseId) {
+        return ratingStart[(int) courseId];
+    }
+
+    public long ratingCount(long courseId) {
+        return ratingStart[(int) courseId + 1] - ratingStart[(int) courseId];
+    }
+
+    public String topic(long courseId) {
+        return TOPICS[(int) (courseId % TOPICS.length)];
+    }
+
+    public String title(long courseId) {
+        return topic(courseId) + " " + LEVELS[(int) (courseId / TOPICS.length % LEVELS.length)] + " " + courseId;
+    }
+
+    public long instructorId(long courseId) {
+        return courseId % 1_000 + 1;
+    }
+
+    public int getCourses() {
+        return courses;
+    }
+
+    public int getSessionsPerCourse() {
+        return sessionsPerCourse;
+    }
+
+    public long getRatings() {
+        return ratings;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("courses=%d, sessions=%d, ratings=%d, seed=%d",
+                courses, (long) courses * sessionsPerCourse, ratings, seed);
+    }
+}
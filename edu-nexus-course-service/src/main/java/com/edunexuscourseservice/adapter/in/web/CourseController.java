@@ -6,6 +6,8 @@ import com.edunexuscourseservice.adapter.in.web.response.CourseInfoResponse;
 import com.edunexuscourseservice.adapter.in.web.response.CourseRatingAverageResponse;
 import com.edunexuscourseservice.adapter.in.web.response.CourseResponse;
 import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
 import com.edunexus.common.exception.NotFoundException;
@@ -94,11 +96,11 @@ public class CourseController {
             @ModelAttribute CourseSearchCondition condition,
             Pageable pageable
     ) {
-        List<Course> courses = courseUseCase.getAllCourses(condition, pageable);
+        List<CourseSummaryDto> courses = courseUseCase.getAllCourses(condition, pageable);
 
         // Batch fetch all course ratings at once to avoid N+1 query
         List<Long> courseIds = courses.stream()
-                .map(Course::getId)
+                .map(CourseSummaryDto::getId)
                 .collect(Collectors.toList());
 
         // Use batch lookup for ratings (optimized to avoid N+1)
@@ -111,6 +113,25 @@ public class CourseController {
         return ResponseEntity.ok(responses);
     }
 
+    // 강의 목록 커서 기반 조회 (keyset pagination, COUNT 쿼리 없음)
+    @GetMapping("/scroll")
+    @Timed(value = "course.retrieval", extraTags = {"operation", "scrollCourses"}, percentiles = {0.5, 0.95, 0.99})
+    public ResponseEntity<CursorPage<CourseInfoResponse>> scrollCourses(
+            @ModelAttribute CourseSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<CourseSummaryDto> page = courseUseCase.getCoursesAfter(condition, cursor, size);
+
+        List<Long> courseIds = page.getItems().stream()
+                .map(CourseSummaryDto::getId)
+                .collect(Collectors.toList());
+        Map<Long, Double> averageRatings = courseRatingService.getAverageRatingsByCourseIds(courseIds);
+
+        return ResponseEntity.ok(page.map(course -> CourseInfoResponse.from(course,
+                RoundUtils.roundToNDecimals(averageRatings.getOrDefault(course.getId(), 0.0), 2))));
+    }
+
     /**
      * Batch endpoint for fetching multiple courses by IDs.
      * Optimized for GraphQL batch loading to avoid N+1 queries.
@@ -123,7 +144,7 @@ public class CourseController {
         }
 
         // Batch fetch all courses efficiently using findAllById
-        List<Course> courses = courseUseCase.getCoursesByIds(courseIds);
+        List<CourseSummaryDto> courses = courseUseCase.getCoursesByIds(courseIds);
 
         // Batch fetch all ratings at once
         Map<Long, Double> averageRatings = courseRatingService.getAverageRatingsByCourseIds(courseIds);
@@ -1,9 +1,12 @@
 package com.edunexuscourseservice.adapter.in.web;
 
 import com.edunexuscourseservice.adapter.in.web.response.CourseRatingAverageResponse;
+import com.edunexuscourseservice.adapter.in.web.response.CourseRatingDistributionResponse;
 import com.edunexuscourseservice.adapter.in.web.response.CourseRatingResponse;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
 import com.edunexuscourseservice.domain.course.dto.CourseRatingInfoDto;
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 import com.edunexuscourseservice.domain.course.util.RoundUtils;
 import com.edunexuscourseservice.port.in.CourseRatingUseCase;
 import lombok.Builder;
@@ -34,6 +37,20 @@ public class CourseRatingController {
                 .body(response);
     }
 
+    // 강의 평가 일괄 추가
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CourseRatingResponse>> addRatings(@PathVariable Long courseId,
+                                                                 @RequestBody List<CourseRatingCreateRequest> requests) {
+        List<CourseRating> courseRatings = courseRatingService.addRatingsToCourse(courseId,
+                requests.stream().map(CourseRatingCreateRequest::toEntity).collect(Collectors.toList()));
+        List<CourseRatingResponse> responses = courseRatings.stream()
+                .map(CourseRatingResponse::from)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.created(URI.create("/courses/" + courseId + "/ratings"))
+                .body(responses);
+    }
+
     // 강의 평가 업데이트
     @PutMapping("/{ratingId}")
     public ResponseEntity<CourseRatingResponse> updateRating(
@@ -63,6 +80,17 @@ public class CourseRatingController {
         return ResponseEntity.ok(responses);
     }
 
+    // 특정 강의의 평가 목록 커서 기반 조회
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<CourseRatingResponse>> scrollRatings(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<CourseRating> page = courseRatingService.getRatingsByCourseIdAfter(courseId, cursor, size);
+        return ResponseEntity.ok(page.map(CourseRatingResponse::from));
+    }
+
     // 특정 강의의 평점 평균 조회
     @GetMapping("/average")
     public ResponseEntity<CourseRatingAverageResponse> getAverageRating(@PathVariable Long courseId) {
@@ -75,16 +103,17 @@ public class CourseRatingController {
         return ResponseEntity.ok(response);
     }
 
+    // 특정 강의의 평점 평균 DB 조회 (COURSE_RATING_STATS 기본 키 조회)
     @GetMapping("/average/db")
     public ResponseEntity<CourseRatingAverageResponse> getAverageRatingFromDb(@PathVariable Long courseId) {
-        List<CourseRating> courseRatingList = courseRatingService.getAllRatingsByCourseId(courseId);
-        Double averageRating = RoundUtils.roundToNDecimals(courseRatingList.stream().mapToInt(CourseRating::getRating).average().getAsDouble(), 2);
-        CourseRatingAverageResponse response = CourseRatingAverageResponse.builder()
-                .averageRating(averageRating)
-                .courseId(courseId)
-                .build();
+        CourseRatingDistribution distribution = courseRatingService.getRatingDistribution(courseId);
+        return ResponseEntity.ok(CourseRatingAverageResponse.from(courseId, distribution.getAverage()));
+    }
 
-        return ResponseEntity.ok(response);
+    // 특정 강의의 별점 분포 조회
+    @GetMapping("/distribution")
+    public ResponseEntity<CourseRatingDistributionResponse> getRatingDistribution(@PathVariable Long courseId) {
+        return ResponseEntity.ok(CourseRatingDistributionResponse.from(courseRatingService.getRatingDistribution(courseId)));
     }
 
     @Getter
@@ -2,6 +2,7 @@ package com.edunexuscourseservice.adapter.in.web;
 
 import com.edunexuscourseservice.adapter.in.web.response.CourseSessionResponse;
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseSession;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 import com.edunexus.common.exception.NotFoundException;
 import com.edunexuscourseservice.port.in.CourseSessionUseCase;
 import lombok.Builder;
@@ -32,6 +33,20 @@ public class CourseSessionController {
                 .body(response);
     }
 
+    // 강의 세션 일괄 추가
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CourseSessionResponse>> addSessions(@PathVariable Long courseId,
+                                                                   @RequestBody List<CourseSessionCreateRequest> requests) {
+        List<CourseSession> courseSessions = courseSessionUseCase.addSessionsToCourse(courseId,
+                requests.stream().map(CourseSessionCreateRequest::toEntity).collect(Collectors.toList()));
+        List<CourseSessionResponse> responses = courseSessions.stream()
+                .map(CourseSessionResponse::from)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.created(URI.create("/courses/" + courseId + "/sessions"))
+                .body(responses);
+    }
+
     // 강의 세션 정보 업데이트
     @PutMapping("/{sessionId}")
     public ResponseEntity<CourseSessionResponse> updateSession(
@@ -62,6 +77,17 @@ public class CourseSessionController {
         return ResponseEntity.ok(responses);
     }
 
+    // 특정 강의의 세션 목록 커서 기반 조회
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<CourseSessionResponse>> scrollSessions(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<CourseSession> page = courseSessionUseCase.getSessionsByCourseIdAfter(courseId, cursor, size);
+        return ResponseEntity.ok(page.map(CourseSessionResponse::from));
+    }
+
     @Getter
     @Builder
     static class CourseSessionCreateRequest {
@@ -1,6 +1,7 @@
 package com.edunexuscourseservice.adapter.in.web.response;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -23,4 +24,14 @@ public class CourseInfoResponse {
         response.courseRatingAvg = courseRatingAvg;
         return response;
     }
+
+    public static CourseInfoResponse from(CourseSummaryDto course, Double courseRatingAvg) {
+        CourseInfoResponse response = new CourseInfoResponse();
+        response.id = course.getId();
+        response.title = course.getTitle();
+        response.description = course.getDescription();
+        response.instructorId = course.getInstructorId();
+        response.courseRatingAvg = courseRatingAvg;
+        return response;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.edunexuscourseservice.adapter.in.web.response;
+
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
+import com.edunexuscourseservice.domain.course.util.RoundUtils;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class CourseRatingDistributionResponse {
+    private Long courseId;
+    private Double averageRating;
+    private Long ratingCount;
+    // 별점(1~5)별 평가 수
+    private Map<Integer, Long> starCounts;
+
+    public static CourseRatingDistributionResponse from(CourseRatingDistribution distribution) {
+        Map<Integer, Long> starCounts = new LinkedHashMap<>();
+        List<Long> counts = distribution.getStarCounts();
+        for (int star = 1; star <= counts.size(); star++) {
+            starCounts.put(star, counts.get(star - 1));
+        }
+
+        return CourseRatingDistributionResponse.builder()
+                .courseId(distribution.getCourseId())
+                .averageRating(RoundUtils.roundToNDecimals(distribution.getAverage(), 2))
+                .ratingCount(distribution.getCount())
+                .starCounts(starCounts)
+                .build();
+    }
+}
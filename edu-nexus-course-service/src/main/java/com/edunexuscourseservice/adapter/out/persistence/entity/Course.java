@@ -42,6 +42,14 @@ public class Course extends BaseEntity {
         this.instructorId = courseInfoDto.getInstructorId();
     }
 
+    // 캐시 스냅샷에서 복원 (영속성 컨텍스트에 속하지 않는 읽기 전용 인스턴스)
+    public static Course fromSnapshot(Long id, CourseInfoDto courseInfoDto) {
+        Course course = new Course();
+        course.id = id;
+        course.setCourseInfo(courseInfoDto);
+        return course;
+    }
+
     // 업데이트 메서드
     public void updateCourse(Course newCourse) {
         title = newCourse.getTitle();
@@ -13,7 +13,8 @@ import lombok.ToString;
 public class CourseRating extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_rating_seq")
+    @SequenceGenerator(name = "course_rating_seq", sequenceName = "COURSE_RATINGS_SEQ", allocationSize = 50)
     @Column(name = "rating_id")
     private Long id;
 
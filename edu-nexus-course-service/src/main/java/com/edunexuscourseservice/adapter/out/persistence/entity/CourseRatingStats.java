@@ -0,0 +1,83 @@
+package com.edunexuscourseservice.adapter.out.persistence.entity;
+
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Materialized rating aggregate of one course (sum, count and 1-5 star histogram)
+ * <p>
+ * Maintained incrementally in the same transaction as every rating insert, update
+ * and delete (see CourseRatingStatsRepository.applyDelta), so reads are a primary key lookup.
+ */
+@Getter
+@Entity
+@Table(name = "COURSE_RATING_STATS")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseRatingStats {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "star_1", nullable = false)
+    private long star1;
+
+    @Column(name = "star_2", nullable = false)
+    private long star2;
+
+    @Column(name = "star_3", nullable = false)
+    private long star3;
+
+    @Column(name = "star_4", nullable = false)
+    private long star4;
+
+    @Column(name = "star_5", nullable = false)
+    private long star5;
+
+    private CourseRatingStats(Long courseId, long[] starCounts) {
+        this.courseId = courseId;
+        this.star1 = starCounts[0];
+        this.star2 = starCounts[1];
+        this.star3 = starCounts[2];
+        this.star4 = starCounts[3];
+        this.star5 = starCounts[4];
+        for (int i = 0; i < starCounts.length; i++) {
+            this.ratingCount += starCounts[i];
+            this.ratingSum += (long) (i + 1) * starCounts[i];
+        }
+    }
+
+    public static CourseRatingStats empty(Long courseId) {
+        return new CourseRatingStats(courseId, new long[5]);
+    }
+
+    /**
+     * @param starCounts Number of 1 to 5 star ratings, index 0 = 1 star
+     */
+    public static CourseRatingStats of(Long courseId, long[] starCounts) {
+        if (starCounts.length != 5) {
+            throw new IllegalArgumentException("Expected 5 star counts but got " + starCounts.length);
+        }
+        return new CourseRatingStats(courseId, starCounts);
+    }
+
+    public CourseRatingAggregate toAggregate() {
+        return new CourseRatingAggregate(courseId, ratingSum, ratingCount);
+    }
+
+    public CourseRatingDistribution toDistribution() {
+        return new CourseRatingDistribution(courseId, ratingSum, ratingCount, List.of(star1, star2, star3, star4, star5));
+    }
+}
@@ -10,7 +10,8 @@ import lombok.Setter;
 public class CourseSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_session_seq")
+    @SequenceGenerator(name = "course_session_seq", sequenceName = "COURSE_SESSIONS_SEQ", allocationSize = 50)
     @Column(name = "session_id")
     private Long id;
 
@@ -0,0 +1,47 @@
+package com.edunexuscourseservice.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rating event waiting to be published to Kafka (transactional outbox)
+ * <p>
+ * Written in the same transaction as the rating change; the payload holds the
+ * exact record value sent by the relay, so rows are published byte-for-byte.
+ */
+@Getter
+@Entity
+@Table(name = "RATING_OUTBOX")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static RatingOutboxEvent of(String topic, String messageKey, byte[] payload) {
+        RatingOutboxEvent event = new RatingOutboxEvent();
+        event.topic = topic;
+        event.messageKey = messageKey;
+        event.payload = payload;
+        event.createdAt = LocalDateTime.now();
+        return event;
+    }
+}
@@ -1,19 +1,19 @@
 package com.edunexuscourseservice.adapter.out.persistence.entity.redis;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
 
 import java.io.Serializable;
 
+/**
+ * Cached course detail, stored as a plain value under RedisKey.COURSE (no Redis repository indexes)
+ */
 @Getter
-@RedisHash("edu-nexus-course:course:entity")
 @NoArgsConstructor
 public class RCourse implements Serializable {
 
-    @Id
     private Long id;
     private String title;
     private String description;
@@ -29,4 +29,12 @@ public class RCourse implements Serializable {
     public RCourse(Course course) {
         this(course.getId(), course.getTitle(), course.getDescription(), course.getInstructorId());
     }
+
+    public RCourse(CourseSummaryDto summary) {
+        this(summary.getId(), summary.getTitle(), summary.getDescription(), summary.getInstructorId());
+    }
+
+    public CourseSummaryDto toSummary() {
+        return new CourseSummaryDto(id, title, description, instructorId);
+    }
 }
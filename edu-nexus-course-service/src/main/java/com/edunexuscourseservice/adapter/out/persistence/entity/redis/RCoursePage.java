@@ -0,0 +1,30 @@
+package com.edunexuscourseservice.adapter.out.persistence.entity.redis;
+
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Cached page of a course listing query (see CourseListCache)
+ */
+@Getter
+@NoArgsConstructor
+public class RCoursePage implements Serializable {
+
+    private List<RCourse> courses;
+
+    public RCoursePage(List<RCourse> courses) {
+        this.courses = courses;
+    }
+
+    public static RCoursePage of(List<CourseSummaryDto> courses) {
+        return new RCoursePage(courses.stream().map(RCourse::new).toList());
+    }
+
+    public List<CourseSummaryDto> toSummaries() {
+        return courses.stream().map(RCourse::toSummary).toList();
+    }
+}
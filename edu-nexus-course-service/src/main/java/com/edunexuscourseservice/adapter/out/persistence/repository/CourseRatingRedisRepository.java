@@ -1,10 +1,57 @@
 package com.edunexuscourseservice.adapter.out.persistence.repository;
 
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDelta;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 public interface CourseRatingRedisRepository {
 
     void cacheReviewRating(Long courseId, int rating);
     void updateReviewRating(Long courseId, int originalRating, int updatedRating);
     void deleteReviewRating(Long courseId, int originalRating);
-    double getAverageReviewRating(Long courseId);
-    void initializeRating(Long courseId, int total, int count);
+
+    /**
+     * Apply net rating deltas of many courses in one pipelined write.
+     * Unlike the single-event methods, failures are thrown so the caller can retry.
+     * Events with an ID are applied at most once, so retrying a partially applied batch is safe.
+     *
+     * @param deltas Course ID to net total/count change
+     */
+    void applyRatingDeltas(Map<Long, CourseRatingDelta> deltas);
+
+    /**
+     * Cached average rating of a course, 0.0 if not cached.
+     * Missing counters, or counters close to expiry (probabilistic early refresh), are
+     * recomputed in the background; the decision uses the expiry read along with the
+     * counters, so it costs no extra round trip. Never blocks the caller.
+     *
+     * @param courseId Course ID
+     * @param recompute Loads the authoritative total and count
+     * @return Cached average rating, or 0.0 on a miss
+     */
+    double getAverageReviewRating(Long courseId, Supplier<CourseRatingAggregate> recompute);
+
+    /**
+     * Batch lookup of cached average ratings in a single Redis round trip.
+     * Courses whose total or count key is not cached are absent from the result.
+     *
+     * @param courseIds Course IDs
+     * @return Map of courseId to cached average rating
+     */
+    Map<Long, Double> getAverageReviewRatings(Collection<Long> courseIds);
+
+    /**
+     * Seed the cached counters of many courses in one pipelined round trip.
+     * The counters' versions are read before the aggregates are loaded, and a course
+     * whose counters received a delta in between is skipped rather than overwritten.
+     *
+     * @param courseIds Course IDs
+     * @param loader Loads the authoritative totals and counts of the given courses
+     */
+    void initializeRatings(Collection<Long> courseIds, Function<Collection<Long>, List<CourseRatingAggregate>> loader);
 }
@@ -1,11 +1,24 @@
 package com.edunexuscourseservice.adapter.out.persistence.repository;
 
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDelta;
 import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
-import lombok.RequiredArgsConstructor;
+import com.edunexuscourseservice.domain.course.template.CounterDeltas;
+import com.edunexuscourseservice.domain.course.template.CounterSnapshot;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Course Rating Redis Repository using Cache-Aside Pattern
@@ -21,29 +34,52 @@ import java.time.Duration;
  * - Cache failures are non-blocking (logged but don't throw)
  * - Used proper increment with TTL refresh
  * - Removed initializeRating (lazy loading instead)
+ * - Counters are recomputed from the DB ahead of expiry (XFetch on the PTTL read with them)
+ * - Total and count live in one hash updated by a single atomic script,
+ *   so they can no longer drift apart on partial failures
+ * - Seeding from the DB is versioned against the deltas (see RedisCounterOperations):
+ *   a snapshot is dropped if a delta was applied after its version was read
+ * - Batched event deltas are applied at most once per event ID: a marker key is set
+ *   in the same script as the HINCRBY, so a redelivered batch skips applied events
  */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class CourseRatingRedisRepositoryImpl implements CourseRatingRedisRepository {
 
     private final CacheAsideTemplate cacheAsideTemplate;
     private final CacheOperationTemplate operationTemplate;
 
+    // Applied event markers are kept as long as Kafka idempotency keys
+    private final Duration eventMarkerTtl;
+
     // 5 minute TTL as per ADR-000 (Cache-Aside pattern)
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
+    static final String FIELD_TOTAL = "total";
+    static final String FIELD_COUNT = "count";
+    private static final List<String> STATS_FIELDS = List.of(FIELD_TOTAL, FIELD_COUNT);
+
+    // Last observed DB recompute time, the cost term of the early refresh decision
+    private volatile long recomputeMillis = 10;
+
+    public CourseRatingRedisRepositoryImpl(CacheAsideTemplate cacheAsideTemplate,
+                                           CacheOperationTemplate operationTemplate,
+                                           @Value("${kafka.idempotency.ttl:24h}") Duration eventMarkerTtl) {
+        this.cacheAsideTemplate = cacheAsideTemplate;
+        this.operationTemplate = operationTemplate;
+        this.eventMarkerTtl = eventMarkerTtl;
+    }
+
     @Override
     public void cacheReviewRating(Long courseId, int rating) {
-        String totalKey = RedisKeyGenerator.generateRatingTotalKey(courseId);
-        String countKey = RedisKeyGenerator.generateRatingCountKey(courseId);
+        String statsKey = RedisKeyGenerator.generateRatingStatsKey(courseId);
 
         operationTemplate.executeWithErrorHandling(
                 () -> {
-                    // Initialize counters if not exists (with TTL)
-                    cacheAsideTemplate.increment(totalKey, rating, CACHE_TTL);
-                    cacheAsideTemplate.increment(countKey, 1, CACHE_TTL);
-                    log.debug("Cached rating for course {}: {}", courseId, rating);
+                    // Total and count change together with the TTL refresh in one atomic call
+                    if (cacheAsideTemplate.incrementFields(statsKey, statsDeltas(rating, 1), CACHE_TTL)) {
+                        log.debug("Cached rating for course {}: {}", courseId, rating);
+                    }
                 },
                 "Failed to cache rating for course {}.", courseId
         );
@@ -51,13 +87,14 @@ public class CourseRatingRedisRepositoryImpl implements CourseRatingRedisReposit
 
     @Override
     public void updateReviewRating(Long courseId, int originalRating, int updatedRating) {
-        String totalKey = RedisKeyGenerator.generateRatingTotalKey(courseId);
+        String statsKey = RedisKeyGenerator.generateRatingStatsKey(courseId);
 
         operationTemplate.executeWithErrorHandling(
                 () -> {
                     // Decrement old rating, increment new rating
-                    cacheAsideTemplate.increment(totalKey, (long) updatedRating - originalRating, CACHE_TTL);
-                    log.debug("Updated cached rating for course {}: {} -> {}", courseId, originalRating, updatedRating);
+                    if (cacheAsideTemplate.incrementFields(statsKey, statsDeltas((long) updatedRating - originalRating, 0), CACHE_TTL)) {
+                        log.debug("Updated cached rating for course {}: {} -> {}", courseId, originalRating, updatedRating);
+                    }
                 },
                 "Failed to update cached rating for course {}.", courseId
         );
@@ -65,80 +102,193 @@ public class CourseRatingRedisRepositoryImpl implements CourseRatingRedisReposit
 
     @Override
     public void deleteReviewRating(Long courseId, int originalRating) {
-        String totalKey = RedisKeyGenerator.generateRatingTotalKey(courseId);
-        String countKey = RedisKeyGenerator.generateRatingCountKey(courseId);
+        String statsKey = RedisKeyGenerator.generateRatingStatsKey(courseId);
 
         operationTemplate.executeWithErrorHandling(
                 () -> {
-                    cacheAsideTemplate.increment(totalKey, -originalRating, CACHE_TTL);
-                    cacheAsideTemplate.increment(countKey, -1, CACHE_TTL);
-                    log.debug("Deleted cached rating for course {}: {}", courseId, originalRating);
+                    if (cacheAsideTemplate.incrementFields(statsKey, statsDeltas(-originalRating, -1), CACHE_TTL)) {
+                        log.debug("Deleted cached rating for course {}: {}", courseId, originalRating);
+                    }
                 },
                 "Failed to delete cached rating for course {}.", courseId
         );
     }
 
     @Override
-    public double getAverageReviewRating(Long courseId) {
-        String totalKey = RedisKeyGenerator.generateRatingTotalKey(courseId);
-        String countKey = RedisKeyGenerator.generateRatingCountKey(courseId);
+    public void applyRatingDeltas(Map<Long, CourseRatingDelta> deltas) {
+        Map<String, CounterDeltas> deltasByKey = new LinkedHashMap<>();
+        deltas.forEach((courseId, delta) -> {
+            if (!delta.isEmpty()) {
+                Map<String, Map<String, Long>> tracked = new LinkedHashMap<>();
+                delta.getEvents().forEach((eventId, change) -> tracked.put(
+                        RedisKeyGenerator.generateRatingEventKey(courseId, eventId), stats(change.total(), change.count())));
+                deltasByKey.put(RedisKeyGenerator.generateRatingStatsKey(courseId),
+                        new CounterDeltas(stats(delta.getTotal(), delta.getCount()), tracked));
+            }
+        });
+        if (deltasByKey.isEmpty()) {
+            return;
+        }
 
-        return operationTemplate.executeWithErrorHandling(
-                () -> calculateAverageRating(totalKey, countKey, courseId),
-                0.0,
-                "Failed to get cached average rating for course {}.", courseId
-        );
+        long applied = cacheAsideTemplate.incrementAllFields(deltasByKey, CACHE_TTL, eventMarkerTtl);
+        log.debug("Applied rating deltas for {} courses ({} cached)", deltasByKey.size(), applied);
     }
 
     /**
-     * Calculate average rating from cached total and count.
+     * Deltas for the stats hash. If the hash has expired only its version is bumped
+     * (a lone delta would be a wrong aggregate); the next read re-seeds it from the database.
      */
-    private double calculateAverageRating(String totalKey, String countKey, Long courseId) {
-        Object totalObj = cacheAsideTemplate.getOrLoad(
-                totalKey,
-                () -> {
-                    log.debug("Cache miss for total rating of course {}", courseId);
-                    return null;
-                },
-                CACHE_TTL
-        );
+    private static Map<String, Long> statsDeltas(long totalDelta, long countDelta) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        deltas.put(FIELD_TOTAL, totalDelta);
+        if (countDelta != 0) {
+            deltas.put(FIELD_COUNT, countDelta);
+        }
+        return deltas;
+    }
 
-        Object countObj = cacheAsideTemplate.getOrLoad(
-                countKey,
+    @Override
+    public double getAverageReviewRating(Long courseId, Supplier<CourseRatingAggregate> recompute) {
+        String statsKey = RedisKeyGenerator.generateRatingStatsKey(courseId);
+
+        return operationTemplate.executeWithErrorHandling(
                 () -> {
-                    log.debug("Cache miss for rating count of course {}", courseId);
-                    return null;
+                    CounterSnapshot stats = cacheAsideTemplate.multiGetFields(List.of(statsKey), STATS_FIELDS).get(0);
+                    if (stats == null) {
+                        // Read failed, nothing to decide a refresh on
+                        return 0.0;
+                    }
+
+                    Double average = averageOf(stats);
+                    if (average == null || cacheAsideTemplate.isExpiringSoon(stats, recomputeMillis)) {
+                        refreshInBackground(courseId, stats.version(), recompute);
+                    }
+                    if (average == null) {
+                        log.debug("No cached ratings found for course {}", courseId);
+                        return 0.0;
+                    }
+                    return average;
                 },
-                CACHE_TTL
+                0.0,
+                "Failed to get cached average rating for course {}.", courseId
         );
+    }
 
-        if (totalObj == null || countObj == null) {
-            log.debug("No cached ratings found for course {}", courseId);
-            return 0.0;
+    @Override
+    public Map<Long, Double> getAverageReviewRatings(Collection<Long> courseIds) {
+        List<Long> ids = courseIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        int total = ((Number) totalObj).intValue();
-        int count = ((Number) countObj).intValue();
+        return operationTemplate.executeWithErrorHandling(
+                () -> calculateAverageRatings(ids),
+                Collections.emptyMap(),
+                "Failed to get cached average ratings for {} courses.", ids.size()
+        );
+    }
+
+    /**
+     * Calculate average ratings from the stats hashes, one script call per course in a single round trip.
+     */
+    private Map<Long, Double> calculateAverageRatings(List<Long> courseIds) {
+        List<String> keys = courseIds.stream()
+                .map(RedisKeyGenerator::generateRatingStatsKey)
+                .toList();
+
+        List<CounterSnapshot> values = cacheAsideTemplate.multiGetFields(keys, STATS_FIELDS);
 
-        if (count == 0) {
-            return 0.0;
+        Map<Long, Double> averages = new HashMap<>();
+        for (int i = 0; i < courseIds.size(); i++) {
+            Double average = averageOf(values.get(i));
+            if (average == null) {
+                log.debug("No cached ratings found for course {}", courseIds.get(i));
+                continue;
+            }
+            averages.put(courseIds.get(i), average);
+        }
+        return averages;
+    }
+
+    private static Double averageOf(CounterSnapshot stats) {
+        if (stats == null || !stats.isSeeded() || stats.values().get(0) == null || stats.values().get(1) == null) {
+            return null;
         }
 
-        return (double) total / count;
+        long total = stats.values().get(0);
+        long count = stats.values().get(1);
+        return count == 0 ? 0.0 : (double) total / count;
     }
 
     @Override
-    public void initializeRating(Long courseId, int total, int count) {
-        String totalKey = RedisKeyGenerator.generateRatingTotalKey(courseId);
-        String countKey = RedisKeyGenerator.generateRatingCountKey(courseId);
+    public void initializeRatings(Collection<Long> courseIds, Function<Collection<Long>, List<CourseRatingAggregate>> loader) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        // Versions first: a delta applied after this read makes the snapshot below stale
+        List<String> keys = courseIds.stream()
+                .map(RedisKeyGenerator::generateRatingStatsKey)
+                .toList();
+        Map<String, Long> versions = operationTemplate.executeWithErrorHandling(
+                () -> cacheAsideTemplate.getVersions(keys),
+                Collections.emptyMap(),
+                "Failed to read cached rating versions for {} courses.", keys.size()
+        );
+        if (versions.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<String, Long>> statsByKey = new LinkedHashMap<>();
+        for (CourseRatingAggregate aggregate : loader.apply(courseIds)) {
+            statsByKey.put(RedisKeyGenerator.generateRatingStatsKey(aggregate.getCourseId()),
+                    stats(aggregate.getTotal(), aggregate.getCount()));
+        }
 
         operationTemplate.executeWithErrorHandling(
                 () -> {
-                    cacheAsideTemplate.put(totalKey, total, CACHE_TTL);
-                    cacheAsideTemplate.put(countKey, count, CACHE_TTL);
-                    log.debug("Initialized cached ratings for course {}: total={}, count={}", courseId, total, count);
+                    long written = cacheAsideTemplate.putAllFields(statsByKey, versions, CACHE_TTL);
+                    log.debug("Initialized cached ratings for {} of {} courses", written, statsByKey.size());
                 },
-                "Failed to initialize cached ratings for course {}.", courseId
+                "Failed to initialize cached ratings for {} courses.", statsByKey.size()
         );
     }
+
+    /**
+     * Recompute the cached counters of a course in the background.
+     *
+     * @param courseId Course ID
+     * @param expectedVersion Version read with the counters, before the recompute starts
+     * @param recompute Loads the authoritative total and count
+     */
+    private void refreshInBackground(Long courseId, long expectedVersion, Supplier<CourseRatingAggregate> recompute) {
+        String statsKey = RedisKeyGenerator.generateRatingStatsKey(courseId);
+
+        cacheAsideTemplate.refreshInBackground(statsKey, () -> {
+            long start = System.currentTimeMillis();
+            CourseRatingAggregate aggregate = recompute.get();
+            recomputeMillis = System.currentTimeMillis() - start;
+
+            operationTemplate.executeWithErrorHandling(
+                    () -> {
+                        if (cacheAsideTemplate.putFields(statsKey, stats(aggregate.getTotal(), aggregate.getCount()),
+                                expectedVersion, CACHE_TTL)) {
+                            log.debug("Refreshed cached ratings for course {}: total={}, count={}",
+                                    courseId, aggregate.getTotal(), aggregate.getCount());
+                        }
+                    },
+                    "Failed to refresh cached ratings for course {}.", courseId
+            );
+        });
+    }
+
+    private static Map<String, Long> stats(long total, long count) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put(FIELD_TOTAL, total);
+        stats.put(FIELD_COUNT, count);
+        return stats;
+    }
 }
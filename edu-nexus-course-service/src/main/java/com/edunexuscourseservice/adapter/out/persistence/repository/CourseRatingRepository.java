@@ -1,6 +1,8 @@
 package com.edunexuscourseservice.adapter.out.persistence.repository;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingStarCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,10 +32,48 @@ public interface CourseRatingRepository extends JpaRepository<CourseRating, Long
     @Deprecated
     List<CourseRating> findByCourseId(Long courseId);
 
+    /**
+     * Keyset page of a course's ratings: ID greater than the last one seen, in ID order.
+     * Returns a List so no COUNT query is issued; seeks on the course_id index instead of using an offset.
+     */
+    List<CourseRating> findByCourseIdAndIdGreaterThanOrderByIdAsc(Long courseId, Long id, Pageable pageable);
+
     /**
      * Find rating by ID and course ID in a single query with JOIN FETCH to avoid N+1.
      * This eagerly fetches the associated course to prevent lazy loading issues.
      */
     @Query("SELECT cr FROM CourseRating cr JOIN FETCH cr.course WHERE cr.id = :ratingId AND cr.course.id = :courseId")
     Optional<CourseRating> findByIdAndCourseId(@Param("ratingId") Long ratingId, @Param("courseId") Long courseId);
-}
+
+    /**
+     * Sum and count of all ratings of a course, computed in the database.
+     * Empty if the course has no ratings.
+     */
+    @Query("SELECT new com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate(cr.course.id, SUM(cr.rating), COUNT(cr)) " +
+            "FROM CourseRating cr WHERE cr.course.id = :courseId GROUP BY cr.course.id")
+    Optional<CourseRatingAggregate> aggregateByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Sum and count of ratings per course for a set of courses, in one grouped query.
+     * Courses without ratings are absent from the result.
+     */
+    @Query("SELECT new com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate(cr.course.id, SUM(cr.rating), COUNT(cr)) " +
+            "FROM CourseRating cr WHERE cr.course.id IN :courseIds GROUP BY cr.course.id")
+    List<CourseRatingAggregate> aggregateByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * One page of per-course rating sums and counts, ordered by course ID.
+     * Keyset paging (course ID greater than the last one seen) keeps every page equally cheap.
+     */
+    @Query("SELECT new com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate(cr.course.id, SUM(cr.rating), COUNT(cr)) " +
+            "FROM CourseRating cr WHERE cr.course.id > :afterCourseId GROUP BY cr.course.id ORDER BY cr.course.id")
+    List<CourseRatingAggregate> aggregateAfterCourseId(@Param("afterCourseId") Long afterCourseId, Pageable pageable);
+
+    /**
+     * Number of ratings per star value of a course, computed in the database.
+     * Used to seed a missing COURSE_RATING_STATS row; star values without ratings are absent.
+     */
+    @Query("SELECT new com.edunexuscourseservice.domain.course.dto.CourseRatingStarCount(cr.rating, COUNT(cr)) " +
+            "FROM CourseRating cr WHERE cr.course.id = :courseId GROUP BY cr.rating")
+    List<CourseRatingStarCount> countByStarForCourseId(@Param("courseId") Long courseId);
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.edunexuscourseservice.adapter.out.persistence.repository;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRatingStats;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourseRatingStatsRepository extends JpaRepository<CourseRatingStats, Long>, CourseRatingStatsRepositoryCustom {
+
+    /**
+     * Apply one rating change to a course's stats row in a single atomic UPDATE.
+     * The row lock serializes concurrent changes of the same course; no read-modify-write.
+     *
+     * @param addedStar Star value gaining one rating (0 for none)
+     * @param removedStar Star value losing one rating (0 for none)
+     * @return Number of rows updated, 0 if the course has no stats row yet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseRatingStats s SET " +
+            "s.ratingSum = s.ratingSum + :sumDelta, " +
+            "s.ratingCount = s.ratingCount + :countDelta, " +
+            "s.star1 = s.star1 + (CASE WHEN :addedStar = 1 THEN 1 ELSE 0 END) - (CASE WHEN :removedStar = 1 THEN 1 ELSE 0 END), " +
+            "s.star2 = s.star2 + (CASE WHEN :addedStar = 2 THEN 1 ELSE 0 END) - (CASE WHEN :removedStar = 2 THEN 1 ELSE 0 END), " +
+            "s.star3 = s.star3 + (CASE WHEN :addedStar = 3 THEN 1 ELSE 0 END) - (CASE WHEN :removedStar = 3 THEN 1 ELSE 0 END), " +
+            "s.star4 = s.star4 + (CASE WHEN :addedStar = 4 THEN 1 ELSE 0 END) - (CASE WHEN :removedStar = 4 THEN 1 ELSE 0 END), " +
+            "s.star5 = s.star5 + (CASE WHEN :addedStar = 5 THEN 1 ELSE 0 END) - (CASE WHEN :removedStar = 5 THEN 1 ELSE 0 END) " +
+            "WHERE s.courseId = :courseId")
+    int applyDelta(@Param("courseId") Long courseId,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("countDelta") long countDelta,
+                   @Param("addedStar") int addedStar,
+                   @Param("removedStar") int removedStar);
+
+    /**
+     * Apply a batch of added ratings to a course's stats row in a single atomic UPDATE.
+     *
+     * @param star1 Number of ratings added per star value (star1..star5)
+     * @return Number of rows updated, 0 if the course has no stats row yet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseRatingStats s SET " +
+            "s.ratingSum = s.ratingSum + :sumDelta, " +
+            "s.ratingCount = s.ratingCount + :countDelta, " +
+            "s.star1 = s.star1 + :star1, " +
+            "s.star2 = s.star2 + :star2, " +
+            "s.star3 = s.star3 + :star3, " +
+            "s.star4 = s.star4 + :star4, " +
+            "s.star5 = s.star5 + :star5 " +
+            "WHERE s.courseId = :courseId")
+    int applyStarDeltas(@Param("courseId") Long courseId,
+                        @Param("sumDelta") long sumDelta,
+                        @Param("countDelta") long countDelta,
+                        @Param("star1") long star1,
+                        @Param("star2") long star2,
+                        @Param("star3") long star3,
+                        @Param("star4") long star4,
+                        @Param("star5") long star5);
+
+    /**
+     * Sum and count of several courses by primary key.
+     * Courses without a stats row are absent from the result.
+     */
+    @Query("SELECT new com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate(s.courseId, s.ratingSum, s.ratingCount) " +
+            "FROM CourseRatingStats s WHERE s.courseId IN :courseIds")
+    List<CourseRatingAggregate> findAggregatesByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * One page of per-course sums and counts of rated courses, ordered by course ID (keyset on the primary key).
+     */
+    @Query("SELECT new com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate(s.courseId, s.ratingSum, s.ratingCount) " +
+            "FROM CourseRatingStats s WHERE s.courseId > :afterCourseId AND s.ratingCount > 0 ORDER BY s.courseId")
+    List<CourseRatingAggregate> findAggregatesAfter(@Param("afterCourseId") Long afterCourseId, Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.edunexuscourseservice.adapter.out.persistence.repository;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRatingStats;
+
+public interface CourseRatingStatsRepositoryCustom {
+    /**
+     * Insert a stats row unless the course already has one.
+     * A duplicate key is reported as false instead of an exception, so the
+     * caller's transaction stays usable and can fall back to an UPDATE.
+     *
+     * @return true if the row was inserted, false if another transaction inserted it first
+     */
+    boolean insertIfAbsent(CourseRatingStats stats);
+}
@@ -0,0 +1,34 @@
+package com.edunexuscourseservice.adapter.out.persistence.repository;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRatingStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC on the transaction's connection: a constraint violation raised through
+ * the EntityManager would mark the whole transaction rollback-only.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CourseRatingStatsRepositoryCustomImpl implements CourseRatingStatsRepositoryCustom {
+
+    private static final String INSERT_STATS =
+            "INSERT INTO COURSE_RATING_STATS " +
+            "(course_id, rating_sum, rating_count, star_1, star_2, star_3, star_4, star_5) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(CourseRatingStats stats) {
+        try {
+            jdbcTemplate.update(INSERT_STATS, stats.getCourseId(), stats.getRatingSum(), stats.getRatingCount(),
+                    stats.getStar1(), stats.getStar2(), stats.getStar3(), stats.getStar4(), stats.getStar5());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -1,11 +1,37 @@
 package com.edunexuscourseservice.adapter.out.persistence.repository;
 
-import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CourseRepositoryCustom {
-    List<Course> findAll(CourseSearchCondition condition, Pageable pageable);
+    /**
+     * Courses matching the condition, one offset page, projected to CourseSummaryDto.
+     * Selects only the response columns and registers nothing in the persistence context.
+     */
+    List<CourseSummaryDto> findSummaries(CourseSearchCondition condition, Pageable pageable);
+
+    /**
+     * Keyset page: courses matching the condition with ID greater than afterId, in ID order.
+     * Seeks on the primary key instead of skipping rows, so every page costs the same.
+     */
+    List<CourseSummaryDto> findSummariesAfter(CourseSearchCondition condition, Long afterId, int limit);
+
+    /**
+     * Course summaries by IDs, in no particular order. Missing IDs are skipped.
+     */
+    List<CourseSummaryDto> findSummariesByIds(Collection<Long> courseIds);
+
+    Optional<CourseSummaryDto> findSummaryById(Long courseId);
+
+    /**
+     * Summaries of courses modified after the given time (seeks on the updated_at index).
+     * Used to sync the search index with changes made by other instances.
+     */
+    List<CourseSummaryDto> findSummariesUpdatedAfter(LocalDateTime updatedAt);
 }
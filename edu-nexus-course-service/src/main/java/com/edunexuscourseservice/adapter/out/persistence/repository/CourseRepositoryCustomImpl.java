@@ -1,20 +1,28 @@
 package com.edunexuscourseservice.adapter.out.persistence.repository;
 
-import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.context.CourseSearchConditionContext;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import static com.edunexuscourseservice.adapter.out.persistence.entity.QCourse.course;
 
 @Repository
 public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
 
+    private static final ConstructorExpression<CourseSummaryDto> COURSE_SUMMARY = Projections.constructor(
+            CourseSummaryDto.class, course.id, course.title, course.description, course.instructorId);
+
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
     private final CourseSearchConditionContext conditionContext;
@@ -26,12 +34,55 @@ public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
     }
 
     @Override
-    public List<Course> findAll(CourseSearchCondition condition, Pageable pageable) {
+    public List<CourseSummaryDto> findSummaries(CourseSearchCondition condition, Pageable pageable) {
         return queryFactory
-                .selectFrom(course)
+                .select(COURSE_SUMMARY)
+                .from(course)
                 .where(conditionContext.buildExpression(condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
+
+    @Override
+    public List<CourseSummaryDto> findSummariesAfter(CourseSearchCondition condition, Long afterId, int limit) {
+        return queryFactory
+                .select(COURSE_SUMMARY)
+                .from(course)
+                .where(conditionContext.buildExpression(condition), course.id.gt(afterId))
+                .orderBy(course.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<CourseSummaryDto> findSummariesByIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(COURSE_SUMMARY)
+                .from(course)
+                .where(course.id.in(courseIds))
+                .fetch();
+    }
+
+    @Override
+    public Optional<CourseSummaryDto> findSummaryById(Long courseId) {
+        return Optional.ofNullable(queryFactory
+                .select(COURSE_SUMMARY)
+                .from(course)
+                .where(course.id.eq(courseId))
+                .fetchOne());
+    }
+
+    @Override
+    public List<CourseSummaryDto> findSummariesUpdatedAfter(LocalDateTime updatedAt) {
+        return queryFactory
+                .select(COURSE_SUMMARY)
+                .from(course)
+                .where(course.updatedAt.gt(updatedAt))
+                .fetch();
+    }
 }
@@ -29,6 +29,12 @@ public interface CourseSessionRepository extends JpaRepository<CourseSession, Lo
     @Deprecated
     List<CourseSession> findByCourseId(Long courseId);
 
+    /**
+     * Keyset page of a course's sessions: ID greater than the last one seen, in ID order.
+     * Returns a List so no COUNT query is issued; seeks on the course_id index instead of using an offset.
+     */
+    List<CourseSession> findByCourseIdAndIdGreaterThanOrderByIdAsc(Long courseId, Long id, Pageable pageable);
+
     /**
      * Find session by ID and course ID in a single query with JOIN FETCH to avoid N+1.
      * This eagerly fetches the associated course to prevent lazy loading issues.
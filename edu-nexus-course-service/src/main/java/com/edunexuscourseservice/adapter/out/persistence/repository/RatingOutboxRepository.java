@@ -0,0 +1,27 @@
+package com.edunexuscourseservice.adapter.out.persistence.repository;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.RatingOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RatingOutboxRepository extends JpaRepository<RatingOutboxEvent, Long> {
+
+    /**
+     * Lock the oldest pending events for publishing.
+     * Rows locked by another relay are skipped (FOR UPDATE SKIP LOCKED, lock timeout -2),
+     * so several instances can relay concurrently without double-sending.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM RatingOutboxEvent o ORDER BY o.id")
+    List<RatingOutboxEvent> findBatchForPublish(Pageable pageable);
+}
@@ -10,22 +10,28 @@ import com.edunexuscourseservice.domain.course.util.RedisKey;
 public class RedisKeyGenerator {
 
     /**
-     * Generate the Redis key for rating total.
+     * Generate the Redis key for the rating stats hash (fields: total, count).
+     * <p>
+     * Total and count are fields of one hash, and the key is hash-tagged with the course ID,
+     * so a course's rating keys never span cluster slots.
      *
      * @param courseId The course ID
-     * @return The Redis key for total ratings
+     * @return The Redis key for rating stats
      */
-    public static String generateRatingTotalKey(Long courseId) {
-        return RedisKey.COURSE_RATING_TOTAL.getKey(courseId);
+    public static String generateRatingStatsKey(Long courseId) {
+        return RedisKey.COURSE_RATING_STATS.getKey(courseId);
     }
 
     /**
-     * Generate the Redis key for rating count.
+     * Generate the Redis key marking a rating event as applied to a course's stats hash.
+     * <p>
+     * Hash-tagged like the stats key, so the marker and the hash can be updated by one script.
      *
      * @param courseId The course ID
-     * @return The Redis key for rating count
+     * @param eventId The rating event ID
+     * @return The Redis key of the event marker
      */
-    public static String generateRatingCountKey(Long courseId) {
-        return RedisKey.COURSE_RATING_COUNT.getKey(courseId);
+    public static String generateRatingEventKey(Long courseId, String eventId) {
+        return RedisKey.COURSE_RATING_EVENT.getKey(courseId) + ":" + eventId;
     }
 }
@@ -0,0 +1,286 @@
+package com.edunexuscourseservice.adapter.out.persistence.search;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over course titles and descriptions
+ * <p>
+ * Answers the same question as the containsIgnoreCase search strategies
+ * (LOWER(col) LIKE '%query%', title OR description) without scanning COURSES:
+ * - Text is lowercased and split into terms (runs of letters/digits); each term has a posting set of course IDs
+ * - A trigram index over the term vocabulary finds the terms containing a query word
+ * - Candidates are the courses holding a matching term for every query word;
+ *   each candidate is then checked with a substring test, so results match LIKE exactly
+ * <p>
+ * Results are ranked: title and description match, then title only, then description only;
+ * within a group, earlier match position in the title, then course ID.
+ * Query cost depends on the posting lists of the query words, not on the catalog size.
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<String, Set<String>> termsByGram = new HashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Add or replace a course in the index
+     */
+    public void index(Long courseId, String title, String description) {
+        Document document = new Document(normalize(title), normalize(description));
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(courseId, document);
+            Set<String> removed = previous == null ? Set.of() : new HashSet<>(previous.terms());
+            removed.removeAll(document.terms());
+            removed.forEach(term -> removePosting(term, courseId));
+            document.terms().forEach(term -> addPosting(term, courseId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(courseId);
+            if (previous != null) {
+                previous.terms().forEach(term -> removePosting(term, courseId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if the index is fully built and the condition has a text criterion
+     */
+    public boolean canServe(CourseSearchCondition condition) {
+        return ready && condition != null
+                && (StringUtils.hasText(condition.getTitle()) || StringUtils.hasText(condition.getDescription()));
+    }
+
+    /**
+     * Search courses whose title contains condition.title OR whose description contains condition.description
+     *
+     * @return Ranked course IDs of the requested page
+     */
+    public List<Long> search(CourseSearchCondition condition, long offset, int limit) {
+        return matches(condition).stream()
+                .sorted(Hit.RANKING)
+                .skip(offset)
+                .limit(limit)
+                .map(Hit::courseId)
+                .toList();
+    }
+
+    /**
+     * Same matching as search, for keyset pagination
+     *
+     * @return IDs of matching courses greater than afterId, in ID order
+     */
+    public List<Long> searchAfter(CourseSearchCondition condition, long afterId, int limit) {
+        return matches(condition).stream()
+                .map(Hit::courseId)
+                .filter(courseId -> courseId > afterId)
+                .sorted()
+                .limit(limit)
+                .toList();
+    }
+
+    private List<Hit> matches(CourseSearchCondition condition) {
+        String titleQuery = StringUtils.hasText(condition.getTitle()) ? normalize(condition.getTitle()) : null;
+        String descriptionQuery = StringUtils.hasText(condition.getDescription()) ? normalize(condition.getDescription()) : null;
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            if (titleQuery != null) {
+                candidates.addAll(candidates(titleQuery));
+            }
+            if (descriptionQuery != null) {
+                candidates.addAll(candidates(descriptionQuery));
+            }
+
+            for (Long courseId : candidates) {
+                Document document = documents.get(courseId);
+                int titlePosition = titleQuery == null ? -1 : document.title().indexOf(titleQuery);
+                boolean descriptionMatch = descriptionQuery != null && document.description().contains(descriptionQuery);
+                if (titlePosition >= 0 || descriptionMatch) {
+                    hits.add(new Hit(courseId, titlePosition >= 0, descriptionMatch, titlePosition));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hits;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Courses holding, for every word of the query, a term that contains the word
+     */
+    private Set<Long> candidates(String query) {
+        List<String> words = terms(query);
+        if (words.isEmpty()) {
+            // Only separators in the query: every course is a candidate for the substring test
+            return documents.keySet();
+        }
+
+        Set<Long> result = null;
+        for (String word : words) {
+            Set<Long> matches = new HashSet<>();
+            for (String term : termsContaining(word)) {
+                matches.addAll(postings.getOrDefault(term, Set.of()));
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private Set<String> termsContaining(String word) {
+        if (word.length() < GRAM) {
+            Set<String> terms = new HashSet<>();
+            for (String term : postings.keySet()) {
+                if (term.contains(word)) {
+                    terms.add(term);
+                }
+            }
+            return terms;
+        }
+
+        Set<String> result = null;
+        for (String gram : grams(word)) {
+            Set<String> terms = termsByGram.get(gram);
+            if (terms == null) {
+                return Set.of();
+            }
+            if (result == null) {
+                result = new HashSet<>(terms);
+            } else {
+                result.retainAll(terms);
+            }
+        }
+        result.removeIf(term -> !term.contains(word));
+        return result;
+    }
+
+    private void addPosting(String term, Long courseId) {
+        Set<Long> ids = postings.get(term);
+        if (ids == null) {
+            ids = new HashSet<>();
+            postings.put(term, ids);
+            for (String gram : grams(term)) {
+                termsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(term);
+            }
+        }
+        ids.add(courseId);
+    }
+
+    private void removePosting(String term, Long courseId) {
+        Set<Long> ids = postings.get(term);
+        if (ids == null || !ids.remove(courseId) || !ids.isEmpty()) {
+            return;
+        }
+        postings.remove(term);
+        for (String gram : grams(term)) {
+            Set<String> terms = termsByGram.get(gram);
+            if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                termsByGram.remove(gram);
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> terms(String normalized) {
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inTerm = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inTerm && start < 0) {
+                start = i;
+            } else if (!inTerm && start >= 0) {
+                terms.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> grams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Document(String title, String description, Set<String> terms) {
+
+        Document(String title, String description) {
+            this(title, description, termSet(title, description));
+        }
+
+        private static Set<String> termSet(String title, String description) {
+            Set<String> terms = new HashSet<>(terms(title));
+            terms.addAll(terms(description));
+            return terms;
+        }
+    }
+
+    private record Hit(Long courseId, boolean titleMatch, boolean descriptionMatch, int titlePosition) {
+
+        static final Comparator<Hit> RANKING = Comparator
+                .comparingInt(Hit::score).reversed()
+                .thenComparingInt(hit -> hit.titleMatch() ? hit.titlePosition() : Integer.MAX_VALUE)
+                .thenComparing(Hit::courseId);
+
+        int score() {
+            return (titleMatch ? 2 : 0) + (descriptionMatch ? 1 : 0);
+        }
+    }
+}
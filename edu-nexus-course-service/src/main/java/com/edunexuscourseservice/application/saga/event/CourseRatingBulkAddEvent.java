@@ -0,0 +1,33 @@
+package com.edunexuscourseservice.application.saga.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ratings added to one course in a single bulk request, folded into one event
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseRatingBulkAddEvent {
+    private String eventId; // UUID for idempotency
+    private Instant occurredAt; // Event timestamp
+
+    private Long courseId;
+    private long ratingSum;
+    private int ratingCount;
+
+    public static CourseRatingBulkAddEvent create(Long courseId, long ratingSum, int ratingCount) {
+        return new CourseRatingBulkAddEvent(
+            UUID.randomUUID().toString(),
+            Instant.now(),
+            courseId,
+            ratingSum,
+            ratingCount
+        );
+    }
+}
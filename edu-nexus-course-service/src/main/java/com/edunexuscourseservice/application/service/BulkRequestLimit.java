@@ -0,0 +1,38 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexus.common.exception.ErrorCode;
+import com.edunexus.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maximum number of items in one bulk add request (course.bulk.max-size)
+ * <p>
+ * Shared by the bulk rating and session endpoints, so the size of one
+ * transaction and its insert batches is bounded by a single setting.
+ */
+@Component
+public class BulkRequestLimit {
+
+    private final int maxSize;
+
+    public BulkRequestLimit(@Value("${course.bulk.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param size Number of items in the request
+     * @param items Item name for the error message, e.g. "ratings"
+     * @throws ValidationException if the request holds more than the maximum
+     */
+    public void check(int size, String items) {
+        if (size > maxSize) {
+            throw new ValidationException(ErrorCode.INVALID_INPUT,
+                    "At most " + maxSize + " " + items + " per request, got " + size);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Course Cache Writer
+ *
+ * Refreshes the cached course detail (RCourse) when a course is saved or updated.
+ * Single Responsibility: Keep the course detail cache in step with committed writes.
+ *
+ * - Write-through (default): the committed course is written with a single SET + TTL,
+ *   so the next read is a hit instead of a database miss
+ * - Evict: the entry is deleted and reloaded by the next read
+ * - Both run after commit, so a rolled-back change never reaches the cache and
+ *   a concurrent reader cannot re-cache the pre-commit state over an early eviction
+ * - Concurrent updates of the same course: last hook wins; the TTL bounds any reordering
+ * - Written entries carry the last measured course load time as their recompute cost, so
+ *   early refresh still applies to them (course.cache.recompute-millis until one is measured)
+ */
+@Component
+public class CourseCacheWriter {
+
+    private final CacheAsideTemplate cacheAsideTemplate;
+    private final boolean writeThrough;
+    private final long defaultComputeMillis;
+
+    public CourseCacheWriter(CacheAsideTemplate cacheAsideTemplate,
+                             @Value("${course.cache.write-through:true}") boolean writeThrough,
+                             @Value("${course.cache.recompute-millis:10}") long defaultComputeMillis) {
+        this.cacheAsideTemplate = cacheAsideTemplate;
+        this.writeThrough = writeThrough;
+        this.defaultComputeMillis = defaultComputeMillis;
+    }
+
+    /**
+     * Refresh the cached detail of a course once the current transaction commits
+     *
+     * @param course Saved or updated course
+     */
+    public void refreshAfterCommit(Course course) {
+        // Snapshot now: the entity may be detached or changed again by the time the hook runs
+        RCourse snapshot = new RCourse(course);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(snapshot);
+                }
+            });
+        } else {
+            refresh(snapshot);
+        }
+    }
+
+    void refresh(RCourse snapshot) {
+        String key = RedisKey.COURSE.getKey(snapshot.getId());
+        if (writeThrough) {
+            long computeMillis = cacheAsideTemplate.getComputeMillis(key, defaultComputeMillis);
+            cacheAsideTemplate.putEntry(key, snapshot, computeMillis, CourseService.COURSE_CACHE_TTL);
+        } else {
+            cacheAsideTemplate.evict(key);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCoursePage;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Course Listing Cache
+ *
+ * Caches result pages of the course listing query so identical listing requests
+ * are served from Redis without touching MySQL until the catalog changes.
+ * Single Responsibility: Versioned query-result caching for course listings.
+ *
+ * - Key: catalog version + normalized search condition + page, size and sort
+ * - Saving or updating a course bumps the catalog version after commit, which makes every
+ *   page cached under the previous version unreachable at once; old pages simply expire
+ * - Conditions are normalized the way the search treats them: case-insensitive, blank = absent
+ * - A missing version counter is seeded with the current time on read, so versions never repeat
+ *   (the bump runs after commit and may be queued in a Redis transaction, so it can't inspect the result)
+ */
+@Slf4j
+@Component
+public class CourseListCache {
+
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    private final CacheAsideTemplate cacheAsideTemplate;
+    private final boolean enabled;
+    private final Duration pageTtl;
+
+    public CourseListCache(CacheAsideTemplate cacheAsideTemplate,
+                           @Value("${course.list.cache.enabled:true}") boolean enabled,
+                           @Value("${course.list.cache.ttl:5m}") Duration pageTtl) {
+        this.cacheAsideTemplate = cacheAsideTemplate;
+        this.enabled = enabled;
+        this.pageTtl = pageTtl;
+    }
+
+    /**
+     * Get a listing page from the cache, or run the query and cache its result
+     *
+     * @param condition Search condition
+     * @param pageable Page request
+     * @param loader Runs the listing query on a miss
+     * @return Courses of the page
+     */
+    public List<CourseSummaryDto> getOrLoad(CourseSearchCondition condition, Pageable pageable, Supplier<List<CourseSummaryDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        RCoursePage page = cacheAsideTemplate.getOrLoad(
+                pageKey(currentVersion(), condition, pageable),
+                () -> RCoursePage.of(loader.get()),
+                pageTtl
+        );
+        return page.toSummaries();
+    }
+
+    /**
+     * Invalidate every cached listing page once the current transaction commits.
+     * Bumping before commit would let a concurrent reader cache pre-commit data under the new version.
+     */
+    public void invalidateAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion();
+                }
+            });
+        } else {
+            bumpVersion();
+        }
+    }
+
+    void bumpVersion() {
+        String key = RedisKey.COURSE_CATALOG_VERSION.getKeyWithoutId();
+        try {
+            cacheAsideTemplate.increment(key, 1L, VERSION_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to bump course catalog version, listing pages stay cached until TTL. Error: {}", e.getMessage());
+        }
+    }
+
+    private long currentVersion() {
+        // Number: the JSON serializer reads small counters back as Integer
+        Number version = cacheAsideTemplate.<Number>getOrLoad(
+                RedisKey.COURSE_CATALOG_VERSION.getKeyWithoutId(),
+                System::currentTimeMillis,
+                VERSION_TTL
+        );
+        return version.longValue();
+    }
+
+    static String pageKey(long version, CourseSearchCondition condition, Pageable pageable) {
+        return String.format("%s:v%d:t=%s:d=%s:p=%d:s=%d:o=%s",
+                RedisKey.COURSE_LIST.getKeyWithoutId(),
+                version,
+                normalize(condition == null ? null : condition.getTitle()),
+                normalize(condition == null ? null : condition.getDescription()),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                URLEncoder.encode(pageable.getSort().toString(), StandardCharsets.UTF_8));
+    }
+
+    private static String normalize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return "";
+        }
+        return URLEncoder.encode(text.toLowerCase(Locale.ROOT), StandardCharsets.UTF_8);
+    }
+}
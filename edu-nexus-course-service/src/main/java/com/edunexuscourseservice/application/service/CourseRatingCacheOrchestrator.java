@@ -35,6 +35,18 @@ public class CourseRatingCacheOrchestrator {
         log.debug("Orchestrated cache update for rating added to course {}", courseId);
     }
 
+    /**
+     * Handle ratings added in bulk - trigger one cache update for the course.
+     *
+     * @param courseId Course ID
+     * @param ratingSum Sum of the added rating values
+     * @param ratingCount Number of added ratings
+     */
+    public void onRatingsAdded(Long courseId, long ratingSum, int ratingCount) {
+        producer.sendRatingsAddedEvent(courseId, ratingSum, ratingCount);
+        log.debug("Orchestrated cache update for {} ratings added to course {}", ratingCount, courseId);
+    }
+
     /**
      * Handle rating updated event - trigger cache update.
      *
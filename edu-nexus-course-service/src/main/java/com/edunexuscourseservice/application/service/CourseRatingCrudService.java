@@ -2,22 +2,38 @@ package com.edunexuscourseservice.application.service;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRatingStats;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRepository;
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingStatsRepository;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingStarCount;
 import com.edunexus.common.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 
 /**
  * Course Rating CRUD Service
  *
  * Handles database operations only.
  * Single Responsibility: Persist and retrieve CourseRating entities.
+ *
+ * Every insert, update and delete also applies its delta to the course's
+ * COURSE_RATING_STATS row in the same transaction, so aggregates are read by
+ * primary key instead of scanning COURSE_RATINGS.
  */
 @Slf4j
 @Service
@@ -27,6 +43,7 @@ public class CourseRatingCrudService {
 
     private final CourseRatingRepository courseRatingRepository;
     private final CourseRepository courseRepository;
+    private final CourseRatingStatsRepository statsRepository;
 
     /**
      * Save a new rating for a course.
@@ -42,7 +59,40 @@ public class CourseRatingCrudService {
                 .orElseThrow(() -> new NotFoundException("Course not found with id = " + courseId));
 
         rating.setCourse(course);
-        return courseRatingRepository.save(rating);
+        CourseRating saved = courseRatingRepository.save(rating);
+        applyStats(courseId, saved.getRating(), 1, saved.getRating(), 0);
+        return saved;
+    }
+
+    /**
+     * Save several new ratings for one course.
+     * The course is looked up once, inserts go out as JDBC batches and the
+     * stats row is updated once for the whole batch.
+     *
+     * @param courseId Course ID
+     * @param ratings Ratings to save
+     * @return Saved ratings with generated IDs, in input order
+     */
+    @Transactional
+    public List<CourseRating> saveAll(Long courseId, List<CourseRating> ratings) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new NotFoundException("Course not found with id = " + courseId));
+
+        long ratingSum = 0;
+        long[] starDeltas = new long[5];
+        for (CourseRating rating : ratings) {
+            rating.setCourse(course);
+            ratingSum += rating.getRating();
+            if (rating.getRating() >= 1 && rating.getRating() <= 5) {
+                starDeltas[rating.getRating() - 1]++;
+            }
+        }
+        List<CourseRating> saved = courseRatingRepository.saveAll(ratings);
+
+        long ratingSumDelta = ratingSum;
+        applyStats(courseId, () -> statsRepository.applyStarDeltas(courseId, ratingSumDelta, saved.size(),
+                starDeltas[0], starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4]));
+        return saved;
     }
 
     /**
@@ -57,7 +107,12 @@ public class CourseRatingCrudService {
         CourseRating existingRating = findById(ratingId)
                 .orElseThrow(() -> new NotFoundException("CourseRating not found with id = " + ratingId));
 
+        int oldRating = existingRating.getRating();
         existingRating.updateCourseRating(newRating);
+        if (existingRating.getRating() != oldRating) {
+            applyStats(existingRating.getCourse().getId(), existingRating.getRating() - oldRating, 0,
+                    existingRating.getRating(), oldRating);
+        }
         return existingRating;
     }
 
@@ -68,10 +123,52 @@ public class CourseRatingCrudService {
      */
     @Transactional
     public void delete(Long ratingId) {
-        if (!courseRatingRepository.existsById(ratingId)) {
-            throw new NotFoundException("CourseRating not found with id = " + ratingId);
+        CourseRating rating = findById(ratingId)
+                .orElseThrow(() -> new NotFoundException("CourseRating not found with id = " + ratingId));
+
+        courseRatingRepository.delete(rating);
+        applyStats(rating.getCourse().getId(), -rating.getRating(), -1, 0, rating.getRating());
+    }
+
+    /**
+     * Create the empty stats row of a new course, so its first ratings only need UPDATEs.
+     *
+     * @param courseId Course ID
+     */
+    @Transactional
+    public void createStats(Long courseId) {
+        statsRepository.save(CourseRatingStats.empty(courseId));
+    }
+
+    private void applyStats(Long courseId, long sumDelta, long countDelta, int addedStar, int removedStar) {
+        applyStats(courseId, () -> statsRepository.applyDelta(courseId, sumDelta, countDelta, addedStar, removedStar));
+    }
+
+    /**
+     * Run a stats UPDATE, seeding the row first if the course has none.
+     *
+     * @param update Applies this change to the stats row, returns the number of rows updated
+     */
+    private void applyStats(Long courseId, IntSupplier update) {
+        if (update.getAsInt() != 0) {
+            return;
+        }
+        // Course rated before stats existed: seed from its ratings, which already include this change
+        if (!statsRepository.insertIfAbsent(CourseRatingStats.of(courseId, countStars(courseId)))) {
+            // A concurrent first rating seeded the row without this change, so apply it as usual
+            update.getAsInt();
+        }
+    }
+
+    private long[] countStars(Long courseId) {
+        courseRatingRepository.flush();
+        long[] starCounts = new long[5];
+        for (CourseRatingStarCount starCount : courseRatingRepository.countByStarForCourseId(courseId)) {
+            if (starCount.getRating() >= 1 && starCount.getRating() <= 5) {
+                starCounts[starCount.getRating() - 1] = starCount.getCount();
+            }
         }
-        courseRatingRepository.deleteById(ratingId);
+        return starCounts;
     }
 
     /**
@@ -93,4 +190,80 @@ public class CourseRatingCrudService {
     public List<CourseRating> findByCourseId(Long courseId) {
         return courseRatingRepository.findByCourseId(courseId);
     }
+
+    /**
+     * Find ratings of a course with ID greater than afterRatingId, in ID order (keyset page).
+     *
+     * @param courseId Course ID
+     * @param afterRatingId Last rating ID of the previous page (0 for the first page)
+     * @param limit Maximum number of ratings
+     * @return List of ratings
+     */
+    public List<CourseRating> findByCourseIdAfter(Long courseId, Long afterRatingId, int limit) {
+        return courseRatingRepository.findByCourseIdAndIdGreaterThanOrderByIdAsc(courseId, afterRatingId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Read rating total and count for a course from its stats row.
+     * Courses without a stats row fall back to aggregating COURSE_RATINGS.
+     *
+     * @param courseId Course ID
+     * @return Aggregate (zero total and count if the course has no ratings)
+     */
+    public CourseRatingAggregate getRatingAggregate(Long courseId) {
+        return statsRepository.findById(courseId)
+                .map(CourseRatingStats::toAggregate)
+                .or(() -> courseRatingRepository.aggregateByCourseId(courseId))
+                .orElseGet(() -> new CourseRatingAggregate(courseId, 0L, 0L));
+    }
+
+    /**
+     * Read rating totals and counts for several courses with one primary key lookup.
+     * Courses without a stats row fall back to one grouped aggregate query.
+     *
+     * @param courseIds Course IDs
+     * @return One aggregate per course ID (zero total and count for courses without ratings)
+     */
+    public List<CourseRatingAggregate> getRatingAggregates(Collection<Long> courseIds) {
+        Map<Long, CourseRatingAggregate> found = statsRepository.findAggregatesByCourseIds(courseIds).stream()
+                .collect(Collectors.toMap(CourseRatingAggregate::getCourseId, Function.identity()));
+
+        List<Long> withoutStats = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            if (!found.containsKey(courseId)) {
+                withoutStats.add(courseId);
+            }
+        }
+        if (!withoutStats.isEmpty()) {
+            courseRatingRepository.aggregateByCourseIds(withoutStats)
+                    .forEach(aggregate -> found.put(aggregate.getCourseId(), aggregate));
+        }
+
+        return courseIds.stream()
+                .map(courseId -> found.getOrDefault(courseId, new CourseRatingAggregate(courseId, 0L, 0L)))
+                .toList();
+    }
+
+    /**
+     * Read one page of per-course rating aggregates from the stats table, ordered by course ID.
+     *
+     * @param afterCourseId Last course ID of the previous page (0 for the first page)
+     * @param pageSize Maximum number of courses in the page
+     * @return Aggregates of courses that have at least one rating
+     */
+    public List<CourseRatingAggregate> getRatingAggregatesAfter(Long afterCourseId, int pageSize) {
+        return statsRepository.findAggregatesAfter(afterCourseId, PageRequest.of(0, pageSize));
+    }
+
+    /**
+     * Read the rating totals and 1-5 star histogram of a course from its stats row.
+     *
+     * @param courseId Course ID
+     * @return Distribution (all zero if the course has no ratings)
+     */
+    public CourseRatingDistribution getRatingDistribution(Long courseId) {
+        return statsRepository.findById(courseId)
+                .map(CourseRatingStats::toDistribution)
+                .orElseGet(() -> CourseRatingStats.of(courseId, countStars(courseId)).toDistribution());
+    }
 }
@@ -2,11 +2,14 @@ package com.edunexuscourseservice.application.service;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRedisRepository;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +23,7 @@ import java.util.Map;
  * Implements Cache-Aside pattern per ADR-000:
  * - Cache is first source for average ratings
  * - Returns 0.0 on cache miss (will be populated asynchronously)
+ * - Missing or nearly expired counters are recomputed from the DB in the background
  * - Direct database access for individual ratings
  */
 @Slf4j
@@ -30,18 +34,20 @@ public class CourseRatingQueryService {
 
     private final CourseRatingCrudService crudService;
     private final CourseRatingRedisRepository redisRepository;
+    private final CourseRatingWarmupService warmupService;
 
     /**
      * Get average rating from cache.
      *
-     * If cache miss, returns 0.0. Cache will be populated asynchronously via Kafka events.
+     * If cache miss, returns 0.0. Cache will be populated asynchronously via Kafka events
+     * or by a background recompute; hot entries are recomputed before they expire.
      *
      * @param courseId Course ID
      * @return Average rating from cache, or 0.0 if not cached yet
      */
     public Double getAverageRating(Long courseId) {
         try {
-            return redisRepository.getAverageReviewRating(courseId);
+            return redisRepository.getAverageReviewRating(courseId, () -> crudService.getRatingAggregate(courseId));
         } catch (Exception e) {
             log.warn("Failed to get average rating from cache for course {}, returning 0.0. Error: {}",
                     courseId, e.getMessage());
@@ -51,28 +57,52 @@ public class CourseRatingQueryService {
 
     /**
      * Batch fetch average ratings for multiple courses to avoid N+1 queries.
-     * Returns a map of courseId to average rating (0.0 if not found in cache).
+     * All rating keys are read in one Redis round trip; courses missing from
+     * the cache fall back to 0.0 individually and are warmed up in the background
+     * with one grouped aggregate query.
      *
      * @param courseIds List of course IDs
      * @return Map of courseId to average rating
      */
     public Map<Long, Double> getAverageRatings(List<Long> courseIds) {
         Map<Long, Double> ratings = new HashMap<>();
+        if (courseIds.isEmpty()) {
+            return ratings;
+        }
 
+        Map<Long, Double> cached;
+        try {
+            cached = redisRepository.getAverageReviewRatings(courseIds);
+        } catch (Exception e) {
+            log.warn("Failed to batch get average ratings from cache for {} courses, returning 0.0. Error: {}",
+                    courseIds.size(), e.getMessage());
+            cached = Collections.emptyMap();
+        }
+
+        List<Long> missing = new ArrayList<>();
         for (Long courseId : courseIds) {
-            try {
-                Double avgRating = redisRepository.getAverageReviewRating(courseId);
-                ratings.put(courseId, avgRating);
-            } catch (Exception e) {
-                log.warn("Failed to get average rating from cache for course {}, returning 0.0. Error: {}",
-                        courseId, e.getMessage());
-                ratings.put(courseId, 0.0);
+            Double avgRating = courseId != null ? cached.get(courseId) : null;
+            ratings.put(courseId, avgRating != null ? avgRating : 0.0);
+            if (courseId != null && avgRating == null) {
+                missing.add(courseId);
             }
         }
 
+        if (!missing.isEmpty()) {
+            warmUpMissing(missing);
+        }
+
         return ratings;
     }
 
+    private void warmUpMissing(List<Long> courseIds) {
+        try {
+            warmupService.warmUpAsync(courseIds);
+        } catch (Exception e) {
+            log.warn("Failed to schedule rating warm-up for {} courses. Error: {}", courseIds.size(), e.getMessage());
+        }
+    }
+
     /**
      * Get all ratings for a specific course from database.
      *
@@ -82,4 +112,26 @@ public class CourseRatingQueryService {
     public List<CourseRating> getRatingsByCourseId(Long courseId) {
         return crudService.findByCourseId(courseId);
     }
+
+    /**
+     * Get ratings of a course after the given rating ID from database, in ID order.
+     *
+     * @param courseId Course ID
+     * @param afterRatingId Last rating ID of the previous page (0 for the first page)
+     * @param limit Maximum number of ratings
+     * @return List of ratings
+     */
+    public List<CourseRating> getRatingsByCourseIdAfter(Long courseId, Long afterRatingId, int limit) {
+        return crudService.findByCourseIdAfter(courseId, afterRatingId, limit);
+    }
+
+    /**
+     * Get the rating totals and star histogram of a course from database.
+     *
+     * @param courseId Course ID
+     * @return Rating distribution
+     */
+    public CourseRatingDistribution getRatingDistribution(Long courseId) {
+        return crudService.getRatingDistribution(courseId);
+    }
 }
@@ -2,6 +2,9 @@ package com.edunexuscourseservice.application.service;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
 import com.edunexus.common.exception.NotFoundException;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
+import com.edunexuscourseservice.domain.course.util.CursorToken;
 import com.edunexuscourseservice.config.course.metrics.CourseMetrics;
 import com.edunexuscourseservice.port.in.CourseRatingUseCase;
 import io.micrometer.core.instrument.Timer;
@@ -41,6 +44,7 @@ public class CourseRatingService implements CourseRatingUseCase {
     private final CourseRatingCacheOrchestrator cacheOrchestrator;
     private final CourseRatingQueryService queryService;
     private final CourseMetrics courseMetrics;
+    private final BulkRequestLimit bulkRequestLimit;
 
     @Transactional
     @Override
@@ -62,6 +66,26 @@ public class CourseRatingService implements CourseRatingUseCase {
         }
     }
 
+    @Transactional
+    @Override
+    public List<CourseRating> addRatingsToCourse(Long courseId, List<CourseRating> courseRatings) {
+        if (courseRatings.isEmpty()) {
+            return List.of();
+        }
+        bulkRequestLimit.check(courseRatings.size(), "ratings");
+
+        Timer.Sample sample = courseMetrics.startCourseRetrieval();
+        List<CourseRating> savedRatings = crudService.saveAll(courseId, courseRatings);
+
+        // One fire-and-forget cache update for the whole batch
+        long ratingSum = savedRatings.stream().mapToLong(CourseRating::getRating).sum();
+        cacheOrchestrator.onRatingsAdded(courseId, ratingSum, savedRatings.size());
+
+        courseMetrics.recordRatingsCreated(savedRatings.size());
+        courseMetrics.stopCourseRetrieval(sample, "addRatings");
+        return savedRatings;
+    }
+
     @Transactional
     @Override
     public CourseRating updateRating(Long ratingId, CourseRating newCourseRating) {
@@ -112,6 +136,13 @@ public class CourseRatingService implements CourseRatingUseCase {
         return queryService.getRatingsByCourseId(courseId);
     }
 
+    @Override
+    public CursorPage<CourseRating> getRatingsByCourseIdAfter(Long courseId, String cursor, Integer size) {
+        int pageSize = CursorPage.sizeOf(size);
+        List<CourseRating> fetched = queryService.getRatingsByCourseIdAfter(courseId, CursorToken.decode(cursor), pageSize + 1);
+        return CursorPage.of(fetched, pageSize, CourseRating::getId);
+    }
+
     @Override
     public Double getAverageRatingByCourseId(Long courseId) {
         Timer.Sample sample = courseMetrics.startCourseRetrieval();
@@ -128,4 +159,9 @@ public class CourseRatingService implements CourseRatingUseCase {
     public Map<Long, Double> getAverageRatingsByCourseIds(List<Long> courseIds) {
         return queryService.getAverageRatings(courseIds);
     }
+
+    @Override
+    public CourseRatingDistribution getRatingDistribution(Long courseId) {
+        return queryService.getRatingDistribution(courseId);
+    }
 }
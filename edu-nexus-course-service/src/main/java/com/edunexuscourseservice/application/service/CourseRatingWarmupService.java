@@ -0,0 +1,190 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRedisRepository;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexusobservability.metrics.MetricsRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Course Rating Cache Warm-up Service
+ *
+ * Rebuilds cached rating counters from the database so a Redis flush or restart
+ * doesn't leave every course at 0.0 until it is rated again.
+ * Single Responsibility: Bulk-load rating aggregates into the cache.
+ *
+ * - Full warm-up: pages through rated courses (keyset paging on course ID)
+ *   and loads each page with one pipelined Redis call
+ * - Miss warm-up: courses missing from a read are aggregated with one grouped query
+ * - Both run in the background and never block readers
+ *
+ * Progress is exported as gauges: cache.warmup.in_progress, cache.warmup.courses.loaded,
+ * cache.warmup.pages.loaded, cache.warmup.last_duration_ms.
+ */
+@Slf4j
+@Service
+public class CourseRatingWarmupService {
+
+    private final CourseRatingCrudService crudService;
+    private final CourseRatingRedisRepository redisRepository;
+    private final int pageSize;
+
+    private final AtomicBoolean fullWarmupRunning = new AtomicBoolean();
+    private final Set<Long> pendingCourseIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService fullWarmupExecutor;
+    private final ThreadPoolExecutor missWarmupExecutor;
+
+    private final AtomicInteger inProgress;
+    private final AtomicLong coursesLoaded;
+    private final AtomicLong pagesLoaded;
+    private final AtomicLong lastDurationMillis;
+
+    public CourseRatingWarmupService(CourseRatingCrudService crudService,
+                                     CourseRatingRedisRepository redisRepository,
+                                     MetricsRegistry metricsRegistry,
+                                     @Value("${redis.cache.warmup.page-size:1000}") int pageSize) {
+        this.crudService = crudService;
+        this.redisRepository = redisRepository;
+        this.pageSize = pageSize;
+
+        this.fullWarmupExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), daemonThread("rating-warmup-full"));
+        this.missWarmupExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), daemonThread("rating-warmup-miss"));
+
+        this.inProgress = metricsRegistry.registerAtomicGauge("cache.warmup.in_progress", new AtomicInteger());
+        this.coursesLoaded = metricsRegistry.registerAtomicGauge("cache.warmup.courses.loaded", new AtomicLong());
+        this.pagesLoaded = metricsRegistry.registerAtomicGauge("cache.warmup.pages.loaded", new AtomicLong());
+        this.lastDurationMillis = metricsRegistry.registerAtomicGauge("cache.warmup.last_duration_ms", new AtomicLong());
+    }
+
+    /**
+     * Start a full warm-up in the background.
+     *
+     * @return false if a full warm-up is already running
+     */
+    public boolean warmUpAllAsync() {
+        if (!fullWarmupRunning.compareAndSet(false, true)) {
+            log.info("Rating cache warm-up already running, skipping");
+            return false;
+        }
+
+        try {
+            fullWarmupExecutor.execute(() -> {
+                try {
+                    warmUpAll();
+                } finally {
+                    fullWarmupRunning.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            fullWarmupRunning.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * Load rating aggregates of every rated course into the cache, page by page.
+     *
+     * @return Number of courses loaded
+     */
+    public long warmUpAll() {
+        long start = System.currentTimeMillis();
+        long loaded = 0;
+        long lastCourseId = 0;
+
+        inProgress.set(1);
+        coursesLoaded.set(0);
+        pagesLoaded.set(0);
+        try {
+            while (true) {
+                List<CourseRatingAggregate> page = crudService.getRatingAggregatesAfter(lastCourseId, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                // Reloaded by ID after the counters' versions are read, so no delta is overwritten
+                redisRepository.initializeRatings(
+                        page.stream().map(CourseRatingAggregate::getCourseId).toList(),
+                        crudService::getRatingAggregates);
+                loaded += page.size();
+                coursesLoaded.set(loaded);
+                pagesLoaded.incrementAndGet();
+                lastCourseId = page.get(page.size() - 1).getCourseId();
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            log.info("Rating cache warm-up complete - loaded {} courses in {} pages", loaded, pagesLoaded.get());
+        } catch (Exception e) {
+            log.warn("Rating cache warm-up stopped after {} courses. Error: {}", loaded, e.getMessage());
+        } finally {
+            inProgress.set(0);
+            lastDurationMillis.set(System.currentTimeMillis() - start);
+        }
+        return loaded;
+    }
+
+    /**
+     * Load rating aggregates of the given courses in the background (used on cache misses).
+     * Courses already queued are skipped; if the queue is full the request is dropped.
+     *
+     * @param courseIds Course IDs missing from the cache
+     */
+    public void warmUpAsync(Collection<Long> courseIds) {
+        List<Long> toLoad = courseIds.stream()
+                .filter(pendingCourseIds::add)
+                .toList();
+        if (toLoad.isEmpty()) {
+            return;
+        }
+
+        try {
+            missWarmupExecutor.execute(() -> {
+                try {
+                    redisRepository.initializeRatings(toLoad, crudService::getRatingAggregates);
+                    log.debug("Warmed up cached ratings for {} courses", toLoad.size());
+                } catch (Exception e) {
+                    log.warn("Failed to warm up cached ratings for {} courses. Error: {}", toLoad.size(), e.getMessage());
+                } finally {
+                    toLoad.forEach(pendingCourseIds::remove);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            toLoad.forEach(pendingCourseIds::remove);
+            log.debug("Rating warm-up queue full, skipping {} courses", toLoad.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fullWarmupExecutor.shutdownNow();
+        missWarmupExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThread(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,179 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
+import com.edunexuscourseservice.adapter.out.persistence.search.CourseSearchIndex;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Course Search Indexer
+ *
+ * Keeps CourseSearchIndex in sync with the COURSES table.
+ * Single Responsibility: Feed course text into the search index.
+ *
+ * - Rebuild: on startup, course summaries are streamed into the index page by page (keyset paging on course ID)
+ *   in the background; searches fall back to the database until it completes
+ * - Incremental: courses saved or updated through this instance are indexed after commit
+ * - Delta sync: courses updated since the last sync (e.g. by other instances) are re-indexed periodically
+ */
+@Slf4j
+@Service
+public class CourseSearchIndexer {
+
+    private final CourseRepository courseRepository;
+    private final CourseSearchIndex searchIndex;
+    private final boolean enabled;
+    private final int pageSize;
+    private final Duration syncOverlap;
+
+    private final ExecutorService rebuildExecutor;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public CourseSearchIndexer(CourseRepository courseRepository,
+                               CourseSearchIndex searchIndex,
+                               @Value("${course.search.index.enabled:true}") boolean enabled,
+                               @Value("${course.search.index.page-size:1000}") int pageSize,
+                               @Value("${course.search.index.sync-overlap:5s}") Duration syncOverlap) {
+        this.courseRepository = courseRepository;
+        this.searchIndex = searchIndex;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.syncOverlap = syncOverlap;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "course-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Load every course into the index, page by page, then mark the index ready.
+     *
+     * @return Number of courses indexed
+     */
+    public long rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long indexed = 0;
+        long lastCourseId = 0;
+
+        try {
+            while (true) {
+                List<CourseSummaryDto> page = courseRepository.findSummariesAfter(new CourseSearchCondition(), lastCourseId, pageSize);
+                page.forEach(this::index);
+                indexed += page.size();
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+                lastCourseId = page.get(page.size() - 1).getId();
+            }
+
+            lastSyncedAt = startedAt.minus(syncOverlap);
+            searchIndex.markReady();
+            log.info("Course search index built - {} courses", indexed);
+        } catch (Exception e) {
+            log.warn("Course search index rebuild stopped after {} courses, searches stay on the database. Error: {}",
+                    indexed, e.getMessage());
+        }
+        return indexed;
+    }
+
+    /**
+     * Re-index courses updated since the last sync.
+     * The window overlaps the previous one so commits that were in flight are not missed.
+     */
+    @Scheduled(fixedDelayString = "${course.search.index.sync-interval-ms:5000}")
+    public void syncUpdates() {
+        if (!enabled || !searchIndex.isReady()) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<CourseSummaryDto> updated = courseRepository.findSummariesUpdatedAfter(lastSyncedAt);
+            updated.forEach(this::index);
+            lastSyncedAt = startedAt.minus(syncOverlap);
+            if (!updated.isEmpty()) {
+                log.debug("Synced {} updated courses into search index", updated.size());
+            }
+        } catch (Exception e) {
+            log.warn("Course search index sync failed, will retry. Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Index a saved or updated course once the current transaction commits,
+     * so rolled-back changes never become searchable.
+     */
+    public void indexAfterCommit(Course course) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(course);
+                }
+            });
+        } else {
+            index(course);
+        }
+    }
+
+    public boolean canServe(CourseSearchCondition condition) {
+        return enabled && searchIndex.canServe(condition);
+    }
+
+    /**
+     * @return Ranked course IDs of the requested page
+     */
+    public List<Long> search(CourseSearchCondition condition, Pageable pageable) {
+        return searchIndex.search(condition, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    /**
+     * @return IDs of matching courses after afterId, in ID order
+     */
+    public List<Long> searchAfter(CourseSearchCondition condition, long afterId, int limit) {
+        return searchIndex.searchAfter(condition, afterId, limit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void index(Course course) {
+        searchIndex.index(course.getId(), course.getTitle(), course.getDescription());
+    }
+
+    private void index(CourseSummaryDto summary) {
+        searchIndex.index(summary.getId(), summary.getTitle(), summary.getDescription());
+    }
+}
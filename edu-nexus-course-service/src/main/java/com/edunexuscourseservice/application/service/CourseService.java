@@ -1,12 +1,16 @@
 package com.edunexuscourseservice.application.service;
 
 import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
 import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
 import com.edunexus.common.exception.NotFoundException;
-import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRedisRepository;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.CursorToken;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
 import com.edunexuscourseservice.port.in.CourseUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +18,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -24,11 +33,23 @@ import java.util.Optional;
 public class CourseService implements CourseUseCase {
 
     private final CourseRepository courseRepository;
-    private final CourseRedisRepository courseRedisRepository;
+    private final CacheAsideTemplate cacheAsideTemplate;
+    private final CourseSearchIndexer courseSearchIndexer;
+    private final CourseListCache courseListCache;
+    private final CourseCacheWriter courseCacheWriter;
+    private final CourseRatingCrudService courseRatingCrudService;
+
+    // 5 minute TTL as per ADR-000 (Cache-Aside pattern)
+    static final Duration COURSE_CACHE_TTL = Duration.ofMinutes(5);
 
     @Transactional
     public Course saveCourse(Course course) {
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        courseRatingCrudService.createStats(saved.getId());
+        courseCacheWriter.refreshAfterCommit(saved);
+        courseSearchIndexer.indexAfterCommit(saved);
+        courseListCache.invalidateAfterCommit();
+        return saved;
     }
 
     @Transactional
@@ -36,67 +57,99 @@ public class CourseService implements CourseUseCase {
         Optional<Course> courseOptional = courseRepository.findById(courseId);
         Course course = courseOptional.orElseThrow(() -> new NotFoundException("Course not found with id = " + courseId));
 
-        Optional<RCourse> rCourseOptional = courseRedisRepository.findById(courseId);
-        if (rCourseOptional.isPresent()) {
-            courseRedisRepository.deleteById(courseId);
-        }
-
         course.updateCourse(newCourse);
+        courseCacheWriter.refreshAfterCommit(course);
+        courseSearchIndexer.indexAfterCommit(course);
+        courseListCache.invalidateAfterCommit();
 
         return course;
     }
 
+    /**
+     * Get a course through the cache with probabilistic early refresh,
+     * so a popular course is recomputed before its entry expires.
+     */
     public Optional<Course> getCourseById(Long courseId) {
-
-        Optional<Course> cachedCourse = getCachedCourse(courseId);
-        if (cachedCourse.isPresent()) {
-            return cachedCourse;
+        RCourse rCourse = cacheAsideTemplate.getOrLoadEarly(
+                RedisKey.COURSE.getKey(courseId),
+                () -> courseRepository.findSummaryById(courseId).map(RCourse::new).orElse(null),
+                COURSE_CACHE_TTL
+        );
+        if (rCourse == null) {
+            throw new NotFoundException("Course not found with id = " + courseId);
         }
 
-        Optional<Course> courseOptional = courseRepository.findById(courseId);
-        Course course = courseOptional.orElseThrow(() -> new NotFoundException("Course not found with id = " + courseId));
+        return Optional.of(toCourse(rCourse));
+    }
 
-        courseRedisRepository.save(new RCourse(course));
-        return courseOptional;
+    private Course toCourse(RCourse rCourse) {
+        return Course.fromSnapshot(
+                rCourse.getId(),
+                CourseInfoDto.builder()
+                        .title(rCourse.getTitle())
+                        .description(rCourse.getDescription())
+                        .instructorId(rCourse.getInstructorId())
+                        .build()
+        );
     }
 
-    private Optional<Course> getCachedCourse(Long courseId) {
-        Optional<RCourse> rCourseOptional = courseRedisRepository.findById(courseId);
-
-        if(rCourseOptional.isPresent()) {
-            RCourse rCourse = rCourseOptional.get();
-            Course course = new Course();
-            course.setCourseInfo(
-                    CourseInfoDto.builder()
-                            .title(rCourse.getTitle())
-                            .description(rCourse.getDescription())
-                            .instructorId(rCourse.getInstructorId())
-                            .build()
-            );
-
-            return Optional.of(course);
+    /**
+     * Search courses by title/description.
+     * Text searches are answered by the in-process search index once it is built;
+     * otherwise (or with no text criteria) the query goes to the database.
+     * Result pages are cached until the catalog changes (see CourseListCache).
+     * Reads are projected to CourseSummaryDto, so no Course entities are loaded.
+     */
+    public List<CourseSummaryDto> getAllCourses(CourseSearchCondition condition, Pageable pageable) {
+        return courseListCache.getOrLoad(condition, pageable, () -> searchCourses(condition, pageable));
+    }
+
+    private List<CourseSummaryDto> searchCourses(CourseSearchCondition condition, Pageable pageable) {
+        if (!courseSearchIndexer.canServe(condition)) {
+            return courseRepository.findSummaries(condition, pageable);
         }
 
-        return Optional.empty();
+        return findAllInOrder(courseSearchIndexer.search(condition, pageable));
+    }
 
+    /**
+     * Keyset paginated course listing, ordered by course ID.
+     * Text searches use the search index when it is built, like getAllCourses.
+     */
+    public CursorPage<CourseSummaryDto> getCoursesAfter(CourseSearchCondition condition, String cursor, Integer size) {
+        long afterId = CursorToken.decode(cursor);
+        int pageSize = CursorPage.sizeOf(size);
+
+        List<CourseSummaryDto> fetched = courseSearchIndexer.canServe(condition)
+                ? findAllInOrder(courseSearchIndexer.searchAfter(condition, afterId, pageSize + 1))
+                : courseRepository.findSummariesAfter(condition, afterId, pageSize + 1);
+        return CursorPage.of(fetched, pageSize, CourseSummaryDto::getId);
     }
 
-    public List<Course> getAllCourses(CourseSearchCondition condition, Pageable pageable) {
-        return courseRepository.findAll(condition, pageable);
+    private List<CourseSummaryDto> findAllInOrder(List<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CourseSummaryDto> coursesById = courseRepository.findSummariesByIds(courseIds).stream()
+                .collect(Collectors.toMap(CourseSummaryDto::getId, Function.identity()));
+        return courseIds.stream()
+                .map(coursesById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
      * Batch fetch courses by IDs to avoid N+1 queries.
      * Optimized for GraphQL batch loading and other scenarios requiring multiple courses.
      */
-    public List<Course> getCoursesByIds(List<Long> courseIds) {
+    public List<CourseSummaryDto> getCoursesByIds(List<Long> courseIds) {
         if (courseIds == null || courseIds.isEmpty()) {
             return List.of();
         }
 
-        // Use findAllById() which is optimized by JPA to fetch in batches
-        // This is much more efficient than individual findById() calls
-        return courseRepository.findAllById(courseIds);
+        // One IN query projected to summaries, much more efficient than individual findById() calls
+        return courseRepository.findSummariesByIds(courseIds);
     }
 
 }
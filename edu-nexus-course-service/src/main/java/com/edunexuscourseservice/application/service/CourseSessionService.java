@@ -5,10 +5,13 @@ import com.edunexuscourseservice.adapter.out.persistence.entity.CourseSession;
 import com.edunexus.common.exception.NotFoundException;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseSessionRepository;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
+import com.edunexuscourseservice.domain.course.util.CursorToken;
 import com.edunexuscourseservice.port.in.CourseSessionUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +27,7 @@ public class CourseSessionService implements CourseSessionUseCase {
 
     private final CourseSessionRepository courseSessionRepository;
     private final CourseRepository courseRepository;
+    private final BulkRequestLimit bulkRequestLimit;
 
     @Transactional
     public CourseSession addSessionToCourse(Long courseId, CourseSession courseSession) {
@@ -34,6 +38,24 @@ public class CourseSessionService implements CourseSessionUseCase {
         return courseSessionRepository.save(courseSession);
     }
 
+    /**
+     * Add several sessions to one course with a single course lookup.
+     * Session IDs come from a pooled sequence, so the inserts are sent as JDBC batches.
+     */
+    @Transactional
+    public List<CourseSession> addSessionsToCourse(Long courseId, List<CourseSession> courseSessions) {
+        if (courseSessions.isEmpty()) {
+            return List.of();
+        }
+        bulkRequestLimit.check(courseSessions.size(), "sessions");
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new NotFoundException("Course not found with id = " + courseId));
+
+        courseSessions.forEach(courseSession -> courseSession.setCourse(course));
+        return courseSessionRepository.saveAll(courseSessions);
+    }
+
     @Transactional
     public CourseSession updateSession(Long sessionId, CourseSession newCourseSession) {
         CourseSession courseSession = getSession(sessionId)
@@ -62,4 +84,14 @@ public class CourseSessionService implements CourseSessionUseCase {
     public Page<CourseSession> getSessionsByCourseIdPaged(Long courseId, Pageable pageable) {
         return courseSessionRepository.findByCourseId(courseId, pageable);
     }
+
+    /**
+     * Get sessions by course ID with keyset pagination (no COUNT query, no offset).
+     */
+    public CursorPage<CourseSession> getSessionsByCourseIdAfter(Long courseId, String cursor, Integer size) {
+        int pageSize = CursorPage.sizeOf(size);
+        List<CourseSession> fetched = courseSessionRepository.findByCourseIdAndIdGreaterThanOrderByIdAsc(
+                courseId, CursorToken.decode(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(fetched, pageSize, CourseSession::getId);
+    }
 }
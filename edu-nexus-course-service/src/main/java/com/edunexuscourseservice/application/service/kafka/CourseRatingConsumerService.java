@@ -2,15 +2,26 @@ package com.edunexuscourseservice.application.service.kafka;
 
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRedisRepository;
 import com.edunexuscourseservice.application.saga.event.CourseRatingAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingBulkAddEvent;
 import com.edunexuscourseservice.application.saga.event.CourseRatingDeleteEvent;
 import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.edunexuscourseservice.application.service.kafka.dlt.DltPublisher;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDelta;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 
 /**
  * Kafka Consumer for Course Rating Events
@@ -18,64 +29,126 @@ import org.springframework.stereotype.Service;
  * Implements Fire-and-Forget pattern per ADR-000:
  * - No response events sent
  * - Cache failures are logged but don't trigger compensating transactions
- * - Idempotent operations (increment/decrement are naturally idempotent-safe with proper design)
+ * - Idempotent processing: each event's delta is applied together with a SET NX of its ID in
+ *   one script (CourseRatingRedisRepository#applyRatingDeltas), so a redelivered batch skips
+ *   the events that already landed, even if only some lanes failed; no separate claim round trip
  * - DLT (Dead Letter Topic) for failed events
+ *
+ * Batch consumption:
+ * - One listener takes a poll's worth of add/update/delete events
+ * - Events are folded into one net total/count delta per course in memory
+ *   (deltas commute, so ordering across topics doesn't matter)
+ * - All deltas are written with one pipelined Redis call; offsets are
+ *   acknowledged only after that write succeeds
+ * - Values arrive as typed events decoded by RatingEventDeserializer
+ * - Undecodable records go to the DLT without failing the rest of the batch; they are published
+ *   only after the batch is acknowledged, so a redelivered batch doesn't publish them again
+ *
+ * Parallelism:
+ * - Producers key events by course ID, so one course's events stay in one partition
+ * - kafka.consumer.rating.concurrency sets listener threads (up to the partition count)
+ * - Within a batch, course deltas are split into key-ordered lanes and written in parallel
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CourseRatingConsumerService {
 
-    private final ObjectMapper objectMapper;
+    static final String TOPIC_ADD = "course-rating-add";
+    static final String TOPIC_UPDATE = "course-rating-update";
+    static final String TOPIC_DELETE = "course-rating-delete";
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(CourseRatingConsumerService.class);
+
     private final CourseRatingRedisRepository courseRatingRedisRepository;
+    private final DltPublisher dltPublisher;
+    private final KeyOrderedLaneExecutor laneExecutor;
 
-    @KafkaListener(topics = "course-rating-add", groupId = "course-rating-group")
-    public void courseRatingAdd(String message) {
-        try {
-            CourseRatingAddEvent event = objectMapper.readValue(message, CourseRatingAddEvent.class);
-            courseRatingRedisRepository.cacheReviewRating(event.getCourseId(), event.getRating());
-            log.debug("Processed rating add event for course {}", event.getCourseId());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse rating add message: {}", message, e);
-            throw new RuntimeException("Failed to parse Kafka message", e);
-        } catch (Exception e) {
-            log.warn("Failed to process rating add event (will retry): {}", message, e);
-            throw e; // Let Kafka retry mechanism handle it
+    @KafkaListener(topics = {TOPIC_ADD, TOPIC_UPDATE, TOPIC_DELETE}, groupId = "course-rating-group", batch = "true",
+            containerFactory = "ratingEventListenerContainerFactory", concurrency = "${kafka.consumer.rating.concurrency:3}")
+    public void courseRatingEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        Map<ConsumerRecord<String, Object>, Exception> rejected = new LinkedHashMap<>();
+        List<ConsumerRecord<String, Object>> decoded = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, Object> record : records) {
+            if (record.value() == null) {
+                rejectRecord(record, new IllegalArgumentException("Undecodable rating event on topic: " + record.topic()), rejected);
+            } else {
+                decoded.add(record);
+            }
+        }
+
+        Map<Long, CourseRatingDelta> deltas = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : decoded) {
+            try {
+                fold(record, deltas);
+            } catch (IllegalArgumentException e) {
+                rejectRecord(record, e, rejected);
+            }
         }
-    }
 
-    @KafkaListener(topics = "course-rating-update", groupId = "course-rating-group")
-    public void courseRatingUpdate(String message) {
         try {
-            CourseRatingUpdateEvent event = objectMapper.readValue(message, CourseRatingUpdateEvent.class);
-            courseRatingRedisRepository.updateReviewRating(
-                    event.getCourseId(),
-                    event.getOldRating(),
-                    event.getNewRating()
-            );
-            log.debug("Processed rating update event for course {}", event.getCourseId());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse rating update message: {}", message, e);
-            throw new RuntimeException("Failed to parse Kafka message", e);
+            laneExecutor.forEachLane(deltas, courseRatingRedisRepository::applyRatingDeltas);
         } catch (Exception e) {
-            log.warn("Failed to process rating update event (will retry): {}", message, e);
+            log.warn("Failed to apply rating deltas for {} records (batch will be redelivered)", records.size(), e);
             throw e; // Let Kafka retry mechanism handle it
         }
+
+        acknowledgment.acknowledge();
+        rejected.forEach(dltPublisher::publishToDlt);
+        log.debug("Processed {} rating events as {} course deltas", records.size(), deltas.size());
     }
 
-    @KafkaListener(topics = "course-rating-delete", groupId = "course-rating-group")
-    public void courseRatingDelete(String message) {
-        try {
-            CourseRatingDeleteEvent event = objectMapper.readValue(message, CourseRatingDeleteEvent.class);
-            courseRatingRedisRepository.deleteReviewRating(event.getCourseId(), event.getOldRating());
-            log.debug("Processed rating delete event for course {}", event.getCourseId());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse rating delete message: {}", message, e);
-            throw new RuntimeException("Failed to parse Kafka message", e);
-        } catch (Exception e) {
-            log.warn("Failed to process rating delete event (will retry): {}", message, e);
-            throw e; // Let Kafka retry mechanism handle it
+    /**
+     * Set a record aside for the DLT; it is published once the batch is acknowledged
+     */
+    private void rejectRecord(ConsumerRecord<String, Object> record, IllegalArgumentException e,
+                              Map<ConsumerRecord<String, Object>, Exception> rejected) {
+        Exception cause = decodeFailure(record, e);
+        log.error("Failed to decode rating event: topic={}, offset={}, message={}",
+                record.topic(), record.offset(), record.value(), cause);
+        rejected.put(record, cause);
+    }
+
+    private void fold(ConsumerRecord<String, Object> record, Map<Long, CourseRatingDelta> deltas) {
+        String eventId = eventIdOf(record.value());
+        switch (record.value()) {
+            case CourseRatingAddEvent event -> deltaOf(deltas, event.getCourseId()).add(eventId, event.getRating(), 1);
+            case CourseRatingUpdateEvent event -> deltaOf(deltas, event.getCourseId())
+                    .add(eventId, (long) event.getNewRating() - event.getOldRating(), 0);
+            case CourseRatingDeleteEvent event -> deltaOf(deltas, event.getCourseId()).add(eventId, -event.getOldRating(), -1);
+            case CourseRatingBulkAddEvent event ->
+                    deltaOf(deltas, event.getCourseId()).add(eventId, event.getRatingSum(), event.getRatingCount());
+            default -> throw new IllegalArgumentException("Unexpected rating event type: " + record.value().getClass().getName());
         }
     }
 
+    /**
+     * Prefer the deserializer's exception (kept in a header by ErrorHandlingDeserializer) for the DLT record.
+     */
+    private static Exception decodeFailure(ConsumerRecord<String, Object> record, IllegalArgumentException fallback) {
+        DeserializationException cause = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+        return cause != null ? cause : fallback;
+    }
+
+    /**
+     * Event ID used for deduplication, or null for events without one (always applied)
+     */
+    private static String eventIdOf(Object event) {
+        String eventId = switch (event) {
+            case CourseRatingAddEvent add -> add.getEventId();
+            case CourseRatingUpdateEvent update -> update.getEventId();
+            case CourseRatingDeleteEvent delete -> delete.getEventId();
+            case CourseRatingBulkAddEvent bulkAdd -> bulkAdd.getEventId();
+            default -> null;
+        };
+        return eventId == null || eventId.isBlank() ? null : eventId;
+    }
+
+    private static CourseRatingDelta deltaOf(Map<Long, CourseRatingDelta> deltas, Long courseId) {
+        if (courseId == null) {
+            throw new IllegalArgumentException("Rating event without courseId");
+        }
+        return deltas.computeIfAbsent(courseId, id -> new CourseRatingDelta());
+    }
 }
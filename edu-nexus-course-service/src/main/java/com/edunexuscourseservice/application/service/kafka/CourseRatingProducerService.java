@@ -1,10 +1,18 @@
 package com.edunexuscourseservice.application.service.kafka;
 
+import com.edunexuscourseservice.adapter.out.persistence.entity.RatingOutboxEvent;
+import com.edunexuscourseservice.adapter.out.persistence.repository.RatingOutboxRepository;
+import com.edunexuscourseservice.application.saga.event.CourseRatingAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingBulkAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingDeleteEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
+import com.edunexuscourseservice.application.service.kafka.codec.RatingEventCodec;
 import com.edunexuscourseservice.domain.course.util.KafkaTopic;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Kafka Producer for Course Rating Events
@@ -13,39 +21,55 @@ import org.springframework.stereotype.Service;
  * - No response events sent back
  * - Cache updates are asynchronous
  * - Cache failures don't trigger compensating transactions
+ *
+ * Events are written to the RATING_OUTBOX table in the caller's transaction
+ * (transactional outbox) and published by RatingOutboxRelay:
+ * - The rating write path only does a local insert, no broker round trip
+ * - An event is published if and only if the rating change commits
+ * - Payloads are encoded with RatingEventCodec and keyed by course ID, so all events
+ *   of one course land in the same partition
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
 public class CourseRatingProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final RatingOutboxRepository outboxRepository;
 
     /**
-     * Send rating added event (fire-and-forget)
+     * Record rating added event (fire-and-forget)
      */
     public void sendRatingAddedEvent(Long courseId, int rating, Long courseRatingId) {
-        String message = String.format("{\"courseId\": %d, \"rating\": %d, \"courseRatingId\": %d}", courseId, rating, courseRatingId);
-        kafkaTemplate.send(KafkaTopic.COURSE_RATING_ADD.getTopic(), message);
-        log.debug("Sent rating added event for course {}", courseId);
+        append(KafkaTopic.COURSE_RATING_ADD, courseId, CourseRatingAddEvent.create(courseId, rating, courseRatingId));
+        log.debug("Recorded rating added event for course {}", courseId);
+    }
+
+    /**
+     * Record one event for ratings added in bulk to a course (fire-and-forget)
+     */
+    public void sendRatingsAddedEvent(Long courseId, long ratingSum, int ratingCount) {
+        append(KafkaTopic.COURSE_RATING_ADD, courseId, CourseRatingBulkAddEvent.create(courseId, ratingSum, ratingCount));
+        log.debug("Recorded {} ratings added event for course {}", ratingCount, courseId);
     }
 
     /**
-     * Send rating updated event (fire-and-forget)
+     * Record rating updated event (fire-and-forget)
      */
     public void sendRatingUpdatedEvent(Long courseId, int oldRating, int newRating, String comment) {
-        String message = String.format("{\"courseId\": %d, \"oldRating\": %d, \"newRating\": %d, \"comment\": %s}", courseId, oldRating, newRating, comment);
-        kafkaTemplate.send(KafkaTopic.COURSE_RATING_UPDATE.getTopic(), message);
-        log.debug("Sent rating updated event for course {}", courseId);
+        append(KafkaTopic.COURSE_RATING_UPDATE, courseId, CourseRatingUpdateEvent.create(courseId, oldRating, newRating, comment));
+        log.debug("Recorded rating updated event for course {}", courseId);
     }
 
     /**
-     * Send rating deleted event (fire-and-forget)
+     * Record rating deleted event (fire-and-forget)
      */
     public void sendRatingDeletedEvent(Long courseId, int oldRating) {
-        String message = String.format("{\"courseId\": %d, \"oldRating\": %d}", courseId, oldRating);
-        kafkaTemplate.send(KafkaTopic.COURSE_RATING_DELETE.getTopic(), message);
-        log.debug("Sent rating deleted event for course {}", courseId);
+        append(KafkaTopic.COURSE_RATING_DELETE, courseId, CourseRatingDeleteEvent.create(courseId, oldRating));
+        log.debug("Recorded rating deleted event for course {}", courseId);
     }
 
+    private void append(KafkaTopic topic, Long courseId, Object event) {
+        outboxRepository.save(RatingOutboxEvent.of(topic.getTopic(), String.valueOf(courseId), RatingEventCodec.encode(event)));
+    }
 }
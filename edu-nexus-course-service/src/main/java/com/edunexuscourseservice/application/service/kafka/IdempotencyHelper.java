@@ -1,26 +1,38 @@
 package com.edunexuscourseservice.application.service.kafka;
 
-import lombok.RequiredArgsConstructor;
+import com.edunexuscourseservice.domain.course.template.RedisScanOperations;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Helper class for implementing idempotent Kafka consumers.
  * Uses Redis to track processed events and prevent duplicate processing.
+ * <p>
+ * Batched rating events are not tracked here: their marker is set in the same script that
+ * applies the delta (CourseRatingRedisRepository#applyRatingDeltas), so check and apply can't diverge.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class IdempotencyHelper {
 
+    private static final String IDEMPOTENCY_KEY_PREFIX = "kafka:idempotency:";
+    private static final String PROCESSED = "processed";
+
     private final StringRedisTemplate redisTemplate;
+    private final RedisScanOperations scanOperations;
+    private final Duration defaultTtl;
 
-    private static final String IDEMPOTENCY_KEY_PREFIX = "kafka:idempotency:";
-    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    public IdempotencyHelper(StringRedisTemplate redisTemplate,
+                             RedisScanOperations scanOperations,
+                             @Value("${kafka.idempotency.ttl:24h}") Duration defaultTtl) {
+        this.redisTemplate = redisTemplate;
+        this.scanOperations = scanOperations;
+        this.defaultTtl = defaultTtl;
+    }
 
     /**
      * Check if an event has already been processed.
@@ -37,7 +49,6 @@ public class IdempotencyHelper {
 
         String key = buildKey(eventId, eventType);
         Boolean exists = redisTemplate.hasKey(key);
-
         if (Boolean.TRUE.equals(exists)) {
             log.info("Duplicate event detected: eventId={}, eventType={}", eventId, eventType);
             return true;
@@ -53,14 +64,7 @@ public class IdempotencyHelper {
      * @param eventType The type of event
      */
     public void markProcessed(String eventId, String eventType) {
-        if (eventId == null || eventId.isBlank()) {
-            log.warn("Cannot mark event with null or blank eventId as processed");
-            return;
-        }
-
-        String key = buildKey(eventId, eventType);
-        redisTemplate.opsForValue().set(key, "processed", DEFAULT_TTL);
-        log.debug("Event marked as processed: eventId={}, eventType={}", eventId, eventType);
+        markProcessed(eventId, eventType, defaultTtl);
     }
 
     /**
@@ -77,8 +81,8 @@ public class IdempotencyHelper {
         }
 
         String key = buildKey(eventId, eventType);
-        redisTemplate.opsForValue().set(key, "processed", ttl);
-        log.debug("Event marked as processed with custom TTL: eventId={}, eventType={}, ttl={}", eventId, eventType, ttl);
+        redisTemplate.opsForValue().set(key, PROCESSED, ttl);
+        log.debug("Event marked as processed: eventId={}, eventType={}, ttl={}", eventId, eventType, ttl);
     }
 
     private String buildKey(String eventId, String eventType) {
@@ -93,7 +97,7 @@ public class IdempotencyHelper {
      */
     public void clearEventType(String eventType) {
         String pattern = IDEMPOTENCY_KEY_PREFIX + eventType + ":*";
-        redisTemplate.delete(redisTemplate.keys(pattern));
-        log.info("Cleared all idempotency keys for eventType: {}", eventType);
+        long deleted = scanOperations.deleteByPattern(pattern);
+        log.info("Cleared {} idempotency keys for eventType: {}", deleted, eventType);
     }
 }
@@ -0,0 +1,97 @@
+package com.edunexuscourseservice.application.service.kafka;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Key-ordered parallel processing for a consumed batch
+ * <p>
+ * Splits a batch into lanes by key hash and processes the lanes concurrently.
+ * A key always maps to the same lane, so work for one course stays ordered
+ * while different courses from the same partition run in parallel.
+ * <p>
+ * - lanes = 1 processes the batch inline on the listener thread
+ * - The call returns only after every lane is done; the first lane failure is rethrown
+ *   so the caller can skip the offset commit
+ */
+@Component
+public class KeyOrderedLaneExecutor {
+
+    private final int lanes;
+    private final ExecutorService executor;
+
+    public KeyOrderedLaneExecutor(@Value("${kafka.consumer.rating.lanes:4}") int lanes) {
+        this.lanes = Math.max(1, lanes);
+        this.executor = this.lanes == 1 ? null : Executors.newFixedThreadPool(this.lanes, laneThreads());
+    }
+
+    /**
+     * Process entries lane by lane, lanes in parallel
+     *
+     * @param entries Entries keyed by ordering key (e.g. course ID)
+     * @param action Work for one lane's entries
+     */
+    public <K, V> void forEachLane(Map<K, V> entries, Consumer<Map<K, V>> action) {
+        if (executor == null || entries.size() <= 1) {
+            action.accept(entries);
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Map<K, V> lane : split(entries)) {
+            futures.add(CompletableFuture.runAsync(() -> action.accept(lane), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public int laneOf(Object key) {
+        return Math.floorMod(key.hashCode(), lanes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private <K, V> List<Map<K, V>> split(Map<K, V> entries) {
+        List<Map<K, V>> split = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            split.add(new LinkedHashMap<>());
+        }
+        entries.forEach((key, value) -> split.get(laneOf(key)).put(key, value));
+        split.removeIf(Map::isEmpty);
+        return split;
+    }
+
+    private static ThreadFactory laneThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "rating-lane-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
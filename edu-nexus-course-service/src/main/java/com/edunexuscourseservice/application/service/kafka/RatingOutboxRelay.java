@@ -0,0 +1,106 @@
+package com.edunexuscourseservice.application.service.kafka;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.RatingOutboxEvent;
+import com.edunexuscourseservice.adapter.out.persistence.repository.RatingOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes rating events from the RATING_OUTBOX table to Kafka
+ * <p>
+ * Each run locks up to batch-size rows (SKIP LOCKED), sends them all through a
+ * lingering, compressed producer, waits for the broker acks and deletes the rows in
+ * the same transaction. If any send fails the transaction rolls back and the whole
+ * batch is retried on the next run; the consumer drops the resent duplicates by eventId.
+ * <p>
+ * Batches are drained back to back until a short batch, then the relay waits interval-ms.
+ */
+@Slf4j
+@Component
+public class RatingOutboxRelay {
+
+    private final RatingOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    public RatingOutboxRelay(RatingOutboxRepository outboxRepository,
+                             @Qualifier("ratingOutboxKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${kafka.outbox.relay.enabled:true}") boolean enabled,
+                             @Value("${kafka.outbox.relay.batch-size:500}") int batchSize,
+                             @Value("${kafka.outbox.relay.send-timeout:10s}") Duration sendTimeout) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.outbox.relay.interval-ms:200}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.warn("Rating outbox relay failed, will retry. Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publish one batch of pending events.
+     *
+     * @return Number of events published and removed from the outbox
+     */
+    public int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<RatingOutboxEvent> batch = outboxRepository.findBatchForPublish(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            CompletableFuture<?>[] sends = batch.stream()
+                    .map(event -> kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()))
+                    .toArray(CompletableFuture[]::new);
+            awaitAcks(sends);
+
+            outboxRepository.deleteAllInBatch(batch);
+            log.debug("Published {} rating events from outbox", batch.size());
+            return batch.size();
+        });
+        return published == null ? 0 : published;
+    }
+
+    private void awaitAcks(CompletableFuture<?>[] sends) {
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing rating outbox batch", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish rating outbox batch", e);
+        }
+    }
+}
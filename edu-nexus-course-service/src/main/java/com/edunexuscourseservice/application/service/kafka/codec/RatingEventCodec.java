@@ -0,0 +1,221 @@
+package com.edunexuscourseservice.application.service.kafka.codec;
+
+import com.edunexuscourseservice.application.saga.event.CourseRatingAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingBulkAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingDeleteEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
+import com.edunexuscourseservice.domain.course.util.KafkaTopic;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact, versioned binary encoding of course rating events
+ * <p>
+ * Layout: [version][type][eventId][occurredAt][courseId][type-specific fields]
+ * - version: FORMAT_V1; a new layout bumps this byte and readers keep decoding older ones
+ * - type: TYPE_ADD / TYPE_UPDATE / TYPE_DELETE / TYPE_BULK_ADD (sent on the add topic)
+ * - eventId: UUID as 16 raw bytes (other strings length-prefixed UTF-8)
+ * - occurredAt: epoch millis; courseId: 8 bytes; ratings: 4 bytes each; bulk rating sum: 8 bytes
+ * - Nullable fields carry a presence marker
+ * <p>
+ * Payloads starting with '{' are legacy JSON messages and are decoded with Jackson,
+ * using the topic to pick the event type, so in-flight messages survive a rollout.
+ */
+public final class RatingEventCodec {
+
+    static final byte FORMAT_V1 = 0x01;
+    static final byte TYPE_ADD = 0x01;
+    static final byte TYPE_UPDATE = 0x02;
+    static final byte TYPE_DELETE = 0x03;
+    static final byte TYPE_BULK_ADD = 0x04;
+
+    private static final byte ID_NULL = 0x00;
+    private static final byte ID_UUID = 0x01;
+    private static final byte ID_STRING = 0x02;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final ObjectMapper JSON = new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final Map<String, Class<?>> LEGACY_TYPES_BY_TOPIC = Map.of(
+            KafkaTopic.COURSE_RATING_ADD.getTopic(), CourseRatingAddEvent.class,
+            KafkaTopic.COURSE_RATING_UPDATE.getTopic(), CourseRatingUpdateEvent.class,
+            KafkaTopic.COURSE_RATING_DELETE.getTopic(), CourseRatingDeleteEvent.class
+    );
+
+    private RatingEventCodec() {
+    }
+
+    public static byte[] encode(Object event) {
+        if (event == null) {
+            return null;
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_CAPACITY);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_V1);
+
+            switch (event) {
+                case CourseRatingAddEvent add -> {
+                    writeHeader(out, TYPE_ADD, add.getEventId(), add.getOccurredAt(), add.getCourseId());
+                    out.writeInt(add.getRating());
+                    writeNullableLong(out, add.getCourseRatingId());
+                }
+                case CourseRatingUpdateEvent update -> {
+                    writeHeader(out, TYPE_UPDATE, update.getEventId(), update.getOccurredAt(), update.getCourseId());
+                    out.writeInt(update.getOldRating());
+                    out.writeInt(update.getNewRating());
+                    writeNullableString(out, update.getComment());
+                }
+                case CourseRatingDeleteEvent delete -> {
+                    writeHeader(out, TYPE_DELETE, delete.getEventId(), delete.getOccurredAt(), delete.getCourseId());
+                    out.writeInt(delete.getOldRating());
+                }
+                case CourseRatingBulkAddEvent bulkAdd -> {
+                    writeHeader(out, TYPE_BULK_ADD, bulkAdd.getEventId(), bulkAdd.getOccurredAt(), bulkAdd.getCourseId());
+                    out.writeLong(bulkAdd.getRatingSum());
+                    out.writeInt(bulkAdd.getRatingCount());
+                }
+                default -> throw new SerializationException("Unsupported rating event type: " + event.getClass().getName());
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Failed to encode rating event", e);
+        }
+    }
+
+    public static Object decode(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (data[0] == '{') {
+            return decodeLegacyJson(topic, data);
+        }
+        if (data[0] != FORMAT_V1) {
+            throw new SerializationException("Unknown rating event format version: " + data[0]);
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 1, data.length - 1));
+            byte type = in.readByte();
+            String eventId = readEventId(in);
+            Instant occurredAt = toInstant(in.readLong());
+            Long courseId = toLong(in.readLong());
+
+            return switch (type) {
+                case TYPE_ADD -> new CourseRatingAddEvent(eventId, occurredAt, courseId, in.readInt(), toLong(in.readLong()));
+                case TYPE_UPDATE -> new CourseRatingUpdateEvent(eventId, occurredAt, courseId, in.readInt(), in.readInt(), readNullableString(in));
+                case TYPE_DELETE -> new CourseRatingDeleteEvent(eventId, occurredAt, courseId, in.readInt());
+                case TYPE_BULK_ADD -> new CourseRatingBulkAddEvent(eventId, occurredAt, courseId, in.readLong(), in.readInt());
+                default -> throw new SerializationException("Unknown rating event type: " + type);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decode rating event", e);
+        }
+    }
+
+    private static Object decodeLegacyJson(String topic, byte[] data) {
+        Class<?> type = LEGACY_TYPES_BY_TOPIC.get(topic);
+        if (type == null) {
+            throw new SerializationException("No legacy JSON type for topic: " + topic);
+        }
+        try {
+            return JSON.readValue(data, type);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decode legacy JSON rating event", e);
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, byte type, String eventId, Instant occurredAt, Long courseId) throws IOException {
+        out.writeByte(type);
+        writeEventId(out, eventId);
+        out.writeLong(occurredAt == null ? NULL_LONG : occurredAt.toEpochMilli());
+        writeNullableLong(out, courseId);
+    }
+
+    private static void writeEventId(DataOutputStream out, String eventId) throws IOException {
+        if (eventId == null) {
+            out.writeByte(ID_NULL);
+            return;
+        }
+        UUID uuid = parseUuid(eventId);
+        if (uuid != null) {
+            out.writeByte(ID_UUID);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            out.writeByte(ID_STRING);
+            writeString(out, eventId);
+        }
+    }
+
+    private static String readEventId(DataInputStream in) throws IOException {
+        byte marker = in.readByte();
+        return switch (marker) {
+            case ID_NULL -> null;
+            case ID_UUID -> new UUID(in.readLong(), in.readLong()).toString();
+            case ID_STRING -> readString(in);
+            default -> throw new SerializationException("Unknown event ID marker: " + marker);
+        };
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeLong(value == null ? NULL_LONG : value);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Long toLong(long value) {
+        return value == NULL_LONG ? null : value;
+    }
+
+    private static Instant toInstant(long epochMillis) {
+        return epochMillis == NULL_LONG ? null : Instant.ofEpochMilli(epochMillis);
+    }
+}
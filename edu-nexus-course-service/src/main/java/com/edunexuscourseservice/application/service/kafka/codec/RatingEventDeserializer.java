@@ -0,0 +1,17 @@
+package com.edunexuscourseservice.application.service.kafka.codec;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka value deserializer for course rating events (see RatingEventCodec)
+ * <p>
+ * Reads the binary format and legacy JSON payloads; wrap it in an
+ * ErrorHandlingDeserializer so one bad record doesn't stall the partition.
+ */
+public class RatingEventDeserializer implements Deserializer<Object> {
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return RatingEventCodec.decode(topic, data);
+    }
+}
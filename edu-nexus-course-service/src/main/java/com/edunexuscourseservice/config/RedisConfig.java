@@ -1,33 +1,91 @@
 package com.edunexuscourseservice.config;
 
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCoursePage;
+import com.edunexuscourseservice.config.redis.CompactRedisSerializer;
+import com.edunexuscourseservice.config.redis.MeteredRedisSerializer;
+import com.edunexuscourseservice.domain.course.template.CacheInvalidationBus;
+import com.edunexuscourseservice.domain.course.template.CacheMetrics;
+import com.edunexuscourseservice.domain.course.template.CacheRegion;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class RedisConfig {
 
+    private static final Duration CLUSTER_TOPOLOGY_REFRESH = Duration.ofSeconds(30);
+
+    /**
+     * Standalone by default (spring.data.redis.host/port).
+     * Setting spring.data.redis.cluster.nodes switches to Redis Cluster, with slot routing
+     * done client-side by Lettuce and the topology refreshed on MOVED/ASK redirects.
+     * redis.read-from (Lettuce ReadFrom name, e.g. replicaPreferred) sends read commands
+     * to replicas; writes always go to the master. Left unset, no ReadFrom is configured:
+     * a standalone connection then stays a plain connection instead of a master/replica one
+     * that discovers the topology on connect.
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(RedisProperties redisProperties,
+                                                         @Value("${redis.read-from:}") String readFrom) {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder();
+        if (StringUtils.hasText(readFrom)) {
+            client.readFrom(ReadFrom.valueOf(readFrom));
+        }
+        if (redisProperties.getTimeout() != null) {
+            client.commandTimeout(redisProperties.getTimeout());
+        }
+
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+            if (cluster.getMaxRedirects() != null) {
+                config.setMaxRedirects(cluster.getMaxRedirects());
+            }
+            config.setPassword(redisProperties.getPassword());
+            client.clientOptions(ClusterClientOptions.builder()
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enableAllAdaptiveRefreshTriggers()
+                            .enablePeriodicRefresh(CLUSTER_TOPOLOGY_REFRESH)
+                            .build())
+                    .build());
+            return new LettuceConnectionFactory(config, client.build());
+        }
+
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName("edu-nexus-redis");
-        config.setPort(6379);
-        return new LettuceConnectionFactory(config);
+        config.setHostName(redisProperties.getHost());
+        config.setPort(redisProperties.getPort());
+        config.setPassword(redisProperties.getPassword());
+        return new LettuceConnectionFactory(config, client.build());
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                       RedisSerializer<Object> redisValueSerializer) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
 
@@ -35,17 +93,45 @@ public class RedisConfig {
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
 
-        // Value Serializer - JSON for proper object serialization
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Value Serializer - selected by redis.cache.serializer (binary or json)
+        redisTemplate.setValueSerializer(redisValueSerializer);
+        redisTemplate.setHashValueSerializer(redisValueSerializer);
 
-        // Enable transaction support for multi-operation atomicity
-        redisTemplate.setEnableTransactionSupport(true);
+        // Enable transaction support for multi-operation atomicity (MULTI is not available in cluster mode)
+        redisTemplate.setEnableTransactionSupport(!isCluster(redisConnectionFactory));
 
         redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
 
+    /**
+     * Value serializer for the RedisTemplate.
+     * "binary" writes compact versioned payloads and still reads JSON entries,
+     * so switching between the two is safe while old entries are still cached.
+     * Payload sizes are recorded per cache region either way.
+     */
+    @Bean
+    public RedisSerializer<Object> redisValueSerializer(@Value("${redis.cache.serializer:binary}") String serializer,
+                                                        CacheMetrics cacheMetrics) {
+        return new MeteredRedisSerializer(valueSerializer(serializer), cacheMetrics, Map.of(
+                RCourse.class, CacheRegion.COURSE,
+                RCoursePage.class, CacheRegion.COURSE_LIST));
+    }
+
+    /**
+     * Unmetered value serializer selected by redis.cache.serializer (binary or json),
+     * also used by the benchmarks so they encode what the application writes
+     */
+    public static RedisSerializer<Object> valueSerializer(String serializer) {
+        if ("json".equalsIgnoreCase(serializer)) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+        // Tags are persisted in Redis: never reuse or renumber them
+        return new CompactRedisSerializer(Map.of(
+                RCourse.class, (byte) 0x02,
+                RCoursePage.class, (byte) 0x03));
+    }
+
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
@@ -65,4 +151,23 @@ public class RedisConfig {
                 .build();
     }
 
+    /**
+     * Subscribes to cache invalidation messages from other course-service replicas.
+     * Registered when the in-process L1 tier or hot-key replication (on by default) is enabled.
+     */
+    @Bean
+    @ConditionalOnExpression("${redis.cache.l1.enabled:false} or ${redis.cache.hot-key.enabled:true}")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    private static boolean isCluster(RedisConnectionFactory redisConnectionFactory) {
+        return redisConnectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware();
+    }
+
 }
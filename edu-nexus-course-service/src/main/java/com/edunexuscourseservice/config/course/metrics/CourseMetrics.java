@@ -14,8 +14,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * Provides metrics for:
  * - Course CRUD operations
  * - Course rating operations
- * - Cache operations
  * - Kafka message processing
+ *
+ * Cache metrics are recorded per cache region by CacheMetrics.
  */
 @Component
 @RequiredArgsConstructor
@@ -76,32 +77,21 @@ public class CourseMetrics {
     }
 
     /**
-     * Record cache hit.
-     */
-    public void recordCacheHit(String cacheName) {
-        metricsRegistry.counter("cache.access")
-                .tag("result", "hit")
-                .tag("cache", cacheName)
-                .increment();
-    }
-
-    /**
-     * Record cache miss.
+     * Record rating created.
      */
-    public void recordCacheMiss(String cacheName) {
-        metricsRegistry.counter("cache.access")
-                .tag("result", "miss")
-                .tag("cache", cacheName)
+    public void recordRatingCreated() {
+        metricsRegistry.counter("rating.count")
+                .tag("action", "created")
                 .increment();
     }
 
     /**
-     * Record rating created.
+     * Record ratings created in one bulk request.
      */
-    public void recordRatingCreated() {
+    public void recordRatingsCreated(int count) {
         metricsRegistry.counter("rating.count")
                 .tag("action", "created")
-                .increment();
+                .increment(count);
     }
 
     /**
@@ -1,9 +1,11 @@
 package com.edunexuscourseservice.config.init;
 
-import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.application.service.CourseRatingWarmupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
@@ -22,6 +24,11 @@ import org.springframework.stereotype.Component;
  * Optional manual cache warmup available via:
  * - Set property redis.cache.warmup.enabled=true to enable on startup
  * - Or call a dedicated warmup endpoint if implemented
+ *
+ * Startup warmup reloads rating aggregates from the DB in the background (see CourseRatingWarmupService).
+ * Existing keys are not wiped: the event fires once traffic is already served, and the
+ * versioned seeding only overwrites counters no delta has touched since the read.
+ * Admin flushes go through the cacheeviction actuator endpoint instead.
  */
 @Slf4j
 @Component
@@ -29,18 +36,19 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "redis.cache.warmup.enabled", havingValue = "true", matchIfMissing = false)
 public class RedisInit {
 
-    private final CacheAsideTemplate cacheAsideTemplate;
+    private final CourseRatingWarmupService ratingWarmupService;
 
     /**
      * Optional cache warmup on startup (disabled by default)
-     * Uses SCAN instead of KEYS to avoid blocking
+     * Runs in the background, so startup never blocks
      */
-    @jakarta.annotation.PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void warmupCache() {
-        log.info("Redis cache warmup enabled - scanning for existing keys...");
-        long keyCount = cacheAsideTemplate.deleteByPattern("edu-nexus-course:*");
-        log.info("Cache warmup complete - cleaned up {} old keys", keyCount);
-        log.info("Cache will be populated lazily on first access (Cache-Aside pattern)");
+        log.info("Redis cache warmup enabled");
+        if (ratingWarmupService.warmUpAllAsync()) {
+            log.info("Rating cache warm-up started in the background");
+        }
+        log.info("Other entries will be populated lazily on first access (Cache-Aside pattern)");
     }
 
 }
@@ -0,0 +1,50 @@
+package com.edunexuscourseservice.config.kafka;
+
+import com.edunexuscourseservice.domain.course.util.KafkaTopic;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Rating topic declarations
+ * <p>
+ * Rating events are keyed by course ID, so the partition count caps how many
+ * listener threads (kafka.consumer.rating.concurrency) can consume in parallel.
+ * KafkaAdmin creates missing topics and raises the partition count of existing ones.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    private final int partitions;
+    private final int replicas;
+
+    public KafkaTopicConfig(@Value("${kafka.topic.rating.partitions:6}") int partitions,
+                            @Value("${kafka.topic.rating.replicas:1}") int replicas) {
+        this.partitions = partitions;
+        this.replicas = replicas;
+    }
+
+    @Bean
+    public NewTopic courseRatingAddTopic() {
+        return ratingTopic(KafkaTopic.COURSE_RATING_ADD);
+    }
+
+    @Bean
+    public NewTopic courseRatingUpdateTopic() {
+        return ratingTopic(KafkaTopic.COURSE_RATING_UPDATE);
+    }
+
+    @Bean
+    public NewTopic courseRatingDeleteTopic() {
+        return ratingTopic(KafkaTopic.COURSE_RATING_DELETE);
+    }
+
+    private NewTopic ratingTopic(KafkaTopic topic) {
+        return TopicBuilder.name(topic.getTopic())
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.edunexuscourseservice.config.kafka;
+
+import com.edunexuscourseservice.application.service.kafka.codec.RatingEventDeserializer;
+import com.edunexuscourseservice.application.service.kafka.dlt.DltPublisher;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+/**
+ * Kafka wiring for typed course rating events
+ * <p>
+ * Rating events are encoded with RatingEventCodec instead of the String (JSON)
+ * serializers configured under spring.kafka, so they get their own outbox relay
+ * template and listener container factory built from the same spring.kafka settings.
+ * <p>
+ * Declaring a second KafkaTemplate disables Boot's auto-configured one, so the
+ * String template used by the DLT publisher is redeclared here as the primary template.
+ */
+@Configuration
+public class RatingEventKafkaConfig {
+
+    @Bean
+    @Primary
+    public KafkaTemplate<?, ?> kafkaTemplate(ProducerFactory<Object, Object> kafkaProducerFactory) {
+        return new KafkaTemplate<>(kafkaProducerFactory);
+    }
+
+    /**
+     * Template used by RatingOutboxRelay. Outbox payloads are already encoded, so values are
+     * sent as raw bytes; linger and compression let a relay batch go out in few requests.
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> ratingOutboxKafkaTemplate(KafkaProperties kafkaProperties,
+                                                                  @Value("${kafka.outbox.relay.linger-ms:20}") int lingerMs,
+                                                                  @Value("${kafka.outbox.relay.batch-bytes:65536}") int batchBytes,
+                                                                  @Value("${kafka.outbox.relay.compression:lz4}") String compression) {
+        Map<String, Object> properties = kafkaProperties.buildProducerProperties(null);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchBytes);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                properties,
+                new StringSerializer(),
+                new ByteArraySerializer()));
+    }
+
+    /**
+     * Error handler applied by Boot's listener factory configurer to every listener factory:
+     * a failed batch is retried with back-off, then its records go to the DLT and the batch is skipped.
+     */
+    @Bean
+    public DefaultErrorHandler kafkaCommonErrorHandler(DltPublisher dltPublisher,
+                                                       @Value("${kafka.consumer.retry.interval-ms:1000}") long intervalMs,
+                                                       @Value("${kafka.consumer.retry.max-attempts:5}") long maxAttempts) {
+        return new DefaultErrorHandler(dltPublisher::publishToDlt, new FixedBackOff(intervalMs, maxAttempts));
+    }
+
+    /**
+     * Listener factory for rating events. Configured through Boot's configurer, so the spring.kafka.listener
+     * settings and the common error handler apply as for the default factory; only the value
+     * deserializer, batch mode and manual acknowledgment are set here.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> ratingEventListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, KafkaProperties kafkaProperties) {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties(null);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        properties.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, RatingEventDeserializer.class);
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, new DefaultKafkaConsumerFactory<>(properties));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        return factory;
+    }
+}
@@ -0,0 +1,49 @@
+package com.edunexuscourseservice.config.redis;
+
+import com.edunexuscourseservice.domain.course.template.BulkEvictionJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint for admin cache flushes through the rate-limited BulkEvictionJob
+ * <p>
+ * GET /actuator/cacheeviction - progress of the running or last job
+ * POST /actuator/cacheeviction {"pattern": "edu-nexus-course:*"} - start, or resume a paused/failed job
+ * DELETE /actuator/cacheeviction - pause the running job after its current batch
+ * <p>
+ * Patterns are restricted to this service's key prefix.
+ */
+@Component
+@Endpoint(id = "cacheeviction")
+@RequiredArgsConstructor
+public class CacheEvictionEndpoint {
+
+    private static final String KEY_PREFIX = "edu-nexus-course:";
+
+    private final BulkEvictionJob bulkEvictionJob;
+
+    @ReadOperation
+    public BulkEvictionJob.Progress progress() {
+        return bulkEvictionJob.getProgress();
+    }
+
+    @WriteOperation
+    public Map<String, Object> flush(String pattern) {
+        if (!pattern.startsWith(KEY_PREFIX)) {
+            return Map.of("started", false, "reason", "pattern must start with " + KEY_PREFIX);
+        }
+        bulkEvictionJob.start(pattern);
+        return Map.of("started", true, "progress", bulkEvictionJob.getProgress());
+    }
+
+    @DeleteOperation
+    public Map<String, Object> pause() {
+        return Map.of("paused", bulkEvictionJob.pause());
+    }
+}
@@ -0,0 +1,145 @@
+package com.edunexuscourseservice.config.redis;
+
+import com.edunexuscourseservice.domain.course.template.CachedEntry;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact, versioned value serializer for the course-service RedisTemplate
+ * <p>
+ * Wire formats are told apart by the first byte, so entries written by older
+ * instances (JSON) stay readable while a rollout is in progress:
+ * - Integer/Long: plain decimal ASCII, the format INCRBY operates on
+ * - Registered types: [FORMAT_V1][type tag][Smile body, no class metadata]
+ * - CachedEntry: [FORMAT_V1][TAG_CACHED_ENTRY][computeMillis][expiresAtMillis][nested value]
+ * - Anything else: JSON via GenericJackson2JsonRedisSerializer
+ * <p>
+ * A future format bumps the leading version byte; readers keep decoding older versions.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_V1 = 0x01;
+    static final byte TAG_CACHED_ENTRY = 0x01;
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final Map<Class<?>, Byte> tagsByType;
+    private final Map<Byte, Class<?>> typesByTag = new HashMap<>();
+
+    /**
+     * @param tagsByType Types encoded in binary, with a stable one-byte tag each.
+     *                   Tags must never be reused for a different type.
+     */
+    public CompactRedisSerializer(Map<Class<?>, Byte> tagsByType) {
+        for (Map.Entry<Class<?>, Byte> entry : tagsByType.entrySet()) {
+            if (entry.getValue() == TAG_CACHED_ENTRY || typesByTag.put(entry.getValue(), entry.getKey()) != null) {
+                throw new IllegalArgumentException("Duplicate or reserved type tag: " + entry.getValue());
+            }
+        }
+        this.tagsByType = Map.copyOf(tagsByType);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+
+        try {
+            if (value instanceof CachedEntry entry) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeByte(FORMAT_V1);
+                out.writeByte(TAG_CACHED_ENTRY);
+                out.writeLong(entry.getComputeMillis());
+                out.writeLong(entry.getExpiresAtMillis());
+                out.write(serialize(entry.getValue()));
+                return bytes.toByteArray();
+            }
+
+            Byte tag = tagsByType.get(value.getClass());
+            if (tag != null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                bytes.write(FORMAT_V1);
+                bytes.write(tag);
+                smileMapper.writeValue(bytes, value);
+                return bytes.toByteArray();
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not write binary value: " + value.getClass().getName(), e);
+        }
+
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] == FORMAT_V1) {
+            return deserializeV1(bytes);
+        }
+        if (isDecimal(bytes)) {
+            return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII));
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+
+    private Object deserializeV1(byte[] bytes) {
+        if (bytes.length < 2) {
+            throw new SerializationException("Truncated binary value");
+        }
+
+        byte tag = bytes[1];
+        try {
+            if (tag == TAG_CACHED_ENTRY) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2));
+                long computeMillis = in.readLong();
+                long expiresAtMillis = in.readLong();
+                byte[] nested = in.readAllBytes();
+                return new CachedEntry(deserialize(nested), computeMillis, expiresAtMillis);
+            }
+
+            Class<?> type = typesByTag.get(tag);
+            if (type == null) {
+                throw new SerializationException("Unknown binary type tag: " + tag);
+            }
+            return smileMapper.readValue(bytes, 2, bytes.length - 2, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read binary value with tag: " + tag, e);
+        }
+    }
+
+    private static boolean isDecimal(byte[] bytes) {
+        int start = bytes[0] == '-' ? 1 : 0;
+        if (start == bytes.length) {
+            return false;
+        }
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
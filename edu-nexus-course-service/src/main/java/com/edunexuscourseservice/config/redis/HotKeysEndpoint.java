@@ -0,0 +1,27 @@
+package com.edunexuscourseservice.config.redis;
+
+import com.edunexuscourseservice.domain.course.template.HotKeyDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the cache keys this instance currently treats as hot
+ * <p>
+ * GET /actuator/hotkeys - hottest first, with the estimated access count over the detection window
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private final HotKeyDetector hotKeyDetector;
+
+    @ReadOperation
+    public List<HotKeyDetector.HotKey> hotKeys() {
+        return hotKeyDetector.getHotKeys();
+    }
+}
@@ -0,0 +1,52 @@
+package com.edunexuscourseservice.config.redis;
+
+import com.edunexuscourseservice.domain.course.template.CacheMetrics;
+import com.edunexuscourseservice.domain.course.template.CacheRegion;
+import com.edunexuscourseservice.domain.course.template.CachedEntry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Map;
+
+/**
+ * Value serializer decorator recording payload sizes per cache region (cache.payload.size)
+ * <p>
+ * The region is resolved from the value type, looking through the CachedEntry envelope;
+ * unregistered types are reported under the other region.
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final CacheMetrics metrics;
+    private final Map<Class<?>, CacheRegion> regionsByType;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, CacheMetrics metrics,
+                                  Map<Class<?>, CacheRegion> regionsByType) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.regionsByType = Map.copyOf(regionsByType);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (value != null && bytes != null) {
+            metrics.recordPayloadSize(regionOf(value), "write", bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        Object value = delegate.deserialize(bytes);
+        if (value != null) {
+            metrics.recordPayloadSize(regionOf(value), "read", bytes.length);
+        }
+        return value;
+    }
+
+    private CacheRegion regionOf(Object value) {
+        Object payload = value instanceof CachedEntry entry ? entry.getValue() : value;
+        return payload == null ? CacheRegion.OTHER : regionsByType.getOrDefault(payload.getClass(), CacheRegion.OTHER);
+    }
+}
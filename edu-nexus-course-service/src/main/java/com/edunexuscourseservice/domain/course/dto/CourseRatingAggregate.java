@@ -0,0 +1,12 @@
+package com.edunexuscourseservice.domain.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CourseRatingAggregate {
+    private Long courseId;
+    private Long total;
+    private Long count;
+}
@@ -0,0 +1,52 @@
+package com.edunexuscourseservice.domain.course.dto;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Net change of a course's rating total and count, folded from several events.
+ * <p>
+ * Events with an ID are kept apart so each is applied to the cache at most once;
+ * events without one are summed into total and count.
+ */
+@Getter
+public class CourseRatingDelta {
+    private long total;
+    private long count;
+    private final Map<String, Change> events = new LinkedHashMap<>();
+
+    public CourseRatingDelta add(long totalDelta, long countDelta) {
+        this.total += totalDelta;
+        this.count += countDelta;
+        return this;
+    }
+
+    /**
+     * Add the change of one event; an event ID seen before in this delta is ignored,
+     * and so is a zero change (there is nothing to apply twice)
+     */
+    public CourseRatingDelta add(String eventId, long totalDelta, long countDelta) {
+        if (eventId == null) {
+            return add(totalDelta, countDelta);
+        }
+        if (totalDelta == 0 && countDelta == 0) {
+            return this;
+        }
+        events.putIfAbsent(eventId, new Change(totalDelta, countDelta));
+        return this;
+    }
+
+    public Map<String, Change> getEvents() {
+        return Collections.unmodifiableMap(events);
+    }
+
+    public boolean isEmpty() {
+        return total == 0 && count == 0 && events.isEmpty();
+    }
+
+    public record Change(long total, long count) {
+    }
+}
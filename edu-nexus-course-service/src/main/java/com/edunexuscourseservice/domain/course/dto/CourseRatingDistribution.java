@@ -0,0 +1,27 @@
+package com.edunexuscourseservice.domain.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Rating totals and 1-5 star histogram of a course
+ */
+@Getter
+@AllArgsConstructor
+public class CourseRatingDistribution {
+    private Long courseId;
+    private long total;
+    private long count;
+    /** Number of 1 to 5 star ratings, index 0 = 1 star */
+    private List<Long> starCounts;
+
+    public static CourseRatingDistribution empty(Long courseId) {
+        return new CourseRatingDistribution(courseId, 0L, 0L, List.of(0L, 0L, 0L, 0L, 0L));
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+}
@@ -0,0 +1,14 @@
+package com.edunexuscourseservice.domain.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Number of ratings of a course with a given star value
+ */
+@Getter
+@AllArgsConstructor
+public class CourseRatingStarCount {
+    private int rating;
+    private Long count;
+}
@@ -0,0 +1,19 @@
+package com.edunexuscourseservice.domain.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Read model for course list/detail responses
+ * <p>
+ * Selected directly as a constructor projection (only the columns responses need),
+ * so reads never build Course entities, lazy collections or persistence-context snapshots.
+ */
+@Getter
+@AllArgsConstructor
+public class CourseSummaryDto {
+    private Long id;
+    private String title;
+    private String description;
+    private Long instructorId;
+}
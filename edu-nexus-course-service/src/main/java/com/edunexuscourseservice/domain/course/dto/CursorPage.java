@@ -0,0 +1,56 @@
+package com.edunexuscourseservice.domain.course.dto;
+
+import com.edunexuscourseservice.domain.course.util.CursorToken;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated listing
+ * <p>
+ * Queries fetch one row more than the page size: its presence tells whether a next
+ * page exists, so no COUNT query is needed. nextCursor is the opaque token of the
+ * last item's ID and is null on the last page.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * @param fetched Rows read with limit pageSize + 1, ordered by ID
+     * @param pageSize Requested page size
+     * @param idOf Key the rows are ordered by
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int pageSize, Function<T, Long> idOf) {
+        if (fetched.size() <= pageSize) {
+            return new CursorPage<>(fetched, null, false);
+        }
+
+        List<T> items = fetched.subList(0, pageSize);
+        return new CursorPage<>(items, CursorToken.encode(idOf.apply(items.get(pageSize - 1))), true);
+    }
+
+    /**
+     * Clamp a client supplied page size to [1, MAX_SIZE], DEFAULT_SIZE if absent
+     */
+    public static int sizeOf(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,189 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.edunexusobservability.metrics.MetricsRegistry;
+import com.google.common.util.concurrent.RateLimiter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streaming, rate-limited bulk eviction of keys matching a pattern
+ * <p>
+ * Runs one job at a time in the background:
+ * - SCANs in cursor batches and UNLINKs each batch in pipelined chunks (see RedisScanOperations),
+ *   so neither the heap nor Redis ever sees the whole key set at once
+ * - Unlinks at most keys-per-second keys per second (0 = unlimited)
+ * - A job can be paused, and a paused or failed job resumed; unlinked keys are gone,
+ *   so the resumed scan only finds what is left, and progress counters carry on
+ * <p>
+ * Progress is exported as the gauges cache.eviction.running, cache.eviction.keys.scanned
+ * and cache.eviction.keys.unlinked.
+ */
+@Slf4j
+@Component
+public class BulkEvictionJob {
+
+    private final RedisScanOperations scanOperations;
+    private final int batchSize;
+    private final double keysPerSecond;
+    private final ExecutorService executor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean pauseRequested = new AtomicBoolean();
+    private final AtomicReference<Progress> progress = new AtomicReference<>();
+    private final AtomicLong totalScanned;
+    private final AtomicLong totalUnlinked;
+
+    public BulkEvictionJob(RedisScanOperations scanOperations,
+                           MetricsRegistry metricsRegistry,
+                           @Value("${redis.cache.eviction.batch-size:1000}") int batchSize,
+                           @Value("${redis.cache.eviction.keys-per-second:10000}") double keysPerSecond) {
+        this.scanOperations = scanOperations;
+        this.batchSize = batchSize;
+        this.keysPerSecond = keysPerSecond;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-bulk-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        metricsRegistry.gauge("cache.eviction.running").value(running, flag -> flag.get() ? 1 : 0);
+        this.totalScanned = metricsRegistry.registerAtomicGauge("cache.eviction.keys.scanned", new AtomicLong());
+        this.totalUnlinked = metricsRegistry.registerAtomicGauge("cache.eviction.keys.unlinked", new AtomicLong());
+    }
+
+    /**
+     * Start evicting keys matching the pattern in the background
+     * <p>
+     * If the last job for the same pattern was paused or failed, it is resumed instead.
+     *
+     * @param pattern Key pattern to evict
+     * @return Completes with the final progress, or immediately with the running job's progress
+     *         if another job is already running
+     */
+    public CompletableFuture<Progress> start(String pattern) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Bulk eviction already running, not starting pattern: {}", pattern);
+            return CompletableFuture.completedFuture(progress.get());
+        }
+
+        Progress previous = progress.get();
+        Progress initial = previous != null && previous.pattern().equals(pattern) && previous.isResumable()
+                ? previous.with(State.RUNNING, previous.scanned(), previous.unlinked(), null)
+                : Progress.started(pattern);
+        progress.set(initial);
+        pauseRequested.set(false);
+
+        try {
+            return CompletableFuture.supplyAsync(() -> run(initial), executor);
+        } catch (RuntimeException e) {
+            progress.set(initial.with(State.FAILED, initial.scanned(), initial.unlinked(), e.getMessage()));
+            running.set(false);
+            return CompletableFuture.completedFuture(progress.get());
+        }
+    }
+
+    /**
+     * Ask the running job to stop after its current batch; it can be resumed with {@link #start}
+     *
+     * @return false if no job is running
+     */
+    public boolean pause() {
+        if (!running.get()) {
+            return false;
+        }
+        pauseRequested.set(true);
+        return true;
+    }
+
+    /**
+     * Progress of the running or last job, or null if none has run
+     */
+    public Progress getProgress() {
+        return progress.get();
+    }
+
+    Progress run(Progress initial) {
+        RateLimiter rateLimiter = keysPerSecond > 0 ? RateLimiter.create(keysPerSecond) : null;
+        AtomicLong scanned = new AtomicLong(initial.scanned());
+        AtomicLong unlinked = new AtomicLong(initial.unlinked());
+        AtomicBoolean stopped = new AtomicBoolean();
+        log.info("Bulk eviction {} for pattern: {} ({} keys/s, batches of {})",
+                initial.scanned() > 0 ? "resumed" : "started", initial.pattern(), keysPerSecond, batchSize);
+
+        Progress result;
+        try {
+            scanOperations.scanBatches(initial.pattern(), batchSize, batch -> {
+                if (rateLimiter != null) {
+                    rateLimiter.acquire(batch.size());
+                }
+                long deleted = scanOperations.unlink(batch);
+                scanned.addAndGet(batch.size());
+                unlinked.addAndGet(deleted);
+                totalScanned.addAndGet(batch.size());
+                totalUnlinked.addAndGet(deleted);
+                progress.set(initial.with(State.RUNNING, scanned.get(), unlinked.get(), null));
+                stopped.set(pauseRequested.get());
+                return !stopped.get();
+            });
+            State state = stopped.get() ? State.PAUSED : State.COMPLETED;
+            result = initial.with(state, scanned.get(), unlinked.get(), null);
+            log.info("Bulk eviction {} for pattern: {} - scanned {}, unlinked {} in {} ms",
+                    state.name().toLowerCase(), initial.pattern(), scanned.get(), unlinked.get(),
+                    result.finishedAtMillis() - result.startedAtMillis());
+        } catch (Exception e) {
+            result = initial.with(State.FAILED, scanned.get(), unlinked.get(), e.getMessage());
+            log.warn("Bulk eviction failed for pattern: {} after {} keys, resumable. Error: {}",
+                    initial.pattern(), unlinked.get(), e.getMessage());
+        }
+        progress.set(result);
+        running.set(false);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pauseRequested.set(true);
+        executor.shutdownNow();
+    }
+
+    public enum State {
+        RUNNING, PAUSED, COMPLETED, FAILED;
+    }
+
+    /**
+     * Snapshot of a bulk eviction job
+     *
+     * @param pattern Key pattern being evicted
+     * @param state Job state
+     * @param scanned Keys returned by SCAN so far
+     * @param unlinked Keys actually unlinked so far
+     * @param startedAtMillis When the job was first started
+     * @param finishedAtMillis When the job last stopped, 0 while running
+     * @param error Failure message of a FAILED job
+     */
+    public record Progress(String pattern, State state, long scanned, long unlinked,
+                           long startedAtMillis, long finishedAtMillis, String error) {
+
+        static Progress started(String pattern) {
+            return new Progress(pattern, State.RUNNING, 0, 0, System.currentTimeMillis(), 0, null);
+        }
+
+        Progress with(State state, long scanned, long unlinked, String error) {
+            long finishedAt = state == State.RUNNING ? 0 : System.currentTimeMillis();
+            return new Progress(pattern, state, scanned, unlinked, startedAtMillis, finishedAt, error);
+        }
+
+        public boolean isResumable() {
+            return state == State.PAUSED || state == State.FAILED;
+        }
+    }
+}
@@ -6,7 +6,15 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -17,11 +25,15 @@ import java.util.function.Supplier;
  * - TTL-based expiration
  * - Non-blocking cache failures (cache is optimization, not SOT)
  * - Cache statistics tracking
+ * - Optional in-process L1 tier in front of Redis (see LocalCacheTier)
+ * - Single-flight loading so a hot key miss hits the source once (see SingleFlightLoader)
+ * - Optional probabilistic early refresh ahead of TTL expiry (see EarlyRefreshPolicy)
+ * - Hot keys detected from access counts are replicated locally for a short TTL (see HotKeyReplica)
  *
  * Refactored to delegate specialized operations:
  * - SCAN operations delegated to RedisScanOperations
  * - Counter operations delegated to RedisCounterOperations
- * - Metrics tracking delegated to CacheMetrics
+ * - Metrics tracking delegated to CacheMetrics, per cache region (see CacheRegion)
  */
 @Slf4j
 @Component
@@ -32,6 +44,14 @@ public class CacheAsideTemplate {
     private final CacheMetrics metrics;
     private final RedisScanOperations scanOperations;
     private final RedisCounterOperations counterOperations;
+    private final LocalCacheTier localCacheTier;
+    private final CacheInvalidationBus invalidationBus;
+    private final SingleFlightLoader singleFlightLoader;
+    private final EarlyRefreshPolicy earlyRefreshPolicy;
+    private final HotKeyReplica hotKeyReplica;
+
+    // Last measured load time per region (getOrLoadEarly), the recompute cost of written-through entries
+    private final Map<CacheRegion, Long> recentComputeMillis = new ConcurrentHashMap<>();
 
     /**
      * Get value from cache, or load from source on miss
@@ -44,27 +64,50 @@ public class CacheAsideTemplate {
      */
     @SuppressWarnings("unchecked")
     public <T> T getOrLoad(String key, Supplier<T> loader, Duration ttl) {
+        Object replica = hotKeyReplica.get(key);
+        if (replica != null) {
+            return (T) replica;
+        }
+
+        Object local = localCacheTier.get(key);
+        if (local != null) {
+            return (T) local;
+        }
+
+        CacheRegion region = CacheRegion.of(key);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = timedGet(region, key);
             if (cached != null) {
-                metrics.recordHit();
+                metrics.recordHit(region);
                 log.debug("Cache HIT for key: {}", key);
+                localCacheTier.put(key, cached, ttl);
+                hotKeyReplica.offer(key, cached);
                 return (T) cached;
             }
         } catch (Exception e) {
             log.warn("Cache GET failed for key: {}, treating as miss. Error: {}", key, e.getMessage());
         }
 
-        metrics.recordMiss();
+        metrics.recordMiss(region);
         log.debug("Cache MISS for key: {}, loading from source", key);
 
-        // Load from source
+        // Load from source, coalescing concurrent misses for the same key
+        T value = singleFlightLoader.load(key, () -> loadAndCache(region, key, loader, ttl));
+        localCacheTier.put(key, value, ttl);
+        hotKeyReplica.offer(key, value);
+
+        return value;
+    }
+
+    private <T> T loadAndCache(CacheRegion region, String key, Supplier<T> loader, Duration ttl) {
+        long start = System.nanoTime();
         T value = loader.get();
+        metrics.recordLoad(region, System.nanoTime() - start);
 
         // Cache asynchronously (don't fail if cache is down)
         if (value != null) {
             try {
-                redisTemplate.opsForValue().set(key, value, ttl);
+                timedSet(region, key, value, ttl);
                 log.debug("Cached key: {} with TTL: {}", key, ttl);
             } catch (Exception e) {
                 log.warn("Failed to cache key: {}. Error: {}", key, e.getMessage());
@@ -75,6 +118,172 @@ public class CacheAsideTemplate {
         return value;
     }
 
+    /**
+     * Get value from cache with probabilistic early refresh, or load from source on miss
+     * <p>
+     * Values are stored wrapped in a CachedEntry holding their compute time and expiry.
+     * As expiry nears, readers increasingly often schedule a background recompute
+     * while still returning the current value, so hot keys never go cold.
+     *
+     * @param key Cache key
+     * @param loader Function to load value on cache miss or refresh
+     * @param ttl Time to live for cached value
+     * @param <T> Type of cached value
+     * @return Cached or loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoadEarly(String key, Supplier<T> loader, Duration ttl) {
+        Object replica = hotKeyReplica.get(key);
+        if (replica != null) {
+            return (T) replica;
+        }
+
+        Object local = localCacheTier.get(key);
+        if (local != null) {
+            return (T) local;
+        }
+
+        CacheRegion region = CacheRegion.of(key);
+        try {
+            Object cached = timedGet(region, key);
+            if (cached instanceof CachedEntry entry && entry.getValue() != null) {
+                metrics.recordHit(region);
+                long remainingMillis = entry.getExpiresAtMillis() - System.currentTimeMillis();
+                if (earlyRefreshPolicy.shouldRefresh(entry.getComputeMillis(), remainingMillis)) {
+                    log.debug("Early refresh triggered for key: {} ({} ms left)", key, remainingMillis);
+                    earlyRefreshPolicy.refreshAsync(key, () -> loadAndCacheEntry(region, key, loader, ttl));
+                }
+                localCacheTier.put(key, entry.getValue(), Duration.ofMillis(Math.max(remainingMillis, 0)));
+                hotKeyReplica.offer(key, entry.getValue());
+                return (T) entry.getValue();
+            }
+        } catch (Exception e) {
+            log.warn("Cache GET failed for key: {}, treating as miss. Error: {}", key, e.getMessage());
+        }
+
+        metrics.recordMiss(region);
+        log.debug("Cache MISS for key: {}, loading from source", key);
+
+        // A replica filled by another one reads the envelope written by loadAndCacheEntry
+        T value = singleFlightLoader.load(key, () -> loadAndCacheEntry(region, key, loader, ttl),
+                cached -> cached instanceof CachedEntry entry ? (T) entry.getValue() : (T) cached);
+        localCacheTier.put(key, value, ttl);
+        hotKeyReplica.offer(key, value);
+
+        return value;
+    }
+
+    private <T> T loadAndCacheEntry(CacheRegion region, String key, Supplier<T> loader, Duration ttl) {
+        long startNanos = System.nanoTime();
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        long now = System.currentTimeMillis();
+        metrics.recordLoad(region, System.nanoTime() - startNanos);
+        recentComputeMillis.put(region, now - start);
+
+        if (value != null) {
+            try {
+                timedSet(region, key, new CachedEntry(value, now - start, now + ttl.toMillis()), ttl);
+                invalidateCopies(key);
+                log.debug("Cached key: {} with TTL: {} (computed in {} ms)", key, ttl, now - start);
+            } catch (Exception e) {
+                log.warn("Failed to cache key: {}. Error: {}", key, e.getMessage());
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Decide whether a hash counter should be recomputed early, from the expiry read along with it
+     * <p>
+     * Used for values that cannot carry a CachedEntry envelope, such as hash counters.
+     * The expiry comes from the same script call as the fields (see multiGetFields),
+     * so the decision costs no extra round trip.
+     *
+     * @param snapshot Counter read with multiGetFields
+     * @param computeMillis Estimated time to recompute the value
+     * @return true if the caller should schedule a refresh
+     */
+    public boolean isExpiringSoon(CounterSnapshot snapshot, long computeMillis) {
+        if (snapshot.expiresAtMillis() == Long.MAX_VALUE) {
+            // No TTL set, never expires
+            return false;
+        }
+        return earlyRefreshPolicy.shouldRefresh(computeMillis, snapshot.expiresAtMillis() - System.currentTimeMillis());
+    }
+
+    /**
+     * Schedule a background refresh of a key (at most one in flight per key)
+     *
+     * @param key Cache key
+     * @param refresh Recomputes and writes back the value
+     */
+    public void refreshInBackground(String key, Runnable refresh) {
+        earlyRefreshPolicy.refreshAsync(key, refresh);
+    }
+
+    /**
+     * Get multiple values in a single round trip (MGET)
+     * <p>
+     * The returned list is index-aligned with {@code keys}; missing keys are {@code null}.
+     * A failed MGET is treated as a miss for every key so callers can fall back per key.
+     *
+     * @param keys Cache keys
+     * @return Cached values in key order, {@code null} for each miss
+     */
+    public List<Object> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        List<Integer> remoteIndexes = new ArrayList<>(keys.size());
+        List<String> remoteKeys = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object local = hotKeyReplica.get(keys.get(i));
+            if (local == null) {
+                local = localCacheTier.get(keys.get(i));
+            }
+            if (local != null) {
+                values.set(i, local);
+            } else {
+                remoteIndexes.add(i);
+                remoteKeys.add(keys.get(i));
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return values;
+        }
+
+        List<Object> remoteValues = null;
+        try {
+            long start = System.nanoTime();
+            remoteValues = redisTemplate.opsForValue().multiGet(remoteKeys);
+            recordBatchCall(remoteKeys, "mget", System.nanoTime() - start);
+        } catch (Exception e) {
+            log.warn("Cache MGET failed for {} keys, treating as miss. Error: {}", remoteKeys.size(), e.getMessage());
+        }
+
+        if (remoteValues == null || remoteValues.size() != remoteKeys.size()) {
+            remoteValues = Collections.nCopies(remoteKeys.size(), null);
+        }
+
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            CacheRegion region = CacheRegion.of(remoteKeys.get(i));
+            Object value = remoteValues.get(i);
+            if (value != null) {
+                metrics.recordHit(region);
+                values.set(remoteIndexes.get(i), value);
+                hotKeyReplica.offer(remoteKeys.get(i), value);
+            } else {
+                metrics.recordMiss(region);
+            }
+        }
+        log.debug("Cache MGET for {} keys ({} served locally)", keys.size(), keys.size() - remoteKeys.size());
+        return values;
+    }
+
     /**
      * Put value in cache with TTL
      *
@@ -84,12 +293,50 @@ public class CacheAsideTemplate {
      */
     public void put(String key, Object value, Duration ttl) {
         try {
-            redisTemplate.opsForValue().set(key, value, ttl);
+            timedSet(CacheRegion.of(key), key, value, ttl);
             log.debug("Cached key: {} with TTL: {}", key, ttl);
         } catch (Exception e) {
             log.warn("Failed to cache key: {}. Error: {}", key, e.getMessage());
             // Don't throw - cache is optional
         }
+        invalidateCopies(key);
+        localCacheTier.put(key, value, ttl);
+    }
+
+    /**
+     * Last measured load time of the key's cache region, for entries written without loading
+     *
+     * @param key Cache key
+     * @param defaultMillis Returned until a load in the region has been measured
+     * @return Recompute cost in millis
+     */
+    public long getComputeMillis(String key, long defaultMillis) {
+        return recentComputeMillis.getOrDefault(CacheRegion.of(key), defaultMillis);
+    }
+
+    /**
+     * Put value in cache wrapped in a CachedEntry, for keys read through getOrLoadEarly
+     * <p>
+     * Used to write through a freshly committed value instead of evicting it,
+     * so the next read is a hit rather than a miss.
+     *
+     * @param key Cache key
+     * @param value Value to cache
+     * @param computeMillis Estimated time to recompute the value (drives early refresh)
+     * @param ttl Time to live
+     */
+    public void putEntry(String key, Object value, long computeMillis, Duration ttl) {
+        long expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+        try {
+            timedSet(CacheRegion.of(key), key, new CachedEntry(value, computeMillis, expiresAtMillis), ttl);
+            log.debug("Wrote through key: {} with TTL: {}", key, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to write through key: {}, evicting instead. Error: {}", key, e.getMessage());
+            evict(key);
+            return;
+        }
+        invalidateCopies(key);
+        localCacheTier.put(key, value, ttl);
     }
 
     /**
@@ -104,6 +351,7 @@ public class CacheAsideTemplate {
         } catch (Exception e) {
             log.warn("Failed to evict cache key: {}. Error: {}", key, e.getMessage());
         }
+        invalidateCopies(key);
     }
 
     /**
@@ -135,7 +383,197 @@ public class CacheAsideTemplate {
      * @return New value
      */
     public Long increment(String key, long delta, Duration ttl) {
-        return counterOperations.increment(key, delta, ttl);
+        Long newValue = counterOperations.increment(key, delta, ttl);
+        invalidateCopies(key);
+        return newValue;
+    }
+
+    /**
+     * Apply deltas to fields of a hash counter and refresh its TTL in one atomic call
+     *
+     * @param key Hash key
+     * @param deltas Field to delta
+     * @param ttl Time to live (resets on each update)
+     * @return true if the hash existed and was updated, false if it needs re-seeding
+     */
+    public boolean incrementFields(String key, Map<String, Long> deltas, Duration ttl) {
+        boolean applied = counterOperations.incrementFields(key, deltas, ttl);
+        invalidateCopies(key);
+        return applied;
+    }
+
+    /**
+     * Apply deltas to many hash counters in one round trip, each tracked change at most once
+     *
+     * @param deltasByKey Hash key to its deltas
+     * @param ttl Time to live (resets on each update)
+     * @param markerTtl How long applied changes are remembered
+     * @return Number of hashes that existed and were updated
+     */
+    public long incrementAllFields(Map<String, CounterDeltas> deltasByKey, Duration ttl, Duration markerTtl) {
+        long applied = counterOperations.incrementAllFields(deltasByKey, ttl, markerTtl);
+        deltasByKey.keySet().forEach(this::invalidateCopies);
+        return applied;
+    }
+
+    /**
+     * Seed a hash counter from the source, unless a delta landed since its version was read
+     *
+     * @param key Hash key
+     * @param values Field to value
+     * @param expectedVersion Version read (getVersions / multiGetFields) before loading the values
+     * @param ttl Time to live
+     * @return true if written
+     */
+    public boolean putFields(String key, Map<String, Long> values, long expectedVersion, Duration ttl) {
+        boolean written = counterOperations.putFields(key, values, expectedVersion, ttl);
+        if (written) {
+            recordFieldsPayload(CacheRegion.of(key), "write", values.values());
+        }
+        invalidateCopies(key);
+        return written;
+    }
+
+    /**
+     * Seed several hash counters in one round trip (bulk loading), each only if its version is unchanged
+     *
+     * @param valuesByKey Hash key to field values
+     * @param expectedVersions Hash key to the version read before loading the values
+     * @param ttl Time to live
+     * @return Number of hashes written
+     */
+    public long putAllFields(Map<String, Map<String, Long>> valuesByKey, Map<String, Long> expectedVersions, Duration ttl) {
+        long written = counterOperations.putAllFields(valuesByKey, expectedVersions, ttl);
+        valuesByKey.forEach((key, values) -> recordFieldsPayload(CacheRegion.of(key), "write", values.values()));
+        valuesByKey.keySet().forEach(this::invalidateCopies);
+        return written;
+    }
+
+    /**
+     * Read the versions of several hash counters in one round trip, before loading them from the source
+     *
+     * @param keys Hash keys
+     * @return Hash key to version (0 for hashes that don't exist)
+     */
+    public Map<String, Long> getVersions(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> versions = counterOperations.getVersions(keys);
+        Map<String, Long> versionsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            versionsByKey.put(keys.get(i), versions.get(i));
+        }
+        return versionsByKey;
+    }
+
+    /**
+     * Read the same fields of several hash counters in one round trip
+     * <p>
+     * The returned list is index-aligned with {@code keys}. Each snapshot carries the hash's
+     * version and expiry as well; a hash without seeded fields has {@code null} values.
+     * A failed read yields {@code null} for every key.
+     *
+     * @param keys Hash keys
+     * @param fields Fields to read
+     * @return Per key, a snapshot of the fields in {@code fields} order, or {@code null} if the read failed
+     */
+    public List<CounterSnapshot> multiGetFields(List<String> keys, List<String> fields) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CounterSnapshot> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        List<Integer> remoteIndexes = new ArrayList<>(keys.size());
+        List<String> remoteKeys = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object local = hotKeyReplica.get(keys.get(i));
+            if (local == null) {
+                local = localCacheTier.get(keys.get(i));
+            }
+            if (local != null) {
+                values.set(i, (CounterSnapshot) local);
+            } else {
+                remoteIndexes.add(i);
+                remoteKeys.add(keys.get(i));
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return values;
+        }
+
+        List<CounterSnapshot> remoteValues = null;
+        try {
+            long start = System.nanoTime();
+            remoteValues = counterOperations.multiGetFields(remoteKeys, fields);
+            recordBatchCall(remoteKeys, "hmget", System.nanoTime() - start);
+        } catch (Exception e) {
+            log.warn("Cache HMGET failed for {} keys, treating as miss. Error: {}", remoteKeys.size(), e.getMessage());
+        }
+
+        if (remoteValues == null || remoteValues.size() != remoteKeys.size()) {
+            remoteKeys.forEach(key -> metrics.recordMiss(CacheRegion.of(key)));
+            return values;
+        }
+
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            CacheRegion region = CacheRegion.of(remoteKeys.get(i));
+            CounterSnapshot value = remoteValues.get(i);
+            values.set(remoteIndexes.get(i), value);
+            if (value.isSeeded()) {
+                metrics.recordHit(region);
+                recordFieldsPayload(region, "read", value.values());
+                hotKeyReplica.offer(remoteKeys.get(i), value);
+            } else {
+                metrics.recordMiss(region);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Record one batched call under each region its keys belong to
+     */
+    private void recordBatchCall(List<String> keys, String op, long nanos) {
+        Set<CacheRegion> regions = EnumSet.noneOf(CacheRegion.class);
+        keys.forEach(key -> regions.add(CacheRegion.of(key)));
+        regions.forEach(region -> metrics.recordRedisCall(region, op, nanos));
+    }
+
+    /**
+     * Record the size of hash counter fields as Redis holds them (decimal strings);
+     * they bypass the value serializer, which records every other payload size
+     */
+    private void recordFieldsPayload(CacheRegion region, String direction, Collection<Long> values) {
+        int bytes = 0;
+        for (Long value : values) {
+            if (value != null) {
+                bytes += Long.toString(value).length();
+            }
+        }
+        metrics.recordPayloadSize(region, direction, bytes);
+    }
+
+    private Object timedGet(CacheRegion region, String key) {
+        long start = System.nanoTime();
+        Object cached = redisTemplate.opsForValue().get(key);
+        metrics.recordRedisCall(region, "get", System.nanoTime() - start);
+        return cached;
+    }
+
+    private void timedSet(CacheRegion region, String key, Object value, Duration ttl) {
+        long start = System.nanoTime();
+        redisTemplate.opsForValue().set(key, value, ttl);
+        metrics.recordRedisCall(region, "set", System.nanoTime() - start);
+        metrics.recordTtl(region, ttl);
+    }
+
+    /**
+     * Drop every in-process copy of a key (L1 and hot-key replica) on all replicas
+     */
+    private void invalidateCopies(String key) {
+        invalidationBus.invalidate(key);
     }
 
     /**
@@ -0,0 +1,77 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Cross-replica invalidation of in-process copies over Redis pub/sub
+ * <p>
+ * Every put/evict/increment on one course-service instance is broadcast so the
+ * other instances drop their local copy: the L1 entry and the hot-key replica.
+ * Messages carry the publishing instance ID so an instance never drops the entry it has just written.
+ * Listener registration lives in RedisConfig and is active while L1 or hot-key replication is enabled.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "edu-nexus-course:cache:invalidation";
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalCacheTier localCacheTier;
+    private final HotKeyReplica hotKeyReplica;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate, LocalCacheTier localCacheTier,
+                                HotKeyReplica hotKeyReplica) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCacheTier = localCacheTier;
+        this.hotKeyReplica = hotKeyReplica;
+    }
+
+    /**
+     * Drop the key locally and tell every other replica to drop it too
+     *
+     * @param key Cache key
+     */
+    public void invalidate(String key) {
+        hotKeyReplica.invalidate(key);
+        if (!localCacheTier.isEnabled() && !hotKeyReplica.isEnabled()) {
+            return;
+        }
+
+        localCacheTier.invalidate(key);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + key);
+        } catch (Exception e) {
+            // Local entries still expire by TTL, so a lost message only delays convergence
+            log.warn("Failed to publish cache invalidation for key: {}. Error: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+
+        if (body.regionMatches(0, instanceId, 0, separator) && separator == instanceId.length()) {
+            return;
+        }
+
+        String key = body.substring(separator + 1);
+        localCacheTier.invalidate(key);
+        hotKeyReplica.invalidate(key);
+        log.debug("Local copies invalidated by peer for key: {}", key);
+    }
+}
@@ -1,53 +1,283 @@
 package com.edunexuscourseservice.domain.course.template;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Cache metrics tracking
  * <p>
  * Thread-safe metrics for monitoring cache performance:
- * - Hit rate calculation
+ * - Hit rate calculation, per cache region (see CacheRegion) and overall
  * - Total request tracking
+ * - Per-tier hit/miss counts (L1 = in-process, L2 = Redis)
+ * - Coalesced cache-miss loads (see SingleFlightLoader)
+ * - Early background refreshes (see EarlyRefreshPolicy)
+ * - Hits on the local replica of hot keys (see HotKeyReplica)
+ * - Source load and Redis call latencies, payload sizes and TTLs per region
  * - Reset capability for testing
+ * <p>
+ * Counters are LongAdders, so recording never contends on a single cache line.
+ * Exported to Micrometer as cache.tier.requests{tier, result} (tier = l1, l2 or hot), cache.load.coalesced{scope},
+ * cache.early.refresh, cache.requests{region, result}, cache.hit.ratio{region}, cache.load.duration{region},
+ * cache.redis.duration{region, op}, cache.payload.size{region, direction} and cache.ttl{region}.
+ * Latencies and payload sizes are only recorded once bound to a registry.
  */
 @Component
-public class CacheMetrics {
-    private volatile long hits = 0;
-    private volatile long misses = 0;
+public class CacheMetrics implements MeterBinder {
+    private final Map<CacheRegion, RegionCounters> regions = new EnumMap<>(CacheRegion.class);
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder localCoalesced = new LongAdder();
+    private final LongAdder remoteCoalesced = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+    private final LongAdder replicaHits = new LongAdder();
+
+    private volatile MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    public CacheMetrics() {
+        for (CacheRegion region : CacheRegion.values()) {
+            regions.put(region, new RegionCounters());
+        }
+    }
+
+    public void recordHit(CacheRegion region) {
+        regions.get(region).hits.increment();
+    }
+
+    public void recordMiss(CacheRegion region) {
+        regions.get(region).misses.increment();
+    }
+
+    public void recordL1Hit() {
+        l1Hits.increment();
+    }
+
+    public void recordL1Miss() {
+        l1Misses.increment();
+    }
+
+    public void recordLocalCoalesced() {
+        localCoalesced.increment();
+    }
 
-    public void recordHit() {
-        hits++;
+    public void recordRemoteCoalesced() {
+        remoteCoalesced.increment();
     }
 
-    public void recordMiss() {
-        misses++;
+    public void recordEarlyRefresh() {
+        earlyRefreshes.increment();
+    }
+
+    public void recordReplicaHit() {
+        replicaHits.increment();
+    }
+
+    /**
+     * Record how long loading a missed value from the source took
+     */
+    public void recordLoad(CacheRegion region, long nanos) {
+        Timer timer = timer("cache.load.duration", region, null);
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Record the latency of a Redis call
+     *
+     * @param op Command family, e.g. get, set, mget
+     */
+    public void recordRedisCall(CacheRegion region, String op, long nanos) {
+        Timer timer = timer("cache.redis.duration", region, op);
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Record the serialized size of a cached value
+     *
+     * @param direction read or write
+     */
+    public void recordPayloadSize(CacheRegion region, String direction, int bytes) {
+        MeterRegistry bound = registry;
+        if (bound == null) {
+            return;
+        }
+        payloadSizes.computeIfAbsent(region.getTag() + ":" + direction, name -> DistributionSummary.builder("cache.payload.size")
+                        .baseUnit("bytes")
+                        .tags("region", region.getTag(), "direction", direction)
+                        .publishPercentileHistogram()
+                        .register(bound))
+                .record(bytes);
+    }
+
+    /**
+     * Record the TTL a value of the region was last written with
+     */
+    public void recordTtl(CacheRegion region, Duration ttl) {
+        regions.get(region).ttlMillis.set(ttl.toMillis());
     }
 
     public long getHits() {
-        return hits;
+        return regions.values().stream().mapToLong(counters -> counters.hits.sum()).sum();
     }
 
     public long getMisses() {
-        return misses;
+        return regions.values().stream().mapToLong(counters -> counters.misses.sum()).sum();
+    }
+
+    public long getHits(CacheRegion region) {
+        return regions.get(region).hits.sum();
+    }
+
+    public long getMisses(CacheRegion region) {
+        return regions.get(region).misses.sum();
+    }
+
+    public long getL1Hits() {
+        return l1Hits.sum();
+    }
+
+    public long getL1Misses() {
+        return l1Misses.sum();
+    }
+
+    public long getLocalCoalesced() {
+        return localCoalesced.sum();
+    }
+
+    public long getRemoteCoalesced() {
+        return remoteCoalesced.sum();
+    }
+
+    public long getEarlyRefreshes() {
+        return earlyRefreshes.sum();
+    }
+
+    public long getReplicaHits() {
+        return replicaHits.sum();
     }
 
     public long getTotalRequests() {
-        return hits + misses;
+        return getHits() + getMisses();
     }
 
     public double getHitRate() {
-        long total = getTotalRequests();
-        return total == 0 ? 0.0 : (double) hits / total;
+        return ratio(getHits(), getMisses());
+    }
+
+    public double getHitRate(CacheRegion region) {
+        return ratio(getHits(region), getMisses(region));
+    }
+
+    public double getL1HitRate() {
+        return ratio(getL1Hits(), getL1Misses());
     }
 
     public void reset() {
-        hits = 0;
-        misses = 0;
+        regions.values().forEach(counters -> {
+            counters.hits.reset();
+            counters.misses.reset();
+        });
+        l1Hits.reset();
+        l1Misses.reset();
+        localCoalesced.reset();
+        remoteCoalesced.reset();
+        earlyRefreshes.reset();
+        replicaHits.reset();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.tier.requests", this, CacheMetrics::getL1Hits)
+                .tags("tier", "l1", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.requests", this, CacheMetrics::getL1Misses)
+                .tags("tier", "l1", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.requests", this, CacheMetrics::getReplicaHits)
+                .tags("tier", "hot", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.requests", this, CacheMetrics::getHits)
+                .tags("tier", "l2", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.tier.requests", this, CacheMetrics::getMisses)
+                .tags("tier", "l2", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.load.coalesced", this, CacheMetrics::getLocalCoalesced)
+                .tags("scope", "local")
+                .register(registry);
+        FunctionCounter.builder("cache.load.coalesced", this, CacheMetrics::getRemoteCoalesced)
+                .tags("scope", "remote")
+                .register(registry);
+        FunctionCounter.builder("cache.early.refresh", this, CacheMetrics::getEarlyRefreshes)
+                .register(registry);
+
+        regions.forEach((region, counters) -> {
+            FunctionCounter.builder("cache.requests", counters.hits, LongAdder::sum)
+                    .tags("region", region.getTag(), "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.requests", counters.misses, LongAdder::sum)
+                    .tags("region", region.getTag(), "result", "miss")
+                    .register(registry);
+            Gauge.builder("cache.hit.ratio", this, metrics -> metrics.getHitRate(region))
+                    .tags("region", region.getTag())
+                    .register(registry);
+            Gauge.builder("cache.ttl", counters.ttlMillis, ttl -> ttl.get() / 1000.0)
+                    .tags("region", region.getTag())
+                    .baseUnit("seconds")
+                    .register(registry);
+        });
+        this.registry = registry;
+    }
+
+    private Timer timer(String name, CacheRegion region, String op) {
+        MeterRegistry bound = registry;
+        if (bound == null) {
+            return null;
+        }
+        return timers.computeIfAbsent(name + ":" + region.getTag() + ":" + op, id -> {
+            Timer.Builder builder = Timer.builder(name)
+                    .tags("region", region.getTag())
+                    .publishPercentileHistogram();
+            if (op != null) {
+                builder.tags("op", op);
+            }
+            return builder.register(bound);
+        });
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
     }
 
     @Override
     public String toString() {
-        return String.format("CacheMetrics{hits=%d, misses=%d, hitRate=%.2f%%}",
-                hits, misses, getHitRate() * 100);
+        return String.format("CacheMetrics{hits=%d, misses=%d, hitRate=%.2f%%, l1Hits=%d, l1Misses=%d, l1HitRate=%.2f%%, coalesced=%d}",
+                getHits(), getMisses(), getHitRate() * 100, getL1Hits(), getL1Misses(), getL1HitRate() * 100,
+                getLocalCoalesced() + getRemoteCoalesced());
+    }
+
+    private static final class RegionCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final AtomicLong ttlMillis = new AtomicLong();
     }
 }
@@ -0,0 +1,52 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+
+/**
+ * Cache region of a key, used to tag cache metrics
+ * <p>
+ * Resolved from the key prefix (see RedisKey). Rating total and count are fields of
+ * one hash per course, so they are reported together under the rating region, along
+ * with the applied rating event markers written next to them.
+ */
+public enum CacheRegion {
+    COURSE("course", RedisKey.COURSE),
+    RATING("rating", RedisKey.COURSE_RATING_STATS, RedisKey.COURSE_RATING_EVENT),
+    COURSE_LIST("course_list", RedisKey.COURSE_LIST, RedisKey.COURSE_CATALOG_VERSION),
+    OTHER("other");
+
+    private final String tag;
+    private final String[] prefixes;
+
+    CacheRegion(String tag, RedisKey... keys) {
+        this.tag = tag;
+        this.prefixes = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            prefixes[i] = keys[i].getKeyWithoutId();
+        }
+    }
+
+    /**
+     * Metric tag value
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * @param key Cache key
+     * @return Region owning the key, OTHER if none matches
+     */
+    public static CacheRegion of(String key) {
+        if (key != null) {
+            for (CacheRegion region : values()) {
+                for (String prefix : region.prefixes) {
+                    if (key.startsWith(prefix)) {
+                        return region;
+                    }
+                }
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,20 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Envelope for entries cached with early refresh
+ * <p>
+ * Stores how long the value took to compute and when it expires, so readers
+ * can decide to recompute it before it actually disappears (see EarlyRefreshPolicy).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedEntry {
+    private Object value;
+    private long computeMillis;
+    private long expiresAtMillis;
+}
@@ -0,0 +1,20 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import java.util.Map;
+
+/**
+ * Deltas for one hash counter, applied by RedisCounterOperations#incrementAllFields
+ * <p>
+ * Untracked deltas are always applied. Tracked deltas belong to one change each
+ * (e.g. a Kafka event) and are applied at most once: the change's marker key is set
+ * in the same script, and a redelivered change whose marker exists is skipped.
+ *
+ * @param untracked Field to delta, applied on every call
+ * @param tracked Marker key to the field deltas of that change; markers must share the counter's cluster slot
+ */
+public record CounterDeltas(Map<String, Long> untracked, Map<String, Map<String, Long>> tracked) {
+
+    public boolean isEmpty() {
+        return untracked.values().stream().allMatch(delta -> delta == 0) && tracked.isEmpty();
+    }
+}
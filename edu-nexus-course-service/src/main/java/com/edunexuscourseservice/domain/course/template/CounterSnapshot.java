@@ -0,0 +1,22 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import java.util.List;
+
+/**
+ * Fields of a hash counter read together with its version and expiry in one call
+ * <p>
+ * The version counts delta applications since the hash was created. A snapshot of the
+ * source is only written back if the version is unchanged since it was read (see
+ * RedisCounterOperations), so a delta landing in between is never overwritten.
+ *
+ * @param values Field values in request order, or null if the hash holds no seeded fields
+ * @param version Delta applications so far, 0 if the hash does not exist
+ * @param expiresAtMillis Epoch millis when the hash expires, Long.MAX_VALUE if it has no TTL,
+ *                        0 if it does not exist
+ */
+public record CounterSnapshot(List<Long> values, long version, long expiresAtMillis) {
+
+    public boolean isSeeded() {
+        return values != null;
+    }
+}
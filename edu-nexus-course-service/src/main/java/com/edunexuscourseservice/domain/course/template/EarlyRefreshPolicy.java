@@ -0,0 +1,105 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Probabilistic early refresh (XFetch)
+ * <p>
+ * A reader recomputes an entry ahead of expiry when
+ * {@code computeMillis * beta * -ln(random) >= remainingMillis}, so the
+ * probability rises as expiry nears and with the cost of recomputation.
+ * Hot keys are refreshed by one background task before they expire instead
+ * of all readers missing at the same instant.
+ * <p>
+ * - beta > 1 favours earlier refreshes, beta < 1 later ones (redis.cache.early-refresh.beta)
+ * - At most one background refresh per key is queued at a time
+ * - The refresh queue is bounded; refreshes that don't fit are dropped (the entry
+ *   then simply expires and is reloaded on demand)
+ */
+@Slf4j
+@Component
+public class EarlyRefreshPolicy {
+
+    private final double beta;
+    private final CacheMetrics metrics;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public EarlyRefreshPolicy(@Value("${redis.cache.early-refresh.beta:1.0}") double beta,
+                              @Value("${redis.cache.early-refresh.threads:2}") int threads,
+                              @Value("${redis.cache.early-refresh.queue-capacity:1000}") int queueCapacity,
+                              CacheMetrics metrics) {
+        this.beta = beta;
+        this.metrics = metrics;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-early-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Decide whether this read should trigger a recompute
+     *
+     * @param computeMillis Time the last recompute took
+     * @param remainingMillis Time left until the entry expires
+     * @return true if the entry should be refreshed now
+     */
+    public boolean shouldRefresh(long computeMillis, long remainingMillis) {
+        if (remainingMillis <= 0) {
+            return true;
+        }
+        double gap = Math.max(computeMillis, 1) * beta * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return gap >= remainingMillis;
+    }
+
+    /**
+     * Run a refresh in the background, once per key at a time
+     *
+     * @param key Cache key being refreshed
+     * @param refresh Recomputes the value and writes it back to the cache
+     */
+    public void refreshAsync(String key, Runnable refresh) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh.run();
+                    log.debug("Early refresh completed for key: {}", key);
+                } catch (Exception e) {
+                    log.warn("Early refresh failed for key: {}. Error: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            metrics.recordEarlyRefresh();
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("Early refresh queue full, skipping key: {}", key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
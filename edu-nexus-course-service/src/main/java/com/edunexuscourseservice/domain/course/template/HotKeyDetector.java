@@ -0,0 +1,213 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Hot-key detection over a sliding window of cache key accesses
+ * <p>
+ * Enabled by default (redis.cache.hot-key.enabled=false to disable):
+ * - Accesses are counted in a count-min sketch per bucket; the window is the last N buckets,
+ *   and a bucket is cleared lazily when its slot is reused, so memory stays fixed
+ * - A key is hot while its estimated access count over the window reaches the threshold;
+ *   the sketch only over-estimates, so a hot key is never missed
+ * - The full window estimate is only summed once the current bucket alone reaches
+ *   threshold / buckets, which keeps the common (cold) path to one row of increments
+ * - At most max-keys keys are hot at once; they stay hot for one window after their last hot access
+ */
+@Slf4j
+@Component
+public class HotKeyDetector implements MeterBinder {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final boolean enabled;
+    private final long threshold;
+    private final int buckets;
+    private final long bucketMillis;
+    private final int widthMask;
+    private final int maxHotKeys;
+    private final LongSupplier clock;
+
+    private final AtomicLongArray[] sketches;
+    private final AtomicLongArray bucketEpochs;
+    private final ConcurrentHashMap<String, HotKey> hotKeys = new ConcurrentHashMap<>();
+    private final AtomicLong promotions = new AtomicLong();
+
+    @Autowired
+    public HotKeyDetector(@Value("${redis.cache.hot-key.enabled:true}") boolean enabled,
+                          @Value("${redis.cache.hot-key.threshold:1000}") long threshold,
+                          @Value("${redis.cache.hot-key.window:10s}") Duration window,
+                          @Value("${redis.cache.hot-key.buckets:5}") int buckets,
+                          @Value("${redis.cache.hot-key.width:4096}") int width,
+                          @Value("${redis.cache.hot-key.max-keys:128}") int maxHotKeys) {
+        this(enabled, threshold, window, buckets, width, maxHotKeys, System::currentTimeMillis);
+    }
+
+    HotKeyDetector(boolean enabled, long threshold, Duration window, int buckets, int width,
+                   int maxHotKeys, LongSupplier clock) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two: " + width);
+        }
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.buckets = buckets;
+        this.bucketMillis = Math.max(1, window.toMillis() / buckets);
+        this.widthMask = width - 1;
+        this.maxHotKeys = maxHotKeys;
+        this.clock = clock;
+        this.sketches = new AtomicLongArray[buckets];
+        for (int i = 0; i < buckets; i++) {
+            sketches[i] = new AtomicLongArray(DEPTH * width);
+        }
+        this.bucketEpochs = new AtomicLongArray(buckets);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Count one access of a key
+     *
+     * @param key Cache key
+     * @return true if the key is hot
+     */
+    public boolean recordAccess(String key) {
+        if (!enabled) {
+            return false;
+        }
+
+        long now = clock.getAsLong();
+        long epoch = now / bucketMillis;
+        int bucket = (int) (epoch % buckets);
+        AtomicLongArray sketch = currentSketch(bucket, epoch);
+
+        int hash = key.hashCode();
+        long current = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            current = Math.min(current, sketch.incrementAndGet(index(row, hash)));
+        }
+
+        if (current * buckets < threshold) {
+            return isHot(key, now);
+        }
+
+        long estimate = estimate(hash, epoch);
+        if (estimate >= threshold) {
+            promote(key, estimate, now);
+            return true;
+        }
+        return isHot(key, now);
+    }
+
+    /**
+     * @param key Cache key
+     * @return true if the key has been hot within the last window
+     */
+    public boolean isHot(String key) {
+        return enabled && isHot(key, clock.getAsLong());
+    }
+
+    /**
+     * Current hot keys, hottest first
+     */
+    public List<HotKey> getHotKeys() {
+        long now = clock.getAsLong();
+        return hotKeys.values().stream()
+                .filter(hotKey -> !isExpired(hotKey, now))
+                .sorted(Comparator.comparingLong(HotKey::estimate).reversed())
+                .toList();
+    }
+
+    public long getPromotions() {
+        return promotions.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.hotkeys.active", this, detector -> detector.getHotKeys().size())
+                .register(registry);
+        FunctionCounter.builder("cache.hotkeys.promotions", this, HotKeyDetector::getPromotions)
+                .register(registry);
+    }
+
+    private AtomicLongArray currentSketch(int bucket, long epoch) {
+        long seen = bucketEpochs.get(bucket);
+        if (seen != epoch && bucketEpochs.compareAndSet(bucket, seen, epoch)) {
+            // Slot reused for a new bucket: drop the counts that fell out of the window
+            AtomicLongArray sketch = sketches[bucket];
+            for (int i = 0; i < sketch.length(); i++) {
+                sketch.set(i, 0);
+            }
+            expireHotKeys(epoch * bucketMillis);
+        }
+        return sketches[bucket];
+    }
+
+    private long estimate(int hash, long epoch) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(row, hash);
+            long sum = 0;
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                if (epoch - bucketEpochs.get(bucket) < buckets) {
+                    sum += sketches[bucket].get(index);
+                }
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return estimate;
+    }
+
+    private void promote(String key, long estimate, long now) {
+        if (hotKeys.size() >= maxHotKeys && !hotKeys.containsKey(key)) {
+            return;
+        }
+        HotKey previous = hotKeys.put(key, new HotKey(key, estimate, now));
+        if (previous == null || isExpired(previous, now)) {
+            promotions.incrementAndGet();
+            log.info("Cache key promoted to hot: {} (~{} accesses in window)", key, estimate);
+        }
+    }
+
+    private boolean isHot(String key, long now) {
+        HotKey hotKey = hotKeys.get(key);
+        return hotKey != null && !isExpired(hotKey, now);
+    }
+
+    private boolean isExpired(HotKey hotKey, long now) {
+        return now - hotKey.lastHotMillis() >= bucketMillis * buckets;
+    }
+
+    private void expireHotKeys(long now) {
+        hotKeys.values().removeIf(hotKey -> isExpired(hotKey, now));
+    }
+
+    private int index(int row, int hash) {
+        int h = (hash ^ SEEDS[row]) * 0x9E3779B1;
+        h ^= h >>> 16;
+        return row * (widthMask + 1) + (h & widthMask);
+    }
+
+    /**
+     * A hot key with its estimated access count over the window when last seen hot
+     */
+    public record HotKey(String key, long estimate, long lastHotMillis) {
+    }
+}
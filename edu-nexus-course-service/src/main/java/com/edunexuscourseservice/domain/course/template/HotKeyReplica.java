@@ -0,0 +1,81 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-TTL local replica of hot keys (see HotKeyDetector)
+ * <p>
+ * When one course trends, every instance reads the same Redis keys on one shard.
+ * Values of keys detected as hot are kept in-process for a short TTL on each instance,
+ * so reads of a viral key are spread over the course-service instances instead.
+ * - Independent of the optional L1 tier, and only ever holds hot keys
+ * - Writes drop the replica on every instance through CacheInvalidationBus; the TTL
+ *   only bounds staleness when an invalidation message is lost
+ */
+@Component
+public class HotKeyReplica {
+
+    private final HotKeyDetector detector;
+    private final CacheMetrics metrics;
+    private final Cache<String, Object> replicas;
+
+    public HotKeyReplica(HotKeyDetector detector,
+                         CacheMetrics metrics,
+                         @Value("${redis.cache.hot-key.replica-ttl:2s}") Duration ttl,
+                         @Value("${redis.cache.hot-key.max-keys:128}") int maxHotKeys) {
+        this.detector = detector;
+        this.metrics = metrics;
+        this.replicas = Caffeine.newBuilder()
+                .maximumSize(maxHotKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return detector.isEnabled();
+    }
+
+    /**
+     * Count an access of the key and return its local replica if the key is hot
+     *
+     * @param key Cache key
+     * @return Replicated value, or null if the key is not hot or not replicated yet
+     */
+    public Object get(String key) {
+        if (!detector.recordAccess(key)) {
+            return null;
+        }
+
+        Object value = replicas.getIfPresent(key);
+        if (value != null) {
+            metrics.recordReplicaHit();
+        }
+        return value;
+    }
+
+    /**
+     * Replicate a value just read from Redis or the source, if its key is hot
+     *
+     * @param key Cache key
+     * @param value Value
+     */
+    public void offer(String key, Object value) {
+        if (value != null && detector.isHot(key)) {
+            replicas.put(key, value);
+        }
+    }
+
+    /**
+     * Drop the local replica of a key
+     *
+     * @param key Cache key
+     */
+    public void invalidate(String key) {
+        replicas.invalidate(key);
+    }
+}
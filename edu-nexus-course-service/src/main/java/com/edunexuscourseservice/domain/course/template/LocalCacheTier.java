@@ -0,0 +1,119 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process L1 cache tier in front of Redis (L2)
+ * <p>
+ * Optional, disabled by default (redis.cache.l1.enabled=true to enable):
+ * - Bounded size with Caffeine's W-TinyLFU eviction
+ * - Per-key TTL capped by both the L1 TTL and the Redis TTL of the entry
+ * - Cross-replica invalidation handled by CacheInvalidationBus
+ */
+@Slf4j
+@Component
+public class LocalCacheTier {
+
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final CacheMetrics metrics;
+    private final Cache<String, LocalEntry> cache;
+
+    public LocalCacheTier(@Value("${redis.cache.l1.enabled:false}") boolean enabled,
+                          @Value("${redis.cache.l1.maximum-size:10000}") long maximumSize,
+                          @Value("${redis.cache.l1.ttl:30s}") Duration maxTtl,
+                          CacheMetrics metrics) {
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new LocalEntryExpiry())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get value from the local tier
+     *
+     * @param key Cache key
+     * @return Cached value, or null on miss (always null when disabled)
+     */
+    public Object get(String key) {
+        if (!enabled) {
+            return null;
+        }
+
+        LocalEntry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            metrics.recordL1Hit();
+            log.debug("L1 cache HIT for key: {}", key);
+            return entry.value();
+        }
+
+        metrics.recordL1Miss();
+        return null;
+    }
+
+    /**
+     * Put value in the local tier
+     *
+     * @param key Cache key
+     * @param value Value to cache
+     * @param redisTtl TTL of the same entry in Redis; the local TTL never exceeds it
+     */
+    public void put(String key, Object value, Duration redisTtl) {
+        if (!enabled || value == null) {
+            return;
+        }
+
+        Duration ttl = redisTtl.compareTo(maxTtl) < 0 ? redisTtl : maxTtl;
+        cache.put(key, new LocalEntry(value, ttl.toNanos()));
+    }
+
+    /**
+     * Drop a key from this instance only
+     *
+     * @param key Cache key
+     */
+    public void invalidate(String key) {
+        if (enabled) {
+            cache.invalidate(key);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record LocalEntry(Object value, long ttlNanos) {
+    }
+
+    private static class LocalEntryExpiry implements Expiry<String, LocalEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalEntry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalEntry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
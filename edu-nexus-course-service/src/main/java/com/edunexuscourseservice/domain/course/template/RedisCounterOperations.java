@@ -2,23 +2,112 @@ package com.edunexuscourseservice.domain.course.template;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Redis counter operations
  * <p>
  * Handles atomic increment/decrement operations with TTL management.
  * Used for rating totals, counts, and other numeric counters.
+ * <p>
+ * Hash counters keep related fields (e.g. rating total and count) in one Redis hash.
+ * Updates run as a single Lua script so all fields and the TTL change atomically
+ * in one round trip; reads fetch all fields, the version and the PTTL with one script call.
+ * Hash values are plain decimal strings so HINCRBY works on them.
+ * Pipelined script calls are sent as EVALSHA; only calls that hit a node without the
+ * script cached are re-sent with the full body (EVAL), which also caches it there.
+ * <p>
+ * Every delta bumps a version field, even while the hash is not seeded (the hash then
+ * holds only the version). Seeding from the source is a compare-and-set on that version:
+ * the caller reads the version, then the source, and the write is dropped if a delta
+ * landed in between, instead of overwriting it with a snapshot that may not include it.
+ * <p>
+ * Batched deltas can be tracked per change with a marker key set in the same script
+ * (see CounterDeltas), so a retried pipeline never applies a change twice.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisCounterOperations {
 
+    static final String VERSION_FIELD = "_v";
+
+    // KEYS[1] = hash key, ARGV[1] = TTL in millis, ARGV[2..] = field/delta pairs
+    // Fields are only updated on a seeded hash: deltas on an expired hash would produce partial aggregates
+    private static final RedisScript<Long> HINCRBY_IF_SEEDED_SCRIPT = new DefaultRedisScript<>(
+            "local seeded = redis.call('HLEN', KEYS[1]) > redis.call('HEXISTS', KEYS[1], '" + VERSION_FIELD + "') " +
+            "redis.call('HINCRBY', KEYS[1], '" + VERSION_FIELD + "', 1) " +
+            "if seeded then " +
+            "  for i = 2, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "if seeded then return 1 end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1] = hash key, KEYS[2..] = change markers, ARGV[1] = TTL in millis, ARGV[2] = marker TTL in millis,
+    // ARGV[3] = field count n, ARGV[4..3+n] = fields, then n untracked deltas, then n deltas per marker
+    // A change is summed only if its marker is newly set; markers are set on an unseeded hash too,
+    // so a change already contained in a later seed is not applied on redelivery
+    private static final RedisScript<Long> HINCRBY_ONCE_IF_SEEDED_SCRIPT = new DefaultRedisScript<>(
+            "local n = tonumber(ARGV[3]) " +
+            "local sums = {} " +
+            "local changed = false " +
+            "for f = 1, n do " +
+            "  sums[f] = tonumber(ARGV[3 + n + f]) " +
+            "  if sums[f] ~= 0 then changed = true end " +
+            "end " +
+            "for k = 2, #KEYS do " +
+            "  if redis.call('SET', KEYS[k], '1', 'NX', 'PX', ARGV[2]) then " +
+            "    changed = true " +
+            "    for f = 1, n do sums[f] = sums[f] + tonumber(ARGV[3 + n * k + f]) end " +
+            "  end " +
+            "end " +
+            "if not changed then return 0 end " +
+            "local seeded = redis.call('HLEN', KEYS[1]) > redis.call('HEXISTS', KEYS[1], '" + VERSION_FIELD + "') " +
+            "redis.call('HINCRBY', KEYS[1], '" + VERSION_FIELD + "', 1) " +
+            "if seeded then " +
+            "  for f = 1, n do if sums[f] ~= 0 then redis.call('HINCRBY', KEYS[1], ARGV[3 + f], sums[f]) end end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "if seeded then return 1 end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1] = hash key, ARGV[1] = TTL in millis, ARGV[2] = expected version, ARGV[3..] = field/value pairs
+    private static final RedisScript<Long> HSET_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('HGET', KEYS[1], '" + VERSION_FIELD + "') or '0') ~= ARGV[2] then return 0 end " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // KEYS[1] = hash key, ARGV = fields; returns the field values, then the version, then the PTTL
+    private static final RedisScript<List> HMGET_WITH_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local result = redis.call('HMGET', KEYS[1], unpack(ARGV)) " +
+            "result[#ARGV + 1] = redis.call('HGET', KEYS[1], '" + VERSION_FIELD + "') " +
+            "result[#ARGV + 2] = redis.call('PTTL', KEYS[1]) " +
+            "return result",
+            List.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     /**
      * Increment counter atomically (for rating totals/counts)
@@ -42,4 +131,296 @@ public class RedisCounterOperations {
             throw e; // Re-throw for counters as they're business-critical
         }
     }
+
+    /**
+     * Apply deltas to several fields of a hash counter and refresh its TTL atomically
+     * <p>
+     * Fields are left alone if the hash is not seeded; the caller is expected to re-seed it
+     * from the source. The version is bumped either way.
+     *
+     * @param key Hash key
+     * @param deltas Field to delta (iteration order is preserved)
+     * @param ttl Time to live (resets on each update)
+     * @return true if the hash existed and was updated
+     * @throws Exception if the script fails (counters are business-critical)
+     */
+    public boolean incrementFields(String key, Map<String, Long> deltas, Duration ttl) {
+        try {
+            Long applied = stringRedisTemplate.execute(
+                    HINCRBY_IF_SEEDED_SCRIPT, List.of(key), scriptArgs(ttl, deltas));
+            return applied != null && applied == 1L;
+        } catch (Exception e) {
+            log.warn("Failed to increment hash key: {}. Error: {}", key, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Apply deltas to many hash counters in one pipelined round trip
+     * <p>
+     * Each hash is updated atomically (one script call per key); like
+     * {@link #incrementFields}, fields of hashes that are not seeded are left untouched.
+     * Tracked deltas are applied only if their marker key was not set yet, so calling this
+     * again with the same changes (e.g. after a partially failed pipeline) is safe.
+     *
+     * @param deltasByKey Hash key to its deltas
+     * @param ttl Time to live (resets on each update)
+     * @param markerTtl How long a change marker is kept, i.e. how late a redelivery is still detected
+     * @return Number of seeded hashes that were updated
+     * @throws Exception if the pipeline fails (counters are business-critical)
+     */
+    public long incrementAllFields(Map<String, CounterDeltas> deltasByKey, Duration ttl, Duration markerTtl) {
+        List<ScriptCall> calls = new ArrayList<>(deltasByKey.size());
+        deltasByKey.forEach((key, deltas) -> calls.add(trackedCall(key, deltas, ttl, markerTtl)));
+
+        return evalPipelined(HINCRBY_ONCE_IF_SEEDED_SCRIPT, ReturnType.INTEGER, calls).stream()
+                .filter(result -> result instanceof Long applied && applied == 1L)
+                .count();
+    }
+
+    /**
+     * Write all fields of a hash counter and set its TTL, if its version is still the expected one
+     *
+     * @param key Hash key
+     * @param values Field to value
+     * @param expectedVersion Version read before the values were loaded from the source
+     * @param ttl Time to live
+     * @return true if written, false if a delta landed since the version was read
+     */
+    public boolean putFields(String key, Map<String, Long> values, long expectedVersion, Duration ttl) {
+        Long written = stringRedisTemplate.execute(
+                HSET_IF_VERSION_SCRIPT, List.of(key), versionedArgs(ttl, expectedVersion, values));
+        return written != null && written == 1L;
+    }
+
+    /**
+     * Write several hash counters in one pipelined round trip, each only if its version is unchanged
+     *
+     * @param valuesByKey Hash key to field values
+     * @param expectedVersions Hash key to the version read before the values were loaded (missing = 0)
+     * @param ttl Time to live
+     * @return Number of hashes written
+     */
+    public long putAllFields(Map<String, Map<String, Long>> valuesByKey, Map<String, Long> expectedVersions, Duration ttl) {
+        List<ScriptCall> calls = new ArrayList<>(valuesByKey.size());
+        valuesByKey.forEach((key, values) ->
+                calls.add(new ScriptCall(List.of(key), versionedArgs(ttl, expectedVersions.getOrDefault(key, 0L), values))));
+
+        return evalPipelined(HSET_IF_VERSION_SCRIPT, ReturnType.INTEGER, calls).stream()
+                .filter(result -> result instanceof Long written && written == 1L)
+                .count();
+    }
+
+    /**
+     * Read the current versions of several hash counters in one pipelined round trip
+     * <p>
+     * Call this before loading the values to seed from the source.
+     *
+     * @param keys Hash keys
+     * @return Versions in key order (0 for hashes that don't exist)
+     */
+    public List<Long> getVersions(List<String> keys) {
+        byte[] versionField = VERSION_FIELD.getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.hashCommands().hGet(key.getBytes(StandardCharsets.UTF_8), versionField);
+            }
+            return null;
+        });
+
+        List<Long> versions = new ArrayList<>(keys.size());
+        for (Object result : results) {
+            versions.add(result == null ? 0L : Long.parseLong(result.toString()));
+        }
+        return versions;
+    }
+
+    /**
+     * Read the same fields of several hash counters in one pipelined round trip
+     * <p>
+     * One script call per key returns the fields together with the version and the PTTL,
+     * so callers get everything they need for an early refresh without a second round trip.
+     *
+     * @param keys Hash keys
+     * @param fields Fields to read
+     * @return Per key, a snapshot of the fields in {@code fields} order
+     */
+    public List<CounterSnapshot> multiGetFields(List<String> keys, List<String> fields) {
+        List<ScriptCall> calls = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            calls.add(new ScriptCall(List.of(key), fields.toArray()));
+        }
+
+        long now = System.currentTimeMillis();
+        List<Object> results = evalPipelined(HMGET_WITH_VERSION_SCRIPT, ReturnType.MULTI, calls);
+
+        List<CounterSnapshot> snapshots = new ArrayList<>(keys.size());
+        for (Object result : results) {
+            snapshots.add(toSnapshot(result, fields.size(), now));
+        }
+        return snapshots;
+    }
+
+    private List<Object> evalPipelined(RedisScript<?> script, ReturnType returnType, List<ScriptCall> calls) {
+        try {
+            return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ScriptCall call : calls) {
+                    connection.scriptingCommands().evalSha(script.getSha1(), returnType, call.keys().size(), call.keysAndArgs());
+                }
+                return null;
+            });
+        } catch (RedisPipelineException e) {
+            return retryNoScript(script, returnType, calls, e);
+        }
+    }
+
+    /**
+     * Re-send with EVAL the calls of a pipeline that failed with NOSCRIPT (e.g. after a restart
+     * or failover flushed the script cache). Calls that ran are not repeated; any other failure is rethrown.
+     */
+    private List<Object> retryNoScript(RedisScript<?> script, ReturnType returnType,
+                                       List<ScriptCall> calls, RedisPipelineException e) {
+        List<Object> results = e.getResults();
+        if (results == null || results.size() != calls.size()) {
+            throw e;
+        }
+
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) instanceof Throwable failure) {
+                if (!isNoScript(failure)) {
+                    throw e;
+                }
+                missing.add(i);
+            }
+        }
+        log.debug("Script {} not cached, re-sending {} of {} calls with EVAL", script.getSha1(), missing.size(), results.size());
+
+        byte[] scriptBytes = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        List<Object> retried = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i : missing) {
+                ScriptCall call = calls.get(i);
+                connection.scriptingCommands().eval(scriptBytes, returnType, call.keys().size(), call.keysAndArgs());
+            }
+            return null;
+        });
+
+        // Results of a failed pipeline are not deserialized by the template
+        List<Object> merged = new ArrayList<>(results.size());
+        for (Object result : results) {
+            merged.add(decode(result));
+        }
+        for (int i = 0; i < missing.size(); i++) {
+            merged.set(missing.get(i), retried.get(i));
+        }
+        return merged;
+    }
+
+    private static boolean isNoScript(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object decode(Object raw) {
+        if (raw instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (raw instanceof List<?> list) {
+            List<Object> decoded = new ArrayList<>(list.size());
+            for (Object element : list) {
+                decoded.add(decode(element));
+            }
+            return decoded;
+        }
+        return raw;
+    }
+
+    private static CounterSnapshot toSnapshot(Object result, int fieldCount, long now) {
+        if (!(result instanceof List<?> raw) || raw.size() < fieldCount + 2) {
+            return new CounterSnapshot(null, 0L, 0L);
+        }
+
+        List<Long> values = toLongs(raw.subList(0, fieldCount));
+        long version = raw.get(fieldCount) == null ? 0L : Long.parseLong(raw.get(fieldCount).toString());
+        long pttl = Long.parseLong(raw.get(fieldCount + 1).toString());
+        // PTTL: -2 = no such key, -1 = no TTL
+        long expiresAtMillis = pttl == -2 ? 0L : pttl == -1 ? Long.MAX_VALUE : now + pttl;
+        return new CounterSnapshot(values, version, expiresAtMillis);
+    }
+
+    private static List<Long> toLongs(List<?> raw) {
+        if (raw.stream().allMatch(v -> v == null)) {
+            return null;
+        }
+
+        List<Long> longs = new ArrayList<>(raw.size());
+        for (Object value : raw) {
+            longs.add(value == null ? null : Long.valueOf(value.toString()));
+        }
+        return Collections.unmodifiableList(longs);
+    }
+
+    private static Object[] scriptArgs(Duration ttl, Map<String, Long> fieldValues) {
+        Object[] args = new Object[1 + fieldValues.size() * 2];
+        args[0] = String.valueOf(ttl.toMillis());
+        int i = 1;
+        for (Map.Entry<String, Long> entry : fieldValues.entrySet()) {
+            args[i++] = entry.getKey();
+            args[i++] = String.valueOf(entry.getValue());
+        }
+        return args;
+    }
+
+    private static Object[] versionedArgs(Duration ttl, long expectedVersion, Map<String, Long> fieldValues) {
+        Object[] args = new Object[2 + fieldValues.size() * 2];
+        args[0] = String.valueOf(ttl.toMillis());
+        args[1] = String.valueOf(expectedVersion);
+        int i = 2;
+        for (Map.Entry<String, Long> entry : fieldValues.entrySet()) {
+            args[i++] = entry.getKey();
+            args[i++] = String.valueOf(entry.getValue());
+        }
+        return args;
+    }
+
+    private static ScriptCall trackedCall(String key, CounterDeltas deltas, Duration ttl, Duration markerTtl) {
+        Set<String> fields = new LinkedHashSet<>(deltas.untracked().keySet());
+        deltas.tracked().values().forEach(change -> fields.addAll(change.keySet()));
+
+        List<String> keys = new ArrayList<>(1 + deltas.tracked().size());
+        keys.add(key);
+        keys.addAll(deltas.tracked().keySet());
+
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(markerTtl.toMillis()));
+        args.add(String.valueOf(fields.size()));
+        args.addAll(fields);
+        fields.forEach(field -> args.add(String.valueOf(deltas.untracked().getOrDefault(field, 0L))));
+        deltas.tracked().values().forEach(change ->
+                fields.forEach(field -> args.add(String.valueOf(change.getOrDefault(field, 0L)))));
+        return new ScriptCall(keys, args.toArray());
+    }
+
+    /**
+     * One script call of a pipeline
+     */
+    private record ScriptCall(List<String> keys, Object[] args) {
+
+        byte[][] keysAndArgs() {
+            byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+            for (int i = 0; i < keys.size(); i++) {
+                keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+            }
+            for (int i = 0; i < args.length; i++) {
+                keysAndArgs[keys.size() + i] = args[i].toString().getBytes(StandardCharsets.UTF_8);
+            }
+            return keysAndArgs;
+        }
+    }
 }
@@ -2,29 +2,46 @@ package com.edunexuscourseservice.domain.course.template;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Redis SCAN operations
  * <p>
  * Non-blocking alternatives to KEYS command for Redis operations.
  * Uses SCAN to avoid blocking the Redis server during bulk operations.
+ * - Keys are handed out in cursor batches, so the full key set is never held in memory
+ * - Deletes use UNLINK (memory is reclaimed off the main thread), several chunks per pipeline
+ * - Keys are decoded as UTF-8, matching the StringRedisSerializer used for keys
+ * - In cluster mode, every master is scanned and UNLINKs are grouped by hash slot
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisScanOperations {
 
+    static final int SCAN_COUNT = 100;
+    static final int UNLINK_CHUNK_SIZE = 100;
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     /**
      * SCAN keys matching pattern (non-blocking alternative to KEYS)
+     * <p>
+     * Collects every match; use {@link #scanBatches} for patterns that may match many keys.
      *
      * @param pattern Key pattern to match
      * @return List of matching keys
@@ -32,16 +49,9 @@ public class RedisScanOperations {
     public List<String> scan(String pattern) {
         List<String> keys = new ArrayList<>();
         try {
-            redisTemplate.execute((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions()
-                                .match(pattern)
-                                .count(100)
-                                .build())) {
-                    if (cursor != null) {
-                        cursor.forEachRemaining(key -> keys.add(new String(key)));
-                    }
-                }
-                return null;
+            scanBatches(pattern, SCAN_COUNT, batch -> {
+                batch.forEach(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+                return true;
             });
         } catch (Exception e) {
             log.warn("SCAN failed for pattern: {}. Error: {}", pattern, e.getMessage());
@@ -49,23 +59,124 @@ public class RedisScanOperations {
         return keys;
     }
 
+    /**
+     * SCAN keys matching pattern and hand them to the consumer in batches
+     * <p>
+     * The cursor is closed as soon as the consumer returns false. Failures propagate to the caller.
+     *
+     * @param pattern Key pattern to match
+     * @param batchSize Keys per batch (also the SCAN COUNT hint)
+     * @param consumer Called with each batch of raw keys; return false to stop scanning
+     * @return Number of keys handed to the consumer
+     */
+    public long scanBatches(String pattern, int batchSize, Predicate<List<byte[]>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(batchSize)
+                .build();
+        long[] scanned = {0};
+        Predicate<List<byte[]>> counting = batch -> {
+            scanned[0] += batch.size();
+            return consumer.test(batch);
+        };
+
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            if (!(connection instanceof RedisClusterConnection cluster)) {
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    drain(cursor, batchSize, counting);
+                }
+                return null;
+            }
+
+            // SCAN is per node in cluster mode: walk every master in turn
+            for (RedisClusterNode node : cluster.clusterGetNodes()) {
+                if (!node.isMaster()) {
+                    continue;
+                }
+                try (Cursor<byte[]> cursor = cluster.scan(node, options)) {
+                    if (!drain(cursor, batchSize, counting)) {
+                        break;
+                    }
+                }
+            }
+            return null;
+        });
+        return scanned[0];
+    }
+
+    /**
+     * @return false if the consumer asked to stop
+     */
+    private static boolean drain(Cursor<byte[]> cursor, int batchSize, Predicate<List<byte[]>> consumer) {
+        List<byte[]> batch = new ArrayList<>(batchSize);
+        while (cursor.hasNext()) {
+            batch.add(cursor.next());
+            if (batch.size() >= batchSize) {
+                if (!consumer.test(batch)) {
+                    return false;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        return batch.isEmpty() || consumer.test(batch);
+    }
+
+    /**
+     * UNLINK keys in chunks, sending every chunk in one pipeline
+     * <p>
+     * In cluster mode chunks are grouped by hash slot, since a multi-key command must not span slots.
+     *
+     * @param keys Raw keys to unlink
+     * @return Number of keys that existed and were unlinked
+     */
+    public long unlink(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Collection<List<byte[]>> groups = connection instanceof RedisClusterConnection
+                    ? keys.stream().collect(Collectors.groupingBy(ClusterSlotHashUtil::calculateSlot)).values()
+                    : List.of(keys);
+            for (List<byte[]> group : groups) {
+                for (int from = 0; from < group.size(); from += UNLINK_CHUNK_SIZE) {
+                    List<byte[]> chunk = group.subList(from, Math.min(from + UNLINK_CHUNK_SIZE, group.size()));
+                    connection.keyCommands().unlink(chunk.toArray(new byte[0][]));
+                }
+            }
+            return null;
+        });
+
+        long unlinked = 0;
+        for (Object result : results) {
+            if (result instanceof Long count) {
+                unlinked += count;
+            }
+        }
+        return unlinked;
+    }
+
     /**
      * Delete keys matching pattern using SCAN (non-blocking)
+     * <p>
+     * Unlinks batch by batch as the cursor advances, without rate limiting.
+     * Large flushes should go through BulkEvictionJob instead.
      *
      * @param pattern Key pattern to match and delete
      * @return Number of keys deleted
      */
     public long deleteByPattern(String pattern) {
-        List<String> keys = scan(pattern);
-        if (!keys.isEmpty()) {
-            try {
-                Long deleted = redisTemplate.delete(keys);
-                log.info("Deleted {} keys matching pattern: {}", deleted, pattern);
-                return deleted != null ? deleted : 0;
-            } catch (Exception e) {
-                log.warn("Failed to delete keys for pattern: {}. Error: {}", pattern, e.getMessage());
-            }
+        long[] deleted = {0};
+        try {
+            scanBatches(pattern, SCAN_COUNT, batch -> {
+                deleted[0] += unlink(batch);
+                return true;
+            });
+            log.info("Deleted {} keys matching pattern: {}", deleted[0], pattern);
+        } catch (Exception e) {
+            log.warn("Failed to delete keys for pattern: {} after {} keys. Error: {}",
+                    pattern, deleted[0], e.getMessage());
         }
-        return 0;
+        return deleted[0];
     }
 }
@@ -0,0 +1,211 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of cache-miss loads
+ * <p>
+ * - In-process: concurrent callers for the same key share one in-flight future,
+ *   so the loader runs once per key per JVM
+ * - Cross-replica (optional, redis.cache.single-flight.distributed.enabled=true):
+ *   the in-process leader also takes a short SET NX PX lock; replicas that lose
+ *   the race poll Redis for the value the winner writes instead of hitting the DB,
+ *   for as long as the winner holds the lock. Once the lock is gone without a value
+ *   (the loader returned null, or the winner failed) they load locally right away
+ * <p>
+ * Coalesced loads are counted in CacheMetrics (scope=local / scope=remote).
+ */
+@Slf4j
+@Component
+public class SingleFlightLoader {
+
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheMetrics metrics;
+    private final boolean distributedEnabled;
+    private final Duration lockTtl;
+    private final Duration pollInterval;
+
+    public SingleFlightLoader(RedisTemplate<String, Object> redisTemplate,
+                              StringRedisTemplate stringRedisTemplate,
+                              CacheMetrics metrics,
+                              @Value("${redis.cache.single-flight.distributed.enabled:false}") boolean distributedEnabled,
+                              @Value("${redis.cache.single-flight.distributed.lock-ttl:3s}") Duration lockTtl,
+                              @Value("${redis.cache.single-flight.distributed.poll-interval:50ms}") Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.metrics = metrics;
+        this.distributedEnabled = distributedEnabled;
+        this.lockTtl = lockTtl;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Run the loader once per key across all concurrent callers
+     *
+     * @param key Cache key being loaded
+     * @param loader Loads the value and writes it to Redis
+     * @param <T> Type of loaded value
+     * @return Loaded value (shared by all coalesced callers)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        return load(key, loader, cached -> (T) cached);
+    }
+
+    /**
+     * Run the loader once per key across all concurrent callers
+     *
+     * @param key Cache key being loaded
+     * @param loader Loads the value and writes it to Redis
+     * @param fromCached Turns what the loader stores in Redis back into its value,
+     *                   for replicas that pick up another replica's fill
+     * @param <T> Type of loaded value
+     * @return Loaded value (shared by all coalesced callers)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader, Function<Object, T> fromCached) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            metrics.recordLocalCoalesced();
+            log.debug("Coalesced load for key: {} onto in-flight request", key);
+            return (T) await(existing);
+        }
+
+        try {
+            T value = distributedEnabled ? loadUnderLock(key, loader, fromCached) : loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> T loadUnderLock(String key, Supplier<T> loader, Function<Object, T> fromCached) {
+        String lockKey = key + LOCK_SUFFIX;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        } catch (Exception e) {
+            log.warn("Failed to acquire load lock for key: {}, loading without it. Error: {}", key, e.getMessage());
+            return loader.get();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return loader.get();
+            } finally {
+                releaseLock(lockKey, token);
+            }
+        }
+
+        Object cached = awaitRemoteFill(key, lockKey);
+        T value = cached == null ? null : fromCached.apply(cached);
+        if (value != null) {
+            metrics.recordRemoteCoalesced();
+            log.debug("Coalesced load for key: {} onto another replica", key);
+            return value;
+        }
+
+        log.debug("Another replica released key: {} without a cached value, loading locally", key);
+        return loader.get();
+    }
+
+    /**
+     * Poll for the value while the winning replica still holds the lock
+     * <p>
+     * The wait is bounded by the lock's remaining PTTL, and ends as soon as the lock
+     * is released: a released lock without a value means the winner cached nothing.
+     */
+    private Object awaitRemoteFill(String key, String lockKey) {
+        long deadline;
+        try {
+            Long lockMillis = stringRedisTemplate.getExpire(lockKey, TimeUnit.MILLISECONDS);
+            if (lockMillis == null || lockMillis <= 0) {
+                // -2: already released, -1 cannot happen (always set with PX)
+                return redisTemplate.opsForValue().get(key);
+            }
+            deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockMillis);
+        } catch (Exception e) {
+            log.warn("Cache PTTL failed for lock: {}. Error: {}", lockKey, e.getMessage());
+            return null;
+        }
+
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            try {
+                // Check the lock first: once it is gone, the GET below sees whatever the winner wrote
+                boolean released = !Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey));
+                Object value = redisTemplate.opsForValue().get(key);
+                if (value != null || released) {
+                    return value;
+                }
+            } catch (Exception e) {
+                log.warn("Cache GET failed while waiting for key: {}. Error: {}", key, e.getMessage());
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // Lock expires by itself after lockTtl
+            log.warn("Failed to release load lock: {}. Error: {}", lockKey, e.getMessage());
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
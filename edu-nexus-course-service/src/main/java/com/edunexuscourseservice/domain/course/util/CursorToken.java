@@ -0,0 +1,51 @@
+package com.edunexuscourseservice.domain.course.util;
+
+import com.edunexus.common.exception.ErrorCode;
+import com.edunexus.common.exception.ValidationException;
+import org.springframework.util.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination
+ * <p>
+ * Wraps the last ID of the previous page as URL-safe Base64, so clients pass it
+ * back unchanged and never depend on (or tamper with) the key it encodes.
+ */
+public class CursorToken {
+
+    private static final int TOKEN_BYTES = Long.BYTES;
+
+    private CursorToken() {
+    }
+
+    public static String encode(long lastId) {
+        byte[] bytes = ByteBuffer.allocate(TOKEN_BYTES).putLong(lastId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @return Last ID seen by the client, or 0 for the first page (no cursor)
+     * @throws ValidationException if the cursor was not produced by encode
+     */
+    public static long decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return 0L;
+        }
+
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != TOKEN_BYTES) {
+                throw new IllegalArgumentException("Unexpected cursor length: " + bytes.length);
+            }
+            long lastId = ByteBuffer.wrap(bytes).getLong();
+            if (lastId < 0) {
+                throw new IllegalArgumentException("Negative cursor position");
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCode.INVALID_INPUT, "Invalid cursor: " + cursor);
+        }
+    }
+}
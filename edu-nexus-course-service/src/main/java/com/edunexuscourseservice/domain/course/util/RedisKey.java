@@ -1,9 +1,18 @@
 package com.edunexuscourseservice.domain.course.util;
 
+/**
+ * Redis key layout of the course service: {database}:{table}:{attribute}:{hash tag}
+ * <p>
+ * Per-course keys carry the course ID as a cluster hash tag, so every key of one course
+ * (entity, rating stats, applied rating event markers, their single-flight locks) hashes to
+ * the same slot in cluster mode.
+ */
 public enum RedisKey {
-    COURSE_RATING_TOTAL("edu-nexus-course", "course_ratings", "total"),
-    COURSE_RATING_COUNT("edu-nexus-course", "course_ratings", "count"),
+    COURSE_RATING_STATS("edu-nexus-course", "course_ratings", "stats"),
+    COURSE_RATING_EVENT("edu-nexus-course", "course_ratings", "event"),
     COURSE("edu-nexus-course", "course", "entity"),
+    COURSE_LIST("edu-nexus-course", "course", "list"),
+    COURSE_CATALOG_VERSION("edu-nexus-course", "course", "catalog_version"),
     ;
 
     private final String database;
@@ -18,11 +27,20 @@ public enum RedisKey {
 
     /**
      * Key 생성 메서드
-     * @param id 리소스 ID
+     * @param id 리소스 ID (클러스터 해시 태그로 사용)
      * @return 완전한 Redis 키
      */
     public String getKey(Long id) {
-        return String.format("%s:%s:%s:%d", database, table, attribute, id);
+        return String.format("%s:%s:%s:%s", database, table, attribute, hashTag(id));
+    }
+
+    /**
+     * 클러스터 해시 태그: 같은 ID의 키는 같은 슬롯에 저장된다
+     * @param id 리소스 ID
+     * @return "{id}"
+     */
+    public static String hashTag(Long id) {
+        return "{" + id + "}";
     }
 
     /**
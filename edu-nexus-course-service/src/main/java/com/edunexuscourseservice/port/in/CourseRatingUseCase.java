@@ -2,6 +2,8 @@ package com.edunexuscourseservice.port.in;
 
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 
 import java.util.List;
 import java.util.Map;
@@ -16,10 +18,30 @@ import java.util.Optional;
  */
 public interface CourseRatingUseCase {
     CourseRating addRatingToCourse(Long courseId, CourseRating courseRating);
+
+    /**
+     * Add several ratings to one course in a single transaction.
+     * Inserts are sent as JDBC batches and the rating cache gets one aggregated event.
+     *
+     * @param courseId Course ID
+     * @param courseRatings Ratings to add (at most course.bulk.max-size)
+     * @return Saved ratings, in input order
+     */
+    List<CourseRating> addRatingsToCourse(Long courseId, List<CourseRating> courseRatings);
     CourseRating updateRating(Long ratingId, CourseRating newCourseRating);
     Optional<CourseRating> getRating(Long ratingId);
     void deleteRating(Long ratingId);
     List<CourseRating> getAllRatingsByCourseId(Long courseId);
+
+    /**
+     * Get ratings of a course with keyset (cursor) pagination, ordered by rating ID.
+     *
+     * @param courseId Course ID
+     * @param cursor Continuation token from the previous page (null for the first page)
+     * @param size Page size (clamped to CursorPage.MAX_SIZE)
+     * @return Page of ratings with the token for the next page
+     */
+    CursorPage<CourseRating> getRatingsByCourseIdAfter(Long courseId, String cursor, Integer size);
     Double getAverageRatingByCourseId(Long courseId);
 
     /**
@@ -30,4 +52,13 @@ public interface CourseRatingUseCase {
      * @return Map of courseId to average rating
      */
     Map<Long, Double> getAverageRatingsByCourseIds(List<Long> courseIds);
+
+    /**
+     * Get the rating totals and 1-5 star histogram of a course from the database.
+     * Served from the materialized COURSE_RATING_STATS row (primary key read).
+     *
+     * @param courseId Course ID
+     * @return Rating distribution (all zero if the course has no ratings)
+     */
+    CourseRatingDistribution getRatingDistribution(Long courseId);
 }
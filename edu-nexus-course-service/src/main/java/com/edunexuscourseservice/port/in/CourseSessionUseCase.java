@@ -1,6 +1,7 @@
 package com.edunexuscourseservice.port.in;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseSession;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,6 +10,15 @@ import java.util.Optional;
 
 public interface CourseSessionUseCase {
     CourseSession addSessionToCourse(Long courseId, CourseSession courseSession);
+
+    /**
+     * Add several sessions to one course in a single transaction, inserted as JDBC batches.
+     *
+     * @param courseId Course ID
+     * @param courseSessions Sessions to add (at most course.bulk.max-size)
+     * @return Saved sessions, in input order
+     */
+    List<CourseSession> addSessionsToCourse(Long courseId, List<CourseSession> courseSessions);
     CourseSession updateSession(Long sessionId, CourseSession newCourseSession);
     Optional<CourseSession> getSession(Long sessionId);
     List<CourseSession> getAllSessionsByCourseId(Long courseId);
@@ -22,4 +32,15 @@ public interface CourseSessionUseCase {
      * @return Page of course sessions
      */
     Page<CourseSession> getSessionsByCourseIdPaged(Long courseId, Pageable pageable);
+
+    /**
+     * Get sessions by course ID with keyset (cursor) pagination, ordered by session ID.
+     * Unlike getSessionsByCourseIdPaged(), no COUNT query is issued and deep pages stay cheap.
+     *
+     * @param courseId Course ID
+     * @param cursor Continuation token from the previous page (null for the first page)
+     * @param size Page size (clamped to CursorPage.MAX_SIZE)
+     * @return Page of course sessions with the token for the next page
+     */
+    CursorPage<CourseSession> getSessionsByCourseIdAfter(Long courseId, String cursor, Integer size);
 }
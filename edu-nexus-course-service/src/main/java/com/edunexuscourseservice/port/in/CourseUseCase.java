@@ -2,6 +2,8 @@ package com.edunexuscourseservice.port.in;
 
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -11,14 +13,25 @@ public interface CourseUseCase {
     Course saveCourse(Course course);
     Course updateCourse(Long courseId, Course newCourse);
     Optional<Course> getCourseById(Long courseId);
-    List<Course> getAllCourses(CourseSearchCondition condition, Pageable pageable);
+    List<CourseSummaryDto> getAllCourses(CourseSearchCondition condition, Pageable pageable);
+
+    /**
+     * Keyset (cursor) paginated course listing, ordered by course ID.
+     * Each page seeks past the cursor instead of skipping rows, so deep pages are as cheap as the first.
+     *
+     * @param condition Search condition
+     * @param cursor Continuation token from the previous page (null for the first page)
+     * @param size Page size (clamped to CursorPage.MAX_SIZE)
+     * @return Page of courses with the token for the next page
+     */
+    CursorPage<CourseSummaryDto> getCoursesAfter(CourseSearchCondition condition, String cursor, Integer size);
 
     /**
      * Batch fetch courses by IDs to avoid N+1 queries.
      * Optimized for GraphQL batch loading and other scenarios requiring multiple courses.
      *
      * @param courseIds List of course IDs
-     * @return List of courses (only found ones)
+     * @return List of course summaries (only found ones)
      */
-    List<Course> getCoursesByIds(List<Long> courseIds);
+    List<CourseSummaryDto> getCoursesByIds(List<Long> courseIds);
 }
@@ -15,4 +15,18 @@ INSERT INTO COURSE_RATINGS (rating_id, course_id, user_id, rating, comment, crea
 VALUES (100, 100, 100, 5, '훌륭한 강의입니다!', '2023-01-03 12:00:00'),
        (200, 100, 101, 4, '아주 좋았지만 조금 어려웠어요', '2023-01-04 12:00:00'),
        (300, 200, 102, 5, '초보자에게 최고의 강의', '2023-01-05 12:00:00'),
-       (400, 200, 103, 3, '내용은 좋지만 구성이 조금 아쉽네요', '2023-01-06 12:00:00');
\ No newline at end of file
+       (400, 200, 103, 3, '내용은 좋지만 구성이 조금 아쉽네요', '2023-01-06 12:00:00');
+
+-- 강의별 평점 집계(COURSE_RATING_STATS) 초기화: 기존 평가로부터 계산
+INSERT INTO COURSE_RATING_STATS (course_id, rating_sum, rating_count, star_1, star_2, star_3, star_4, star_5)
+SELECT c.course_id,
+       COALESCE(SUM(r.rating), 0),
+       COUNT(r.rating_id),
+       SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END)
+FROM COURSES c
+         LEFT JOIN COURSE_RATINGS r ON r.course_id = c.course_id
+GROUP BY c.course_id;
\ No newline at end of file
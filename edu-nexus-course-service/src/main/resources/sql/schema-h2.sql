@@ -8,9 +8,11 @@ CREATE TABLE COURSES
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+CREATE INDEX IDX_COURSES_UPDATED_AT ON COURSES (updated_at);
+
 CREATE TABLE COURSE_SESSIONS
 (
-    session_id INTEGER AUTO_INCREMENT PRIMARY KEY,
+    session_id INTEGER PRIMARY KEY,
     course_id  INT NOT NULL,
     title      VARCHAR(255) NOT NULL,
     FOREIGN KEY (course_id) REFERENCES COURSES(course_id)
@@ -18,7 +20,7 @@ CREATE TABLE COURSE_SESSIONS
 
 CREATE TABLE COURSE_RATINGS
 (
-    rating_id  INTEGER AUTO_INCREMENT PRIMARY KEY,
+    rating_id  INTEGER PRIMARY KEY,
     course_id  INT NOT NULL,
     user_id    INT NOT NULL,
     rating     INTEGER NOT NULL,
@@ -26,4 +28,31 @@ CREATE TABLE COURSE_RATINGS
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (course_id) REFERENCES COURSES(course_id)
-);
\ No newline at end of file
+);
+
+-- 세션/평가 ID는 시퀀스에서 50개씩 할당 (pooled-lo): IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있다
+-- 시작 값은 data.sql의 고정 ID 이후
+CREATE SEQUENCE COURSE_SESSIONS_SEQ START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE COURSE_RATINGS_SEQ START WITH 1000 INCREMENT BY 50;
+
+CREATE TABLE RATING_OUTBOX
+(
+    outbox_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    topic       VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    payload     BLOB NOT NULL,
+    created_at  DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE TABLE COURSE_RATING_STATS
+(
+    course_id    INT PRIMARY KEY,
+    rating_sum   BIGINT DEFAULT 0 NOT NULL,
+    rating_count BIGINT DEFAULT 0 NOT NULL,
+    star_1       BIGINT DEFAULT 0 NOT NULL,
+    star_2       BIGINT DEFAULT 0 NOT NULL,
+    star_3       BIGINT DEFAULT 0 NOT NULL,
+    star_4       BIGINT DEFAULT 0 NOT NULL,
+    star_5       BIGINT DEFAULT 0 NOT NULL,
+    FOREIGN KEY (course_id) REFERENCES COURSES(course_id)
+);
@@ -1,6 +1,6 @@
 CREATE TABLE COURSE_RATINGS
 (
-    rating_id  INT      NOT NULL     AUTO_INCREMENT COMMENT '평가의 고유 식별자',
+    rating_id  INT      NOT NULL COMMENT '평가의 고유 식별자 (COURSE_RATINGS_SEQ에서 할당)',
     course_id  INT      NOT NULL COMMENT '평가가 속한 강의의 ID, COURSES 테이블 참조',
     user_id    INT      NOT NULL COMMENT '평가를 남긴 사용자의 ID',
     rating     TINYINT  NOT NULL COMMENT '사용자가 부여한 평점 (1-5)',
@@ -12,7 +12,7 @@ CREATE TABLE COURSE_RATINGS
 
 CREATE TABLE COURSE_SESSIONS
 (
-    session_id INT          NOT NULL     AUTO_INCREMENT COMMENT '세션의 고유 식별자',
+    session_id INT          NOT NULL COMMENT '세션의 고유 식별자 (COURSE_SESSIONS_SEQ에서 할당)',
     course_id  INT          NOT NULL COMMENT '해당 세션이 속한 강의의 ID, COURSES 테이블 참조',
     title      VARCHAR(255) NOT NULL COMMENT '세션의 제목',
     PRIMARY KEY (session_id)
@@ -29,6 +29,49 @@ CREATE TABLE COURSES
     PRIMARY KEY (course_id)
 ) COMMENT '강의 기본 정보를 저장하는 테이블';
 
+-- 검색 인덱스 동기화가 updated_at 범위로 변경된 강의를 찾는다
+CREATE INDEX IDX_COURSES_UPDATED_AT ON COURSES (updated_at);
+
+-- MySQL에는 시퀀스가 없으므로 Hibernate가 한 행짜리 테이블로 시퀀스를 대신한다 (next_val = 다음에 할당할 ID)
+-- ID는 50개씩 할당 (pooled-lo) 되어 세션/평가 INSERT를 JDBC 배치로 묶을 수 있다
+-- 기존 데이터가 있는 DB에 적용할 때는 1000 대신 MAX(ID) + 1 로 초기화한다, 예:
+--   INSERT INTO COURSE_RATINGS_SEQ SELECT COALESCE(MAX(rating_id), 0) + 1 FROM COURSE_RATINGS;
+CREATE TABLE COURSE_SESSIONS_SEQ
+(
+    next_val BIGINT NOT NULL COMMENT '다음에 할당할 세션 ID'
+) COMMENT 'COURSE_SESSIONS ID 시퀀스';
+
+CREATE TABLE COURSE_RATINGS_SEQ
+(
+    next_val BIGINT NOT NULL COMMENT '다음에 할당할 평가 ID'
+) COMMENT 'COURSE_RATINGS ID 시퀀스';
+
+INSERT INTO COURSE_SESSIONS_SEQ (next_val) VALUES (1000);
+INSERT INTO COURSE_RATINGS_SEQ (next_val) VALUES (1000);
+
+CREATE TABLE RATING_OUTBOX
+(
+    outbox_id   BIGINT       NOT NULL     AUTO_INCREMENT COMMENT '아웃박스 이벤트의 고유 식별자 (발행 순서)',
+    topic       VARCHAR(100) NOT NULL COMMENT '발행할 Kafka 토픽',
+    message_key VARCHAR(100) NULL     COMMENT 'Kafka 메시지 키 (강의 ID)',
+    payload     MEDIUMBLOB   NOT NULL COMMENT '인코딩된 평가 이벤트 (RatingEventCodec)',
+    created_at  DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '이벤트 기록 시간',
+    PRIMARY KEY (outbox_id)
+) COMMENT '평가 변경과 같은 트랜잭션에서 기록되어 Kafka로 발행될 이벤트 (트랜잭셔널 아웃박스)';
+
+CREATE TABLE COURSE_RATING_STATS
+(
+    course_id    INT    NOT NULL COMMENT '강의 ID, COURSES 테이블 참조',
+    rating_sum   BIGINT NOT NULL DEFAULT 0 COMMENT '평점 합계',
+    rating_count BIGINT NOT NULL DEFAULT 0 COMMENT '평가 수',
+    star_1       BIGINT NOT NULL DEFAULT 0 COMMENT '1점 평가 수',
+    star_2       BIGINT NOT NULL DEFAULT 0 COMMENT '2점 평가 수',
+    star_3       BIGINT NOT NULL DEFAULT 0 COMMENT '3점 평가 수',
+    star_4       BIGINT NOT NULL DEFAULT 0 COMMENT '4점 평가 수',
+    star_5       BIGINT NOT NULL DEFAULT 0 COMMENT '5점 평가 수',
+    PRIMARY KEY (course_id)
+) COMMENT '강의별 평점 집계 (평가 추가/수정/삭제와 같은 트랜잭션에서 증분 갱신)';
+
 ALTER TABLE COURSE_SESSIONS
     ADD CONSTRAINT FK_COURSES_TO_COURSE_SESSIONS
         FOREIGN KEY (course_id)
@@ -36,5 +79,10 @@ ALTER TABLE COURSE_SESSIONS
 
 ALTER TABLE COURSE_RATINGS
     ADD CONSTRAINT FK_COURSES_TO_COURSE_RATINGS
+        FOREIGN KEY (course_id)
+            REFERENCES COURSES (course_id);
+
+ALTER TABLE COURSE_RATING_STATS
+    ADD CONSTRAINT FK_COURSES_TO_COURSE_RATING_STATS
         FOREIGN KEY (course_id)
             REFERENCES COURSES (course_id);
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.edunexuscourseservice.adapter.in.web.response.CourseInfoResponse;
 import com.edunexuscourseservice.adapter.in.web.response.CourseRatingAverageResponse;
 import com.edunexuscourseservice.adapter.in.web.response.CourseResponse;
 import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
 import com.edunexus.common.exception.NotFoundException;
 import com.edunexuscourseservice.port.in.CourseUseCase;
 import com.edunexuscourseservice.domain.course.util.RoundUtils;
@@ -273,29 +274,13 @@ class CourseControllerTest {
 
     //region Get All Courses Tests
     @Test
-    void getAllCourses_WhenCoursesExist_ShouldReturnCourseListWithRatings() throws Exception {
+    void getAllCourses_WhenCoursesExist_ShouldReturnCourseListWithRatings() {
         // given
-        Course course1 = new Course();
-        course1.setCourseInfo(CourseInfoDto.builder()
-                .title("Course 1")
-                .description("Description 1")
-                .instructorId(1L)
-                .build());
-        java.lang.reflect.Field idField1 = Course.class.getDeclaredField("id");
-        idField1.setAccessible(true);
-        idField1.set(course1, 1L);
+        CourseSummaryDto course1 = new CourseSummaryDto(1L, "Course 1", "Description 1", 1L);
 
-        Course course2 = new Course();
-        course2.setCourseInfo(CourseInfoDto.builder()
-                .title("Course 2")
-                .description("Description 2")
-                .instructorId(1L)
-                .build());
-        java.lang.reflect.Field idField2 = Course.class.getDeclaredField("id");
-        idField2.setAccessible(true);
-        idField2.set(course2, 2L);
+        CourseSummaryDto course2 = new CourseSummaryDto(2L, "Course 2", "Description 2", 1L);
 
-        List<Course> courses = List.of(course1, course2);
+        List<CourseSummaryDto> courses = List.of(course1, course2);
         Pageable pageable = PageRequest.of(0, 10);
 
         when(courseUseCase.getAllCourses(any(CourseSearchCondition.class), any(Pageable.class)))
@@ -351,30 +336,14 @@ class CourseControllerTest {
 
     //region Batch Course Tests
     @Test
-    void getCoursesByIds_WhenValidIds_ShouldReturnCoursesWithRatings() throws Exception {
+    void getCoursesByIds_WhenValidIds_ShouldReturnCoursesWithRatings() {
         // given
-        Course course1 = new Course();
-        course1.setCourseInfo(CourseInfoDto.builder()
-                .title("Batch Course 1")
-                .description("Batch Description 1")
-                .instructorId(1L)
-                .build());
-        java.lang.reflect.Field idField1 = Course.class.getDeclaredField("id");
-        idField1.setAccessible(true);
-        idField1.set(course1, 1L);
+        CourseSummaryDto course1 = new CourseSummaryDto(1L, "Batch Course 1", "Batch Description 1", 1L);
 
-        Course course2 = new Course();
-        course2.setCourseInfo(CourseInfoDto.builder()
-                .title("Batch Course 2")
-                .description("Batch Description 2")
-                .instructorId(1L)
-                .build());
-        java.lang.reflect.Field idField2 = Course.class.getDeclaredField("id");
-        idField2.setAccessible(true);
-        idField2.set(course2, 2L);
+        CourseSummaryDto course2 = new CourseSummaryDto(2L, "Batch Course 2", "Batch Description 2", 1L);
 
         List<Long> courseIds = List.of(1L, 2L);
-        List<Course> courses = List.of(course1, course2);
+        List<CourseSummaryDto> courses = List.of(course1, course2);
 
         when(courseUseCase.getCoursesByIds(courseIds)).thenReturn(courses);
         when(courseRatingUseCase.getAverageRatingsByCourseIds(courseIds))
@@ -420,20 +389,12 @@ class CourseControllerTest {
     }
 
     @Test
-    void getCoursesByIds_WhenSomeIdsNotFound_ShouldReturnOnlyFoundCourses() throws Exception {
+    void getCoursesByIds_WhenSomeIdsNotFound_ShouldReturnOnlyFoundCourses() {
         // given
-        Course foundCourse = new Course();
-        foundCourse.setCourseInfo(CourseInfoDto.builder()
-                .title("Found Course")
-                .description("Found Description")
-                .instructorId(1L)
-                .build());
-        java.lang.reflect.Field idField = Course.class.getDeclaredField("id");
-        idField.setAccessible(true);
-        idField.set(foundCourse, 1L);
+        CourseSummaryDto foundCourse = new CourseSummaryDto(1L, "Found Course", "Found Description", 1L);
 
         List<Long> courseIds = List.of(1L, 999L); // 999 doesn't exist
-        List<Course> courses = List.of(foundCourse); // Only return found courses
+        List<CourseSummaryDto> courses = List.of(foundCourse); // Only return found courses
 
         when(courseUseCase.getCoursesByIds(courseIds)).thenReturn(courses);
         when(courseRatingUseCase.getAverageRatingsByCourseIds(courseIds))
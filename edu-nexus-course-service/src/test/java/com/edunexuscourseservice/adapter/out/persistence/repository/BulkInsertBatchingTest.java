@@ -0,0 +1,127 @@
+package com.edunexuscourseservice.adapter.out.persistence.repository;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseSession;
+import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingInfoDto;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk session and rating inserts are sent as JDBC batches
+ * <p>
+ * Hibernate on in-memory H2 with the batching settings of the application profiles.
+ * IDs are drawn from the pooled sequences on persist, so the flush only prepares
+ * one INSERT per batch; with an IDENTITY key every row would be its own statement.
+ */
+@DisplayName("Bulk insert batching Tests")
+class BulkInsertBatchingTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int ROWS = 120;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Course.class)
+                .addAnnotatedClass(CourseSession.class)
+                .addAnnotatedClass(CourseRating.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bulk_insert;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    @DisplayName("Sessions of one course should be inserted in batches")
+    void sessions_InsertedInBatches() {
+        // when
+        long prepared = flushStatements(course -> i -> {
+            CourseSession session = new CourseSession();
+            session.setCourseSessionInfo("Session " + i);
+            session.setCourse(course);
+            return session;
+        });
+
+        // then
+        assertTrue(prepared <= expectedBatches(), "Expected at most " + expectedBatches() + " statements, got " + prepared);
+    }
+
+    @Test
+    @DisplayName("Ratings of one course should be inserted in batches")
+    void ratings_InsertedInBatches() {
+        // when
+        long prepared = flushStatements(course -> i -> {
+            CourseRating rating = new CourseRating();
+            rating.setCourseRatingInfo(CourseRatingInfoDto.builder()
+                    .userId((long) i)
+                    .rating(i % 5 + 1)
+                    .comment("Rating " + i)
+                    .build());
+            rating.setCourse(course);
+            return rating;
+        });
+
+        // then
+        assertTrue(prepared <= expectedBatches(), "Expected at most " + expectedBatches() + " statements, got " + prepared);
+    }
+
+    /**
+     * Persist ROWS entities of one course and count the statements prepared by the flush alone
+     */
+    private long flushStatements(Function<Course, IntFunction<Object>> rows) {
+        long[] prepared = new long[1];
+        sessionFactory.inTransaction(session -> {
+            Course course = persistCourse(session);
+            IntFunction<Object> row = rows.apply(course);
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(row.apply(i));
+            }
+
+            statistics.clear();
+            session.flush();
+            prepared[0] = statistics.getPrepareStatementCount();
+        });
+        return prepared[0];
+    }
+
+    private static Course persistCourse(Session session) {
+        Course course = new Course();
+        course.setCourseInfo(CourseInfoDto.builder()
+                .title("Spring Boot 강의")
+                .description("Spring Boot 3 기반 백엔드 개발 입문 강의")
+                .instructorId(1L)
+                .build());
+        session.persist(course);
+        return course;
+    }
+
+    private static int expectedBatches() {
+        return (ROWS + BATCH_SIZE - 1) / BATCH_SIZE;
+    }
+}
@@ -1,16 +1,28 @@
 package com.edunexuscourseservice.adapter.out.persistence.repository;
 
 import com.edunexuscourseservice.adapter.out.persistence.repository.CacheOperationTemplate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDelta;
 import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.template.CounterDeltas;
+import com.edunexuscourseservice.domain.course.template.CounterSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -23,15 +35,22 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CourseRatingRedisRepositoryTest {
 
+    private static final Duration EVENT_MARKER_TTL = Duration.ofHours(6);
+
     @Mock
     private CacheAsideTemplate cacheAsideTemplate;
 
     @Mock
     private CacheOperationTemplate operationTemplate;
 
-    @InjectMocks
     private CourseRatingRedisRepositoryImpl courseRatingRedisRepository;
 
+    @BeforeEach
+    void setUp() {
+        courseRatingRedisRepository = new CourseRatingRedisRepositoryImpl(cacheAsideTemplate, operationTemplate,
+                EVENT_MARKER_TTL);
+    }
+
     //region Cache Rating Tests
     @Test
     void cacheReviewRating_WhenValidInput_ShouldStoreInRedis() {
@@ -48,6 +67,28 @@ class CourseRatingRedisRepositoryTest {
         verify(operationTemplate).executeWithErrorHandling(any(), anyString(), eq(courseId));
     }
 
+    @Test
+    void cacheReviewRating_ShouldUpdateTotalAndCountInOneCall() {
+        // given
+        Long courseId = 123L;
+        doAnswer(invocation -> {
+            CacheOperationTemplate.CacheOperation operation = invocation.getArgument(0);
+            operation.execute();
+            return null;
+        }).when(operationTemplate).executeWithErrorHandling(any(), anyString(), any());
+        when(cacheAsideTemplate.incrementFields(anyString(), anyMap(), any())).thenReturn(true);
+
+        // when
+        courseRatingRedisRepository.cacheReviewRating(courseId, 5);
+
+        // then
+        verify(cacheAsideTemplate).incrementFields(
+                eq(RedisKeyGenerator.generateRatingStatsKey(courseId)),
+                eq(Map.of("total", 5L, "count", 1L)),
+                any());
+        verifyNoMoreInteractions(cacheAsideTemplate);
+    }
+
     @Test
     void cacheReviewRating_WhenRedisThrowsException_ShouldNotAffectBusinessLogic() {
         // given
@@ -189,7 +230,7 @@ class CourseRatingRedisRepositoryTest {
                 .thenReturn(expectedRating);
 
         // when
-        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId);
+        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId, () -> null);
 
         // then
         assertEquals(expectedRating, result);
@@ -204,7 +245,7 @@ class CourseRatingRedisRepositoryTest {
                 .thenReturn(0.0);
 
         // when
-        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId);
+        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId, () -> null);
 
         // then
         assertEquals(0.0, result);
@@ -219,7 +260,7 @@ class CourseRatingRedisRepositoryTest {
                 .thenReturn(0.0);
 
         // when
-        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId);
+        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId, () -> null);
 
         // then
         assertEquals(0.0, result);
@@ -234,7 +275,7 @@ class CourseRatingRedisRepositoryTest {
                 .thenReturn(0.0);
 
         // when
-        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId);
+        Double result = courseRatingRedisRepository.getAverageReviewRating(courseId, () -> null);
 
         // then
         assertEquals(0.0, result);
@@ -243,37 +284,166 @@ class CourseRatingRedisRepositoryTest {
 
     //region Batch Operations Tests
     @Test
-    void getAverageRatingsByCourseIds_WhenValidIds_ShouldReturnRatingsMap() {
-        // SKIPPED: Method getAverageRatingsByCourseIds was removed during refactoring
-        // This functionality is now handled at the service layer
+    void getAverageReviewRatings_WhenValidIds_ShouldReturnRatingsMap() {
+        // given
+        List<Long> courseIds = List.of(1L, 2L);
+        when(operationTemplate.executeWithErrorHandling(any(), eq(Collections.emptyMap()), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    CacheOperationTemplate.CacheOperationWithResult<?> operation = invocation.getArgument(0);
+                    return operation.execute();
+                });
+        when(cacheAsideTemplate.multiGetFields(
+                List.of(RedisKeyGenerator.generateRatingStatsKey(1L), RedisKeyGenerator.generateRatingStatsKey(2L)),
+                List.of("total", "count")))
+                .thenReturn(List.of(seeded(9L, 2L), seeded(12L, 3L)));
+
+        // when
+        Map<Long, Double> result = courseRatingRedisRepository.getAverageReviewRatings(courseIds);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(4.5, result.get(1L));
+        assertEquals(4.0, result.get(2L));
+        verify(cacheAsideTemplate, never()).getOrLoad(anyString(), any(), any());
     }
 
     @Test
-    void getAverageRatingsByCourseIds_WhenSomeIdsNotFound_ShouldReturnOnlyFoundRatings() {
-        // SKIPPED: Method getAverageRatingsByCourseIds was removed during refactoring
+    void getAverageReviewRatings_WhenSomeKeysMissing_ShouldReturnOnlyFoundRatings() {
+        // given
+        List<Long> courseIds = List.of(1L, 2L);
+        when(operationTemplate.executeWithErrorHandling(any(), eq(Collections.emptyMap()), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    CacheOperationTemplate.CacheOperationWithResult<?> operation = invocation.getArgument(0);
+                    return operation.execute();
+                });
+        when(cacheAsideTemplate.multiGetFields(anyList(), anyList()))
+                .thenReturn(List.of(seeded(9L, 2L), new CounterSnapshot(null, 3L, 0L)));
+
+        // when
+        Map<Long, Double> result = courseRatingRedisRepository.getAverageReviewRatings(courseIds);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(4.5, result.get(1L));
+        assertFalse(result.containsKey(2L));
     }
 
     @Test
-    void getAverageRatingsByCourseIds_WhenEmptyList_ShouldReturnEmptyMap() {
-        // SKIPPED: Method getAverageRatingsByCourseIds was removed during refactoring
+    void getAverageReviewRatings_WhenEmptyList_ShouldReturnEmptyMap() {
+        // when
+        Map<Long, Double> result = courseRatingRedisRepository.getAverageReviewRatings(List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(cacheAsideTemplate, operationTemplate);
     }
     //endregion
 
-    //region Initialize Rating Tests
     @Test
-    void initializeRating_WhenValidInput_ShouldInitializeInRedis() {
+    void getAverageReviewRating_WhenNotSeeded_ShouldRefreshAgainstReadVersion() {
         // given
         Long courseId = 123L;
-        int total = 20;
-        int count = 5;
+        String statsKey = RedisKeyGenerator.generateRatingStatsKey(courseId);
+        runOperations();
+        when(cacheAsideTemplate.multiGetFields(List.of(statsKey), List.of("total", "count")))
+                .thenReturn(List.of(new CounterSnapshot(null, 4L, 0L)));
+        doAnswer(invocation -> {
+            Runnable refresh = invocation.getArgument(1);
+            refresh.run();
+            return null;
+        }).when(cacheAsideTemplate).refreshInBackground(eq(statsKey), any());
 
-        doNothing().when(operationTemplate).executeWithErrorHandling(any(), anyString(), any());
+        // when
+        double result = courseRatingRedisRepository.getAverageReviewRating(courseId,
+                () -> new CourseRatingAggregate(courseId, 9L, 2L));
+
+        // then
+        assertEquals(0.0, result);
+        verify(cacheAsideTemplate).putFields(eq(statsKey), eq(Map.of("total", 9L, "count", 2L)), eq(4L), any());
+    }
+
+    @Test
+    void getAverageReviewRating_WhenSeededAndNotExpiring_ShouldNotRefresh() {
+        // given
+        Long courseId = 123L;
+        runOperations();
+        CounterSnapshot stats = seeded(9L, 2L);
+        when(cacheAsideTemplate.multiGetFields(anyList(), anyList())).thenReturn(List.of(stats));
+        when(cacheAsideTemplate.isExpiringSoon(eq(stats), anyLong())).thenReturn(false);
 
         // when
-        courseRatingRedisRepository.initializeRating(courseId, total, count);
+        double result = courseRatingRedisRepository.getAverageReviewRating(courseId, () -> null);
 
         // then
-        verify(operationTemplate).executeWithErrorHandling(any(), anyString(), eq(courseId));
+        assertEquals(4.5, result);
+        verify(cacheAsideTemplate, never()).refreshInBackground(anyString(), any());
+    }
+    //endregion
+
+    //region Apply Deltas Tests
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyRatingDeltas_ShouldTrackEachEventWithMarkerInTheCourseSlot() {
+        // given
+        CourseRatingDelta delta = new CourseRatingDelta()
+                .add("event-1", 5, 1)
+                .add(2, 0);
+
+        // when
+        courseRatingRedisRepository.applyRatingDeltas(Map.of(123L, delta));
+
+        // then
+        ArgumentCaptor<Map<String, CounterDeltas>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(cacheAsideTemplate).incrementAllFields(captor.capture(), any(), eq(EVENT_MARKER_TTL));
+        CounterDeltas deltas = captor.getValue().get(RedisKeyGenerator.generateRatingStatsKey(123L));
+        assertEquals(Map.of("total", 2L, "count", 0L), deltas.untracked());
+        assertEquals(Map.of(RedisKeyGenerator.generateRatingEventKey(123L, "event-1"), Map.of("total", 5L, "count", 1L)),
+                deltas.tracked());
+    }
+
+    @Test
+    void applyRatingDeltas_WhenAllDeltasEmpty_ShouldNotTouchRedis() {
+        // when
+        courseRatingRedisRepository.applyRatingDeltas(Map.of(123L, new CourseRatingDelta()));
+
+        // then
+        verifyNoInteractions(cacheAsideTemplate);
+    }
+    //endregion
+
+    //region Initialize Rating Tests
+    @Test
+    void initializeRatings_ShouldReadVersionsBeforeLoading() {
+        // given
+        String key1 = RedisKeyGenerator.generateRatingStatsKey(1L);
+        String key2 = RedisKeyGenerator.generateRatingStatsKey(2L);
+        runOperations();
+        Map<String, Long> versions = Map.of(key1, 0L, key2, 5L);
+        when(cacheAsideTemplate.getVersions(List.of(key1, key2))).thenReturn(versions);
+
+        // when
+        courseRatingRedisRepository.initializeRatings(List.of(1L, 2L), ids -> {
+            verify(cacheAsideTemplate).getVersions(anyList());
+            return List.of(new CourseRatingAggregate(1L, 9L, 2L), new CourseRatingAggregate(2L, 0L, 0L));
+        });
+
+        // then
+        verify(cacheAsideTemplate).putAllFields(
+                eq(Map.of(key1, Map.of("total", 9L, "count", 2L), key2, Map.of("total", 0L, "count", 0L))),
+                eq(versions), any());
+    }
+
+    @Test
+    void initializeRatings_WhenVersionReadFails_ShouldNotLoad() {
+        // given
+        when(operationTemplate.executeWithErrorHandling(any(), eq(Collections.emptyMap()), anyString(), any()))
+                .thenReturn(Collections.emptyMap());
+
+        // when
+        courseRatingRedisRepository.initializeRatings(List.of(1L), ids -> fail("should not load"));
+
+        // then
+        verify(cacheAsideTemplate, never()).putAllFields(anyMap(), anyMap(), any());
     }
     //endregion
 
@@ -296,4 +466,25 @@ class CourseRatingRedisRepositoryTest {
         verify(operationTemplate, times(3)).executeWithErrorHandling(any(), anyString(), any());
     }
     //endregion
+
+    private static CounterSnapshot seeded(long total, long count) {
+        return new CounterSnapshot(List.of(total, count), 0L, System.currentTimeMillis() + 60_000);
+    }
+
+    /**
+     * Let the mocked error-handling template run the cache operations it wraps
+     */
+    private void runOperations() {
+        lenient().when(operationTemplate.executeWithErrorHandling(
+                        any(CacheOperationTemplate.CacheOperationWithResult.class), any(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    CacheOperationTemplate.CacheOperationWithResult<?> operation = invocation.getArgument(0);
+                    return operation.execute();
+                });
+        lenient().doAnswer(invocation -> {
+            CacheOperationTemplate.CacheOperation operation = invocation.getArgument(0);
+            operation.execute();
+            return null;
+        }).when(operationTemplate).executeWithErrorHandling(any(CacheOperationTemplate.CacheOperation.class), anyString(), any());
+    }
 }
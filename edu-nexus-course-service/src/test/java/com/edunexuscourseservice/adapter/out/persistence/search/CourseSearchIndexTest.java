@@ -0,0 +1,149 @@
+package com.edunexuscourseservice.adapter.out.persistence.search;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CourseSearchIndex
+ *
+ * Tests that searches match the case-insensitive substring semantics of the
+ * database search, rank title matches first, and follow updates and removals.
+ */
+class CourseSearchIndexTest {
+
+    private CourseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourseSearchIndex();
+        index.index(1L, "Spring Boot Basics", "Build REST APIs with Spring");
+        index.index(2L, "Advanced Java", "Concurrency and the Spring framework");
+        index.index(3L, "Kafka in Action", "Event streaming for Java developers");
+        index.index(4L, "스프링 입문", "자바 웹 개발 기초");
+        index.markReady();
+    }
+
+    //region substring semantics
+    @Test
+    void search_ShouldMatchSubstringsInsideWordsIgnoringCase() {
+        // when
+        List<Long> result = index.search(title("RING"), 0, 20);
+
+        // then
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    void search_ShouldMatchPhrasesAcrossWords() {
+        // when & then
+        assertEquals(List.of(1L), index.search(title("ng boot ba"), 0, 20));
+        assertEquals(List.of(), index.search(title("boot spring"), 0, 20));
+    }
+
+    @Test
+    void search_ShouldMatchShortQueries() {
+        // when
+        List<Long> result = index.search(title("ja"), 0, 20);
+
+        // then
+        assertEquals(List.of(2L), result);
+    }
+
+    @Test
+    void search_ShouldMatchKoreanText() {
+        // when & then
+        assertEquals(List.of(4L), index.search(title("스프링"), 0, 20));
+        assertEquals(List.of(4L), index.search(description("웹 개발"), 0, 20));
+    }
+
+    @Test
+    void search_WhenQueryHasNoWords_ShouldFallBackToSubstringCheck() {
+        // given
+        index.index(5L, "C++ & Rust", "Systems programming");
+
+        // when
+        List<Long> result = index.search(title("++ &"), 0, 20);
+
+        // then
+        assertEquals(List.of(5L), result);
+    }
+    //endregion
+
+    //region ranking and paging
+    @Test
+    void search_ShouldRankTitleMatchesBeforeDescriptionMatches() {
+        // given
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setTitle("java");
+        condition.setDescription("java");
+
+        // when
+        List<Long> result = index.search(condition, 0, 20);
+
+        // then
+        assertEquals(List.of(2L, 3L), result);
+    }
+
+    @Test
+    void search_ShouldPageRankedResults() {
+        // given
+        CourseSearchCondition condition = description("spring");
+
+        // when & then
+        assertEquals(List.of(1L), index.search(condition, 0, 1));
+        assertEquals(List.of(2L), index.search(condition, 1, 1));
+        assertEquals(List.of(), index.search(condition, 2, 1));
+    }
+    //endregion
+
+    //region updates
+    @Test
+    void index_WhenCourseUpdated_ShouldReplaceOldText() {
+        // when
+        index.index(1L, "Reactive Streams", "Project Reactor");
+
+        // then
+        assertEquals(List.of(), index.search(title("spring"), 0, 20));
+        assertEquals(List.of(1L), index.search(title("reactive"), 0, 20));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropCourseFromResults() {
+        // when
+        index.remove(3L);
+
+        // then
+        assertEquals(List.of(), index.search(title("kafka"), 0, 20));
+        assertEquals(3, index.size());
+    }
+    //endregion
+
+    @Test
+    void canServe_ShouldRequireReadyIndexAndTextCriteria() {
+        // given
+        CourseSearchIndex building = new CourseSearchIndex();
+
+        // when & then
+        assertFalse(building.canServe(title("spring")));
+        assertTrue(index.canServe(title("spring")));
+        assertFalse(index.canServe(new CourseSearchCondition()));
+    }
+
+    private static CourseSearchCondition title(String title) {
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setTitle(title);
+        return condition;
+    }
+
+    private static CourseSearchCondition description(String description) {
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setDescription(description);
+        return condition;
+    }
+}
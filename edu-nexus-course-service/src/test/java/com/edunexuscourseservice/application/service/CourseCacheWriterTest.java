@@ -0,0 +1,99 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CourseCacheWriter
+ *
+ * Tests that committed courses are written through (or evicted) only after commit,
+ * with the state they had when the write was made and the measured recompute cost.
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseCacheWriterTest {
+
+    private static final String COURSE_KEY = RedisKey.COURSE.getKey(1L);
+
+    @Mock
+    private CacheAsideTemplate cacheAsideTemplate;
+
+    @Test
+    void refreshAfterCommit_WithoutTransaction_ShouldWriteThroughImmediately() {
+        // given
+        CourseCacheWriter writer = new CourseCacheWriter(cacheAsideTemplate, true, 10L);
+        when(cacheAsideTemplate.getComputeMillis(COURSE_KEY, 10L)).thenReturn(25L);
+
+        // when
+        writer.refreshAfterCommit(course("Spring Boot"));
+
+        // then: the measured load time keeps early refresh working for the written entry
+        ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        verify(cacheAsideTemplate).putEntry(eq(COURSE_KEY), value.capture(), eq(25L), eq(CourseService.COURSE_CACHE_TTL));
+        RCourse cached = (RCourse) value.getValue();
+        assertEquals(1L, cached.getId());
+        assertEquals("Spring Boot", cached.getTitle());
+        assertEquals(100L, cached.getInstructorId());
+        verify(cacheAsideTemplate, never()).evict(any());
+    }
+
+    @Test
+    void refreshAfterCommit_InTransaction_ShouldWaitForCommitAndWriteSnapshot() {
+        // given
+        CourseCacheWriter writer = new CourseCacheWriter(cacheAsideTemplate, true, 10L);
+        Course course = course("Spring Boot");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            writer.refreshAfterCommit(course);
+            course.setCourseInfo(CourseInfoDto.builder().title("Changed later").instructorId(100L).build());
+
+            // then
+            verifyNoInteractions(cacheAsideTemplate);
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+            verify(cacheAsideTemplate).putEntry(eq(COURSE_KEY), value.capture(), anyLong(), any());
+            assertEquals("Spring Boot", ((RCourse) value.getValue()).getTitle());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void refreshAfterCommit_WhenWriteThroughDisabled_ShouldEvict() {
+        // given
+        CourseCacheWriter writer = new CourseCacheWriter(cacheAsideTemplate, false, 10L);
+
+        // when
+        writer.refreshAfterCommit(course("Spring Boot"));
+
+        // then
+        verify(cacheAsideTemplate).evict(COURSE_KEY);
+        verify(cacheAsideTemplate, never()).putEntry(any(), any(), anyLong(), any());
+    }
+
+    private static Course course(String title) {
+        return Course.fromSnapshot(1L, CourseInfoDto.builder()
+                .title(title)
+                .description("description")
+                .instructorId(100L)
+                .build());
+    }
+}
@@ -0,0 +1,145 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCoursePage;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CourseListCache
+ *
+ * Tests versioned page keys, condition normalization, loading on a miss,
+ * and catalog version bumps.
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseListCacheTest {
+
+    private static final String VERSION_KEY = RedisKey.COURSE_CATALOG_VERSION.getKeyWithoutId();
+
+    @Mock
+    private CacheAsideTemplate cacheAsideTemplate;
+
+    private CourseListCache courseListCache;
+
+    @BeforeEach
+    void setUp() {
+        courseListCache = new CourseListCache(cacheAsideTemplate, true, Duration.ofMinutes(5));
+    }
+
+    //region getOrLoad
+    @Test
+    @SuppressWarnings("unchecked")
+    void getOrLoad_OnMiss_ShouldRunQueryAndReturnCourses() {
+        // given
+        when(cacheAsideTemplate.getOrLoad(eq(VERSION_KEY), any(Supplier.class), any())).thenReturn(42L);
+        when(cacheAsideTemplate.getOrLoad(startsWith(RedisKey.COURSE_LIST.getKeyWithoutId()), any(Supplier.class), any()))
+                .thenAnswer(invocation -> ((Supplier<RCoursePage>) invocation.getArgument(1)).get());
+        CourseSummaryDto course = new CourseSummaryDto(1L, "Spring", "Boot", 100L);
+
+        // when
+        List<CourseSummaryDto> result = courseListCache.getOrLoad(title("Spring"), PageRequest.of(0, 20), () -> List.of(course));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals("Spring", result.get(0).getTitle());
+        assertEquals(100L, result.get(0).getInstructorId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getOrLoad_ShouldKeyOnVersionNormalizedConditionAndPage() {
+        // given
+        when(cacheAsideTemplate.getOrLoad(eq(VERSION_KEY), any(Supplier.class), any())).thenReturn(42);
+        when(cacheAsideTemplate.getOrLoad(startsWith(RedisKey.COURSE_LIST.getKeyWithoutId()), any(Supplier.class), any()))
+                .thenReturn(new RCoursePage(List.of()));
+
+        // when
+        courseListCache.getOrLoad(title("Spring Boot"), PageRequest.of(2, 10), List::of);
+        courseListCache.getOrLoad(title("SPRING BOOT"), PageRequest.of(2, 10), List::of);
+
+        // then
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(cacheAsideTemplate, times(2)).getOrLoad(keys.capture(), any(Supplier.class), eq(Duration.ofMinutes(5)));
+        String key = keys.getAllValues().get(0);
+        assertEquals(key, keys.getAllValues().get(1));
+        assertTrue(key.contains(":v42:"));
+        assertTrue(key.contains("t=spring+boot:d=:p=2:s=10"));
+    }
+
+    @Test
+    void getOrLoad_WhenDisabled_ShouldQueryDirectly() {
+        // given
+        courseListCache = new CourseListCache(cacheAsideTemplate, false, Duration.ofMinutes(5));
+
+        // when
+        List<CourseSummaryDto> result = courseListCache.getOrLoad(title("spring"), PageRequest.of(0, 20), List::of);
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(cacheAsideTemplate);
+    }
+    //endregion
+
+    //region invalidation
+    @Test
+    void invalidateAfterCommit_WithoutTransaction_ShouldBumpVersion() {
+        // given
+        when(cacheAsideTemplate.increment(eq(VERSION_KEY), eq(1L), any())).thenReturn(43L);
+
+        // when
+        courseListCache.invalidateAfterCommit();
+
+        // then
+        verify(cacheAsideTemplate).increment(eq(VERSION_KEY), eq(1L), any());
+        verify(cacheAsideTemplate, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void bumpVersion_WhenQueuedInRedisTransaction_ShouldOnlyIncrement() {
+        // given: INCR queued in MULTI returns no value
+        when(cacheAsideTemplate.increment(eq(VERSION_KEY), eq(1L), any())).thenReturn(null);
+
+        // when
+        courseListCache.bumpVersion();
+
+        // then
+        verify(cacheAsideTemplate).increment(eq(VERSION_KEY), eq(1L), any());
+        verify(cacheAsideTemplate, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void bumpVersion_WhenRedisFails_ShouldNotThrow() {
+        // given
+        when(cacheAsideTemplate.increment(eq(VERSION_KEY), anyLong(), any())).thenThrow(new RuntimeException("redis down"));
+
+        // when & then
+        assertDoesNotThrow(() -> courseListCache.bumpVersion());
+    }
+    //endregion
+
+    private static CourseSearchCondition title(String title) {
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setTitle(title);
+        return condition;
+    }
+}
@@ -3,13 +3,19 @@ package com.edunexuscourseservice.application.service;
 import com.edunexus.common.exception.NotFoundException;
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRatingStats;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRepository;
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingStatsRepository;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDistribution;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingStarCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +27,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +38,7 @@ import static org.mockito.Mockito.*;
  * - Happy path: Save, update, delete, find operations
  * - Error cases: Course not found, rating not found
  * - Edge cases: Null values, empty collections
+ * - Rating stats: deltas applied on write, seeding of missing rows, primary key reads
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CourseRatingCrudService Tests")
@@ -42,6 +50,9 @@ class CourseRatingCrudServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseRatingStatsRepository statsRepository;
+
     @InjectMocks
     private CourseRatingCrudService crudService;
 
@@ -238,15 +249,16 @@ class CourseRatingCrudServiceTest {
         void delete_ExistingRating_Success() {
             // Given
             Long ratingId = 1L;
-            when(courseRatingRepository.existsById(ratingId)).thenReturn(true);
-            doNothing().when(courseRatingRepository).deleteById(ratingId);
+            when(courseRatingRepository.findById(ratingId)).thenReturn(Optional.of(testRating));
+            when(statsRepository.applyDelta(1L, -5L, -1L, 0, 5)).thenReturn(1);
 
             // When
             crudService.delete(ratingId);
 
             // Then
-            verify(courseRatingRepository).existsById(ratingId);
-            verify(courseRatingRepository).deleteById(ratingId);
+            verify(courseRatingRepository).findById(ratingId);
+            verify(courseRatingRepository).delete(testRating);
+            verify(statsRepository).applyDelta(1L, -5L, -1L, 0, 5);
         }
 
         @Test
@@ -254,7 +266,7 @@ class CourseRatingCrudServiceTest {
         void delete_NonExistentRating_ThrowsNotFoundException() {
             // Given
             Long ratingId = 999L;
-            when(courseRatingRepository.existsById(ratingId)).thenReturn(false);
+            when(courseRatingRepository.findById(ratingId)).thenReturn(Optional.empty());
 
             // When & Then
             NotFoundException exception = assertThrows(
@@ -263,8 +275,9 @@ class CourseRatingCrudServiceTest {
             );
 
             assertTrue(exception.getMessage().contains("CourseRating not found"));
-            verify(courseRatingRepository).existsById(ratingId);
-            verify(courseRatingRepository, never()).deleteById(anyLong());
+            verify(courseRatingRepository).findById(ratingId);
+            verify(courseRatingRepository, never()).delete(any());
+            verify(statsRepository, never()).applyDelta(anyLong(), anyLong(), anyLong(), anyInt(), anyInt());
         }
     }
 
@@ -401,6 +414,218 @@ class CourseRatingCrudServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rating Stats Tests")
+    class RatingStatsTests {
+
+        @Test
+        @DisplayName("Save should add the rating to the course stats row")
+        void save_AppliesStatsDelta() {
+            // Given
+            CourseRating newRating = new CourseRating();
+            newRating.setRating(5);
+
+            when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+            when(courseRatingRepository.save(any(CourseRating.class))).thenReturn(testRating);
+            when(statsRepository.applyDelta(1L, 5L, 1L, 5, 0)).thenReturn(1);
+
+            // When
+            crudService.save(1L, newRating);
+
+            // Then
+            verify(statsRepository).applyDelta(1L, 5L, 1L, 5, 0);
+            verify(statsRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Bulk save should look up the course once and update the stats row once")
+        void saveAll_AppliesOneStatsDelta() {
+            // Given
+            List<CourseRating> newRatings = Arrays.asList(
+                    createTestRating(null, 100L, 5, null, null),
+                    createTestRating(null, 101L, 3, null, null),
+                    createTestRating(null, 102L, 5, null, null)
+            );
+
+            when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+            when(courseRatingRepository.saveAll(newRatings)).thenReturn(newRatings);
+            when(statsRepository.applyStarDeltas(1L, 13L, 3L, 0L, 0L, 1L, 0L, 2L)).thenReturn(1);
+
+            // When
+            List<CourseRating> result = crudService.saveAll(1L, newRatings);
+
+            // Then
+            assertEquals(3, result.size());
+            assertTrue(result.stream().allMatch(rating -> rating.getCourse() == testCourse));
+            verify(courseRepository, times(1)).findById(1L);
+            verify(statsRepository).applyStarDeltas(1L, 13L, 3L, 0L, 0L, 1L, 0L, 2L);
+            verify(statsRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Update should move the rating between stars")
+        void update_AppliesStatsDelta() {
+            // Given
+            CourseRating newRatingData = new CourseRating();
+            newRatingData.setRating(2);
+
+            when(courseRatingRepository.findById(1L)).thenReturn(Optional.of(testRating));
+            when(statsRepository.applyDelta(1L, -3L, 0L, 2, 5)).thenReturn(1);
+
+            // When
+            crudService.update(1L, newRatingData);
+
+            // Then
+            verify(statsRepository).applyDelta(1L, -3L, 0L, 2, 5);
+        }
+
+        @Test
+        @DisplayName("Update of the comment only should leave stats untouched")
+        void update_SameRating_SkipsStats() {
+            // Given
+            CourseRating newRatingData = new CourseRating();
+            newRatingData.setRating(5);
+            newRatingData.setComment("Still excellent");
+
+            when(courseRatingRepository.findById(1L)).thenReturn(Optional.of(testRating));
+
+            // When
+            crudService.update(1L, newRatingData);
+
+            // Then
+            verifyNoInteractions(statsRepository);
+        }
+
+        @Test
+        @DisplayName("Missing stats row should be seeded from the course ratings")
+        void save_WithoutStatsRow_SeedsFromRatings() {
+            // Given
+            CourseRating newRating = new CourseRating();
+            newRating.setRating(5);
+
+            when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+            when(courseRatingRepository.save(any(CourseRating.class))).thenReturn(testRating);
+            when(statsRepository.applyDelta(1L, 5L, 1L, 5, 0)).thenReturn(0);
+            when(courseRatingRepository.countByStarForCourseId(1L)).thenReturn(List.of(
+                    new CourseRatingStarCount(4, 2L),
+                    new CourseRatingStarCount(5, 1L)
+            ));
+
+            when(statsRepository.insertIfAbsent(any(CourseRatingStats.class))).thenReturn(true);
+
+            // When
+            crudService.save(1L, newRating);
+
+            // Then
+            ArgumentCaptor<CourseRatingStats> seeded = ArgumentCaptor.forClass(CourseRatingStats.class);
+            verify(statsRepository).insertIfAbsent(seeded.capture());
+            assertEquals(1L, seeded.getValue().getCourseId());
+            assertEquals(13L, seeded.getValue().getRatingSum());
+            assertEquals(3L, seeded.getValue().getRatingCount());
+            assertEquals(2L, seeded.getValue().getStar4());
+            assertEquals(1L, seeded.getValue().getStar5());
+            verify(statsRepository, times(1)).applyDelta(1L, 5L, 1L, 5, 0);
+            verify(statsRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Stats row seeded by a concurrent rating should receive this change by UPDATE")
+        void save_StatsRowSeededConcurrently_RetriesUpdate() {
+            // Given
+            CourseRating newRating = new CourseRating();
+            newRating.setRating(5);
+
+            when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+            when(courseRatingRepository.save(any(CourseRating.class))).thenReturn(testRating);
+            when(statsRepository.applyDelta(1L, 5L, 1L, 5, 0)).thenReturn(0, 1);
+            when(courseRatingRepository.countByStarForCourseId(1L)).thenReturn(List.of(new CourseRatingStarCount(5, 1L)));
+            when(statsRepository.insertIfAbsent(any(CourseRatingStats.class))).thenReturn(false);
+
+            // When
+            crudService.save(1L, newRating);
+
+            // Then
+            verify(statsRepository, times(2)).applyDelta(1L, 5L, 1L, 5, 0);
+            verify(statsRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Batch save without stats row should seed it or retry like a single save")
+        void saveAll_WithoutStatsRow_SeedsOrRetriesUpdate() {
+            // Given
+            CourseRating first = new CourseRating();
+            first.setRating(4);
+            CourseRating second = new CourseRating();
+            second.setRating(5);
+            List<CourseRating> newRatings = List.of(first, second);
+
+            when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+            when(courseRatingRepository.saveAll(newRatings)).thenReturn(newRatings);
+            when(statsRepository.applyStarDeltas(1L, 9L, 2L, 0L, 0L, 0L, 1L, 1L)).thenReturn(0, 1);
+            when(courseRatingRepository.countByStarForCourseId(1L)).thenReturn(List.of(
+                    new CourseRatingStarCount(4, 1L),
+                    new CourseRatingStarCount(5, 1L)
+            ));
+            when(statsRepository.insertIfAbsent(any(CourseRatingStats.class))).thenReturn(false);
+
+            // When
+            crudService.saveAll(1L, newRatings);
+
+            // Then
+            verify(statsRepository, times(2)).applyStarDeltas(1L, 9L, 2L, 0L, 0L, 0L, 1L, 1L);
+            verify(statsRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Aggregate should be read from the stats row by primary key")
+        void getRatingAggregate_ReadsStatsRow() {
+            // Given
+            when(statsRepository.findById(1L))
+                    .thenReturn(Optional.of(CourseRatingStats.of(1L, new long[]{0, 0, 1, 1, 2})));
+
+            // When
+            CourseRatingAggregate aggregate = crudService.getRatingAggregate(1L);
+
+            // Then
+            assertEquals(17L, aggregate.getTotal());
+            assertEquals(4L, aggregate.getCount());
+            verify(courseRatingRepository, never()).aggregateByCourseId(anyLong());
+        }
+
+        @Test
+        @DisplayName("Batch aggregates should fall back to a grouped query only for courses without stats")
+        void getRatingAggregates_FallsBackForMissingRows() {
+            // Given
+            when(statsRepository.findAggregatesByCourseIds(List.of(1L, 2L, 3L)))
+                    .thenReturn(List.of(new CourseRatingAggregate(1L, 9L, 2L)));
+            when(courseRatingRepository.aggregateByCourseIds(List.of(2L, 3L)))
+                    .thenReturn(List.of(new CourseRatingAggregate(2L, 4L, 1L)));
+
+            // When
+            List<CourseRatingAggregate> aggregates = crudService.getRatingAggregates(List.of(1L, 2L, 3L));
+
+            // Then
+            assertEquals(List.of(9L, 4L, 0L), aggregates.stream().map(CourseRatingAggregate::getTotal).toList());
+            assertEquals(List.of(2L, 1L, 0L), aggregates.stream().map(CourseRatingAggregate::getCount).toList());
+        }
+
+        @Test
+        @DisplayName("Distribution should expose the star histogram and average")
+        void getRatingDistribution_ReadsStatsRow() {
+            // Given
+            when(statsRepository.findById(1L))
+                    .thenReturn(Optional.of(CourseRatingStats.of(1L, new long[]{1, 0, 0, 1, 2})));
+
+            // When
+            CourseRatingDistribution distribution = crudService.getRatingDistribution(1L);
+
+            // Then
+            assertEquals(List.of(1L, 0L, 0L, 1L, 2L), distribution.getStarCounts());
+            assertEquals(4L, distribution.getCount());
+            assertEquals(3.75, distribution.getAverage());
+        }
+    }
+
     private void setUserId(CourseRating rating, Long userId) {
         try {
             Field userIdField = CourseRating.class.getDeclaredField("userId");
@@ -15,11 +15,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,6 +42,9 @@ class CourseRatingQueryServiceTest {
     @Mock
     private CourseRatingRedisRepository redisRepository;
 
+    @Mock
+    private CourseRatingWarmupService warmupService;
+
     @InjectMocks
     private CourseRatingQueryService queryService;
 
@@ -100,14 +105,14 @@ class CourseRatingQueryServiceTest {
             // Given
             Long courseId = 1L;
             double expectedAverage = 4.5;
-            when(redisRepository.getAverageReviewRating(courseId)).thenReturn(expectedAverage);
+            when(redisRepository.getAverageReviewRating(eq(courseId), any())).thenReturn(expectedAverage);
 
             // When
             Double result = queryService.getAverageRating(courseId);
 
             // Then
             assertEquals(expectedAverage, result);
-            verify(redisRepository).getAverageReviewRating(courseId);
+            verify(redisRepository).getAverageReviewRating(eq(courseId), any());
         }
 
         @Test
@@ -115,7 +120,7 @@ class CourseRatingQueryServiceTest {
         void getAverageRating_CacheException_ReturnsZero() {
             // Given
             Long courseId = 1L;
-            when(redisRepository.getAverageReviewRating(courseId))
+            when(redisRepository.getAverageReviewRating(eq(courseId), any()))
                     .thenThrow(new RuntimeException("Redis connection failed"));
 
             // When
@@ -123,14 +128,14 @@ class CourseRatingQueryServiceTest {
 
             // Then
             assertEquals(0.0, result);
-            verify(redisRepository).getAverageReviewRating(courseId);
+            verify(redisRepository).getAverageReviewRating(eq(courseId), any());
         }
 
         @Test
         @DisplayName("Get average rating with null course ID should handle gracefully")
         void getAverageRating_NullCourseId_ReturnsZero() {
             // Given
-            when(redisRepository.getAverageReviewRating(anyLong()))
+            when(redisRepository.getAverageReviewRating(any(), any()))
                     .thenThrow(new RuntimeException("Null course ID"));
 
             // When
@@ -145,7 +150,7 @@ class CourseRatingQueryServiceTest {
         void getAverageRating_ZeroCourseId_ReturnsZero() {
             // Given
             Long courseId = 0L;
-            when(redisRepository.getAverageReviewRating(courseId))
+            when(redisRepository.getAverageReviewRating(eq(courseId), any()))
                     .thenThrow(new RuntimeException("Invalid course ID"));
 
             // When
@@ -161,13 +166,12 @@ class CourseRatingQueryServiceTest {
     class GetAverageRatingsBatchTests {
 
         @Test
-        @DisplayName("Get multiple average ratings should return map with all values")
+        @DisplayName("Get multiple average ratings should use a single batch lookup")
         void getAverageRatings_MultipleCourses_ReturnsMap() {
             // Given
             List<Long> courseIds = Arrays.asList(1L, 2L, 3L);
-            when(redisRepository.getAverageReviewRating(1L)).thenReturn(4.5);
-            when(redisRepository.getAverageReviewRating(2L)).thenReturn(3.5);
-            when(redisRepository.getAverageReviewRating(3L)).thenReturn(5.0);
+            when(redisRepository.getAverageReviewRatings(courseIds))
+                    .thenReturn(Map.of(1L, 4.5, 2L, 3.5, 3L, 5.0));
 
             // When
             Map<Long, Double> result = queryService.getAverageRatings(courseIds);
@@ -178,7 +182,8 @@ class CourseRatingQueryServiceTest {
             assertEquals(4.5, result.get(1L));
             assertEquals(3.5, result.get(2L));
             assertEquals(5.0, result.get(3L));
-            verify(redisRepository, times(3)).getAverageReviewRating(anyLong());
+            verify(redisRepository).getAverageReviewRatings(courseIds);
+            verify(redisRepository, never()).getAverageReviewRating(any(), any());
         }
 
         @Test
@@ -193,7 +198,7 @@ class CourseRatingQueryServiceTest {
             // Then
             assertNotNull(result);
             assertTrue(result.isEmpty());
-            verify(redisRepository, never()).getAverageReviewRating(anyLong());
+            verifyNoInteractions(redisRepository);
         }
 
         @Test
@@ -201,7 +206,7 @@ class CourseRatingQueryServiceTest {
         void getAverageRatings_SingleCourse_ReturnsSingleEntry() {
             // Given
             List<Long> courseIds = Arrays.asList(1L);
-            when(redisRepository.getAverageReviewRating(1L)).thenReturn(4.0);
+            when(redisRepository.getAverageReviewRatings(courseIds)).thenReturn(Map.of(1L, 4.0));
 
             // When
             Map<Long, Double> result = queryService.getAverageRatings(courseIds);
@@ -210,18 +215,15 @@ class CourseRatingQueryServiceTest {
             assertNotNull(result);
             assertEquals(1, result.size());
             assertEquals(4.0, result.get(1L));
-            verify(redisRepository).getAverageReviewRating(1L);
         }
 
         @Test
-        @DisplayName("Get average ratings with partial cache failure should return 0.0 for failed courses")
-        void getAverageRatings_PartialCacheFailure_ReturnsPartialResults() {
+        @DisplayName("Get average ratings with partial cache miss should return 0.0 for missing courses")
+        void getAverageRatings_PartialCacheMiss_ReturnsPartialResults() {
             // Given
             List<Long> courseIds = Arrays.asList(1L, 2L, 3L);
-            when(redisRepository.getAverageReviewRating(1L)).thenReturn(4.5);
-            when(redisRepository.getAverageReviewRating(2L))
-                    .thenThrow(new RuntimeException("Redis timeout"));
-            when(redisRepository.getAverageReviewRating(3L)).thenReturn(5.0);
+            when(redisRepository.getAverageReviewRatings(courseIds))
+                    .thenReturn(Map.of(1L, 4.5, 3L, 5.0));
 
             // When
             Map<Long, Double> result = queryService.getAverageRatings(courseIds);
@@ -235,11 +237,11 @@ class CourseRatingQueryServiceTest {
         }
 
         @Test
-        @DisplayName("Get average ratings with all cache failures should return all zeros")
+        @DisplayName("Get average ratings with batch cache failure should return all zeros")
         void getAverageRatings_AllCacheFailures_ReturnsAllZeros() {
             // Given
             List<Long> courseIds = Arrays.asList(1L, 2L, 3L);
-            when(redisRepository.getAverageReviewRating(anyLong()))
+            when(redisRepository.getAverageReviewRatings(courseIds))
                     .thenThrow(new RuntimeException("Redis down"));
 
             // When
@@ -258,8 +260,8 @@ class CourseRatingQueryServiceTest {
         void getAverageRatings_DuplicateCourseIds_HandlesGracefully() {
             // Given
             List<Long> courseIds = Arrays.asList(1L, 1L, 2L);
-            when(redisRepository.getAverageReviewRating(1L)).thenReturn(4.5);
-            when(redisRepository.getAverageReviewRating(2L)).thenReturn(3.5);
+            when(redisRepository.getAverageReviewRatings(courseIds))
+                    .thenReturn(Map.of(1L, 4.5, 2L, 3.5));
 
             // When
             Map<Long, Double> result = queryService.getAverageRatings(courseIds);
@@ -273,14 +275,12 @@ class CourseRatingQueryServiceTest {
         }
 
         @Test
-        @DisplayName("Get average ratings with null values in list should skip nulls")
+        @DisplayName("Get average ratings with null values in list should return 0.0 for nulls")
         void getAverageRatings_NullInList_HandlesGracefully() {
             // Given
             List<Long> courseIds = Arrays.asList(1L, null, 2L);
-            when(redisRepository.getAverageReviewRating(1L)).thenReturn(4.5);
-            when(redisRepository.getAverageReviewRating(2L)).thenReturn(3.5);
-            when(redisRepository.getAverageReviewRating(null))
-                    .thenThrow(new RuntimeException("Null ID"));
+            when(redisRepository.getAverageReviewRatings(courseIds))
+                    .thenReturn(Map.of(1L, 4.5, 2L, 3.5));
 
             // When
             Map<Long, Double> result = queryService.getAverageRatings(courseIds);
@@ -391,7 +391,7 @@ class CourseRatingQueryServiceTest {
         void getAverageRating_MaxDoubleValue_ReturnsMax() {
             // Given
             Long courseId = 1L;
-            when(redisRepository.getAverageReviewRating(courseId)).thenReturn(Double.MAX_VALUE);
+            when(redisRepository.getAverageReviewRating(eq(courseId), any())).thenReturn(Double.MAX_VALUE);
 
             // When
             Double result = queryService.getAverageRating(courseId);
@@ -405,7 +405,7 @@ class CourseRatingQueryServiceTest {
         void getAverageRating_MinDoubleValue_ReturnsMin() {
             // Given
             Long courseId = 1L;
-            when(redisRepository.getAverageReviewRating(courseId)).thenReturn(Double.MIN_VALUE);
+            when(redisRepository.getAverageReviewRating(eq(courseId), any())).thenReturn(Double.MIN_VALUE);
 
             // When
             Double result = queryService.getAverageRating(courseId);
@@ -419,7 +419,7 @@ class CourseRatingQueryServiceTest {
         void getAverageRating_NaN_ReturnsNaN() {
             // Given
             Long courseId = 1L;
-            when(redisRepository.getAverageReviewRating(courseId)).thenReturn(Double.NaN);
+            when(redisRepository.getAverageReviewRating(eq(courseId), any())).thenReturn(Double.NaN);
 
             // When
             Double result = queryService.getAverageRating(courseId);
@@ -433,9 +433,11 @@ class CourseRatingQueryServiceTest {
         void getAverageRatings_LargeList_ProcessesAll() {
             // Given
             List<Long> courseIds = Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            Map<Long, Double> cached = new HashMap<>();
             for (Long courseId : courseIds) {
-                when(redisRepository.getAverageReviewRating(courseId)).thenReturn(4.0);
+                cached.put(courseId, 4.0);
             }
+            when(redisRepository.getAverageReviewRatings(courseIds)).thenReturn(cached);
 
             // When
             Map<Long, Double> result = queryService.getAverageRatings(courseIds);
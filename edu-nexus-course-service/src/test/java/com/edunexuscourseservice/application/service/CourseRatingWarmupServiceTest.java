@@ -0,0 +1,100 @@
+package com.edunexuscourseservice.application.service;
+
+import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRedisRepository;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingAggregate;
+import com.edunexusobservability.metrics.MetricsRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CourseRatingWarmupService
+ *
+ * Tests keyset paging over rating aggregates and progress gauges.
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseRatingWarmupServiceTest {
+
+    @Mock
+    private CourseRatingCrudService crudService;
+
+    @Mock
+    private CourseRatingRedisRepository redisRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourseRatingWarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmupService = new CourseRatingWarmupService(crudService, redisRepository, new MetricsRegistry(meterRegistry), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        warmupService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Full warm-up should page by last course ID and load each page in bulk")
+    void warmUpAll_MultiplePages_LoadsEveryPage() {
+        // Given
+        List<CourseRatingAggregate> firstPage = List.of(
+                new CourseRatingAggregate(1L, 9L, 2L),
+                new CourseRatingAggregate(3L, 5L, 1L));
+        List<CourseRatingAggregate> secondPage = List.of(
+                new CourseRatingAggregate(7L, 12L, 3L));
+        when(crudService.getRatingAggregatesAfter(0L, 2)).thenReturn(firstPage);
+        when(crudService.getRatingAggregatesAfter(3L, 2)).thenReturn(secondPage);
+
+        // When
+        long loaded = warmupService.warmUpAll();
+
+        // Then
+        assertEquals(3, loaded);
+        verify(redisRepository).initializeRatings(eq(List.of(1L, 3L)), any());
+        verify(redisRepository).initializeRatings(eq(List.of(7L)), any());
+        verify(crudService, never()).getRatingAggregatesAfter(7L, 2);
+        assertEquals(3.0, meterRegistry.get("gauge.cache.warmup.courses.loaded").gauge().value());
+        assertEquals(2.0, meterRegistry.get("gauge.cache.warmup.pages.loaded").gauge().value());
+        assertEquals(0.0, meterRegistry.get("gauge.cache.warmup.in_progress").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Full warm-up with no ratings should not touch the cache")
+    void warmUpAll_NoRatings_LoadsNothing() {
+        // Given
+        when(crudService.getRatingAggregatesAfter(0L, 2)).thenReturn(List.of());
+
+        // When
+        long loaded = warmupService.warmUpAll();
+
+        // Then
+        assertEquals(0, loaded);
+        verify(redisRepository, never()).initializeRatings(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Full warm-up should stop on failure without throwing")
+    void warmUpAll_DatabaseFailure_StopsGracefully() {
+        // Given
+        when(crudService.getRatingAggregatesAfter(0L, 2)).thenThrow(new RuntimeException("DB down"));
+
+        // When & Then
+        assertEquals(0, assertDoesNotThrow(() -> warmupService.warmUpAll()));
+        assertEquals(0.0, meterRegistry.get("gauge.cache.warmup.in_progress").gauge().value());
+    }
+}
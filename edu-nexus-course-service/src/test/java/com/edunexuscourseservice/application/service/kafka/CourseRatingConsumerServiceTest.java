@@ -2,321 +2,288 @@ package com.edunexuscourseservice.application.service.kafka;
 
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRatingRedisRepository;
 import com.edunexuscourseservice.application.saga.event.CourseRatingAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingBulkAddEvent;
 import com.edunexuscourseservice.application.saga.event.CourseRatingDeleteEvent;
 import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.edunexuscourseservice.application.service.kafka.dlt.DltPublisher;
+import com.edunexuscourseservice.domain.course.dto.CourseRatingDelta;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for CourseRatingConsumerService
  *
- * Tests the Kafka consumer service that handles rating events using the Fire-and-Forget pattern.
- * Verifies proper Redis caching operations, error handling, and idempotency.
+ * Tests the batch Kafka consumer that folds typed rating events into per-course deltas
+ * using the Fire-and-Forget pattern.
+ * Verifies delta folding, per-event tracking, acknowledgment after flush, DLT routing and error propagation.
  */
 @ExtendWith(MockitoExtension.class)
 class CourseRatingConsumerServiceTest {
 
     @Mock
-    private ObjectMapper objectMapper;
+    private CourseRatingRedisRepository courseRatingRedisRepository;
 
     @Mock
-    private CourseRatingRedisRepository courseRatingRedisRepository;
+    private DltPublisher dltPublisher;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Spy
+    private KeyOrderedLaneExecutor laneExecutor = new KeyOrderedLaneExecutor(1);
 
     @InjectMocks
     private CourseRatingConsumerService courseRatingConsumerService;
 
-    private final String validAddEventJson = "{\"courseId\":123,\"rating\":5,\"eventId\":\"event-123\"}";
-    private final String validUpdateEventJson = "{\"courseId\":123,\"oldRating\":3,\"newRating\":5,\"eventId\":\"event-124\"}";
-    private final String validDeleteEventJson = "{\"courseId\":123,\"oldRating\":5,\"eventId\":\"event-125\"}";
+    private final CourseRatingAddEvent validAddEvent = CourseRatingAddEvent.create(123L, 5, 1L);
+    private final CourseRatingUpdateEvent validUpdateEvent = CourseRatingUpdateEvent.create(123L, 3, 5, "updated");
+    private final CourseRatingDeleteEvent validDeleteEvent = CourseRatingDeleteEvent.create(123L, 5);
 
+    private long offset = 0;
 
-    //region Course Rating Add Event Tests
+    //region Folding Tests
     @Test
-    void courseRatingAdd_WhenValidEvent_ShouldCacheRatingSuccessfully() throws JsonProcessingException {
-        // given
-        CourseRatingAddEvent event = new CourseRatingAddEvent();
-        event.setCourseId(123L);
-        event.setRating(5);
-        event.setEventId("event-123");
-
-        when(objectMapper.readValue(validAddEventJson, CourseRatingAddEvent.class)).thenReturn(event);
-
+    void courseRatingEvents_WhenSingleAddEvent_ShouldApplyOneDelta() {
         // when
-        courseRatingConsumerService.courseRatingAdd(validAddEventJson);
+        courseRatingConsumerService.courseRatingEvents(
+                List.of(record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent)), acknowledgment);
 
         // then
-        verify(objectMapper).readValue(validAddEventJson, CourseRatingAddEvent.class);
-        verify(courseRatingRedisRepository).cacheReviewRating(123L, 5);
+        Map<Long, CourseRatingDelta> deltas = capturedDeltas();
+        assertEquals(1, deltas.size());
+        assertEquals(5, netTotal(deltas.get(123L)));
+        assertEquals(1, netCount(deltas.get(123L)));
+        verify(acknowledgment).acknowledge();
     }
 
     @Test
-    void courseRatingAdd_WhenJsonFailsToParse_ShouldThrowRuntimeException() throws JsonProcessingException {
-        // given
-        when(objectMapper.readValue(validAddEventJson, CourseRatingAddEvent.class))
-                .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "Invalid JSON format"));
-
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingAdd(validAddEventJson);
-        });
-
-        assertTrue(exception.getMessage().contains("Failed to parse Kafka message"));
-        verify(courseRatingRedisRepository, never()).cacheReviewRating(anyLong(), anyInt());
-        verify(objectMapper).readValue(validAddEventJson, CourseRatingAddEvent.class);
+    void courseRatingEvents_WhenAddUpdateDeleteOnSameCourse_ShouldFoldIntoNetDelta() {
+        // when
+        courseRatingConsumerService.courseRatingEvents(List.of(
+                record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent),
+                record(CourseRatingConsumerService.TOPIC_ADD, CourseRatingAddEvent.create(123L, 3, 2L)),
+                record(CourseRatingConsumerService.TOPIC_UPDATE, validUpdateEvent),
+                record(CourseRatingConsumerService.TOPIC_DELETE, validDeleteEvent)
+        ), acknowledgment);
+
+        // then: +5 +3 (+5-3) -5 = 5, count 1 + 1 - 1 = 1
+        Map<Long, CourseRatingDelta> deltas = capturedDeltas();
+        assertEquals(1, deltas.size());
+        assertEquals(5, netTotal(deltas.get(123L)));
+        assertEquals(1, netCount(deltas.get(123L)));
+        verify(courseRatingRedisRepository, times(1)).applyRatingDeltas(anyMap());
     }
 
     @Test
-    void courseRatingAdd_WhenRedisOperationFails_ShouldRetryAndLogWarning() throws JsonProcessingException {
-        // given
-        CourseRatingAddEvent event = new CourseRatingAddEvent();
-        event.setCourseId(123L);
-        event.setRating(5);
-        event.setEventId("event-123");
-
-        when(objectMapper.readValue(validAddEventJson, CourseRatingAddEvent.class)).thenReturn(event);
-        doThrow(new RuntimeException("Redis connection failed"))
-                .when(courseRatingRedisRepository).cacheReviewRating(anyLong(), anyInt());
-
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingAdd(validAddEventJson);
-        });
+    void courseRatingEvents_WhenSeveralCourses_ShouldKeepOneDeltaPerCourse() {
+        // when
+        courseRatingConsumerService.courseRatingEvents(List.of(
+                record(CourseRatingConsumerService.TOPIC_ADD, CourseRatingAddEvent.create(1L, 4, 1L)),
+                record(CourseRatingConsumerService.TOPIC_ADD, CourseRatingAddEvent.create(2L, 2, 2L)),
+                record(CourseRatingConsumerService.TOPIC_ADD, CourseRatingAddEvent.create(1L, 5, 3L))
+        ), acknowledgment);
 
-        assertEquals("Redis connection failed", exception.getMessage());
-        verify(courseRatingRedisRepository).cacheReviewRating(123L, 5);
+        // then
+        Map<Long, CourseRatingDelta> deltas = capturedDeltas();
+        assertEquals(2, deltas.size());
+        assertEquals(9, netTotal(deltas.get(1L)));
+        assertEquals(2, netCount(deltas.get(1L)));
+        assertEquals(2, netTotal(deltas.get(2L)));
+        assertEquals(1, netCount(deltas.get(2L)));
     }
 
     @Test
-    void courseRatingAdd_WhenEventIdIsPresent_ShouldProcessNormally() throws JsonProcessingException {
-        // given
-        CourseRatingAddEvent event = new CourseRatingAddEvent();
-        event.setCourseId(456L);
-        event.setRating(4);
-        event.setEventId("event-456");
-
-        String jsonWithEventId = "{\"courseId\":456,\"rating\":4,\"eventId\":\"event-456\"}";
-
-        when(objectMapper.readValue(jsonWithEventId, CourseRatingAddEvent.class)).thenReturn(event);
-
+    void courseRatingEvents_WhenBulkAddEvent_ShouldFoldWithSingleAdds() {
         // when
-        courseRatingConsumerService.courseRatingAdd(jsonWithEventId);
+        courseRatingConsumerService.courseRatingEvents(List.of(
+                record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent),
+                record(CourseRatingConsumerService.TOPIC_ADD, CourseRatingBulkAddEvent.create(123L, 37L, 10))
+        ), acknowledgment);
 
         // then
-        verify(objectMapper).readValue(jsonWithEventId, CourseRatingAddEvent.class);
-        verify(courseRatingRedisRepository).cacheReviewRating(456L, 4);
+        Map<Long, CourseRatingDelta> deltas = capturedDeltas();
+        assertEquals(1, deltas.size());
+        assertEquals(42, netTotal(deltas.get(123L)));
+        assertEquals(11, netCount(deltas.get(123L)));
+        verify(acknowledgment).acknowledge();
     }
-    //endregion
 
-    //region Course Rating Update Event Tests
     @Test
-    void courseRatingUpdate_WhenValidEvent_ShouldUpdateRatingSuccessfully() throws JsonProcessingException {
-        // given
-        CourseRatingUpdateEvent event = new CourseRatingUpdateEvent();
-        event.setCourseId(123L);
-        event.setOldRating(3);
-        event.setNewRating(5);
-        event.setEventId("event-124");
-
-        when(objectMapper.readValue(validUpdateEventJson, CourseRatingUpdateEvent.class)).thenReturn(event);
-
+    void courseRatingEvents_WhenOldAndNewRatingAreSame_ShouldProduceEmptyDelta() {
         // when
-        courseRatingConsumerService.courseRatingUpdate(validUpdateEventJson);
+        courseRatingConsumerService.courseRatingEvents(List.of(
+                record(CourseRatingConsumerService.TOPIC_UPDATE, CourseRatingUpdateEvent.create(123L, 4, 4, null))
+        ), acknowledgment);
 
         // then
-        verify(objectMapper).readValue(validUpdateEventJson, CourseRatingUpdateEvent.class);
-        verify(courseRatingRedisRepository).updateReviewRating(123L, 3, 5);
+        assertTrue(capturedDeltas().get(123L).isEmpty());
+        verify(acknowledgment).acknowledge();
     }
+    //endregion
 
+    //region Idempotency Tests
     @Test
-    void courseRatingUpdate_WhenJsonFailsToParse_ShouldThrowRuntimeException() throws JsonProcessingException {
-        // given
-        when(objectMapper.readValue(validUpdateEventJson, CourseRatingUpdateEvent.class))
-                .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "Invalid JSON format"));
-
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingUpdate(validUpdateEventJson);
-        });
+    void courseRatingEvents_WhenEventHasId_ShouldTrackItForAtMostOnceApply() {
+        // when
+        courseRatingConsumerService.courseRatingEvents(
+                List.of(record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent)), acknowledgment);
 
-        assertTrue(exception.getMessage().contains("Failed to parse Kafka message"));
-        verify(courseRatingRedisRepository, never()).updateReviewRating(anyLong(), anyInt(), anyInt());
+        // then
+        CourseRatingDelta delta = capturedDeltas().get(123L);
+        assertEquals(new CourseRatingDelta.Change(5, 1), delta.getEvents().get(validAddEvent.getEventId()));
+        assertEquals(0, delta.getTotal());
+        assertEquals(0, delta.getCount());
     }
 
     @Test
-    void courseRatingUpdate_WhenRedisOperationFails_ShouldRetryAndLogWarning() throws JsonProcessingException {
-        // given
-        CourseRatingUpdateEvent event = new CourseRatingUpdateEvent();
-        event.setCourseId(123L);
-        event.setOldRating(3);
-        event.setNewRating(5);
-        event.setEventId("event-124");
-
-        when(objectMapper.readValue(validUpdateEventJson, CourseRatingUpdateEvent.class)).thenReturn(event);
-        doThrow(new RuntimeException("Redis update failed"))
-                .when(courseRatingRedisRepository).updateReviewRating(eq(123L), eq(3), eq(5));
-
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingUpdate(validUpdateEventJson);
-        });
+    void courseRatingEvents_WhenSameEventTwiceInBatch_ShouldFoldItOnce() {
+        // when
+        courseRatingConsumerService.courseRatingEvents(List.of(
+                record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent),
+                record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent)
+        ), acknowledgment);
 
-        assertEquals("Redis update failed", exception.getMessage());
-        verify(courseRatingRedisRepository).updateReviewRating(123L, 3, 5);
+        // then
+        assertEquals(5, netTotal(capturedDeltas().get(123L)));
+        assertEquals(1, netCount(capturedDeltas().get(123L)));
     }
 
     @Test
-    void courseRatingUpdate_WhenOldAndNewRatingAreSame_ShStillProcessUpdate() throws JsonProcessingException {
+    void courseRatingEvents_WhenEventHasNoId_ShouldApplyIt() {
         // given
-        CourseRatingUpdateEvent event = new CourseRatingUpdateEvent();
-        event.setCourseId(789L);
-        event.setOldRating(4);
-        event.setNewRating(4); // Same rating
-        event.setEventId("event-126");
-
-        String jsonWithSameRatings = "{\"courseId\":789,\"oldRating\":4,\"newRating\":4,\"eventId\":\"event-126\"}";
-
-        when(objectMapper.readValue(jsonWithSameRatings, CourseRatingUpdateEvent.class)).thenReturn(event);
+        CourseRatingAddEvent legacy = new CourseRatingAddEvent(null, null, 123L, 4, null);
 
         // when
-        courseRatingConsumerService.courseRatingUpdate(jsonWithSameRatings);
+        courseRatingConsumerService.courseRatingEvents(
+                List.of(record(CourseRatingConsumerService.TOPIC_ADD, legacy)), acknowledgment);
 
         // then
-        verify(objectMapper).readValue(jsonWithSameRatings, CourseRatingUpdateEvent.class);
-        verify(courseRatingRedisRepository).updateReviewRating(789L, 4, 4);
+        assertEquals(4, capturedDeltas().get(123L).getTotal());
+        assertTrue(capturedDeltas().get(123L).getEvents().isEmpty());
     }
+
     //endregion
 
-    //region Course Rating Delete Event Tests
+    //region Error Handling Tests
     @Test
-    void courseRatingDelete_WhenValidEvent_ShouldDeleteRatingSuccessfully() throws JsonProcessingException {
-        // given
-        CourseRatingDeleteEvent event = new CourseRatingDeleteEvent();
-        event.setCourseId(123L);
-        event.setOldRating(5);
-        event.setEventId("event-125");
-
-        when(objectMapper.readValue(validDeleteEventJson, CourseRatingDeleteEvent.class)).thenReturn(event);
+    void courseRatingEvents_WhenRecordFailedToDecode_ShouldSendToDltAndProcessRest() {
+        // given: ErrorHandlingDeserializer hands over a null value
+        ConsumerRecord<String, Object> invalid = record(CourseRatingConsumerService.TOPIC_ADD, null);
 
         // when
-        courseRatingConsumerService.courseRatingDelete(validDeleteEventJson);
+        courseRatingConsumerService.courseRatingEvents(List.of(
+                invalid,
+                record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent)
+        ), acknowledgment);
 
         // then
-        verify(objectMapper).readValue(validDeleteEventJson, CourseRatingDeleteEvent.class);
-        verify(courseRatingRedisRepository).deleteReviewRating(123L, 5);
+        assertEquals(5, netTotal(capturedDeltas().get(123L)));
+        InOrder inOrder = inOrder(acknowledgment, dltPublisher);
+        inOrder.verify(acknowledgment).acknowledge();
+        inOrder.verify(dltPublisher).publishToDlt(eq(invalid), any(IllegalArgumentException.class));
     }
 
     @Test
-    void courseRatingDelete_WhenJsonFailsToParse_ShouldThrowRuntimeException() throws JsonProcessingException {
+    void courseRatingEvents_WhenApplyFailsWithRejectedRecord_ShouldNotPublishItBeforeRedelivery() {
         // given
-        when(objectMapper.readValue(validDeleteEventJson, CourseRatingDeleteEvent.class))
-                .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "Invalid JSON format"));
+        ConsumerRecord<String, Object> invalid = record(CourseRatingConsumerService.TOPIC_ADD, null);
+        doThrow(new RuntimeException("Redis connection failed"))
+                .when(courseRatingRedisRepository).applyRatingDeltas(anyMap());
 
         // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingDelete(validDeleteEventJson);
-        });
-
-        assertEquals("Failed to parse Kafka message", exception.getMessage());
-        verify(courseRatingRedisRepository, never()).deleteReviewRating(anyLong(), anyInt());
+        assertThrows(RuntimeException.class, () -> courseRatingConsumerService.courseRatingEvents(List.of(
+                invalid,
+                record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent)
+        ), acknowledgment));
+        verifyNoInteractions(dltPublisher);
     }
 
     @Test
-    void courseRatingDelete_WhenRedisOperationFails_ShouldRetryAndLogWarning() throws JsonProcessingException {
+    void courseRatingEvents_WhenCourseIdIsMissing_ShouldSendToDlt() {
         // given
-        CourseRatingDeleteEvent event = new CourseRatingDeleteEvent();
-        event.setCourseId(123L);
-        event.setOldRating(5);
-        event.setEventId("event-125");
-
-        when(objectMapper.readValue(validDeleteEventJson, CourseRatingDeleteEvent.class)).thenReturn(event);
-        doThrow(new RuntimeException("Redis delete failed"))
-                .when(courseRatingRedisRepository).deleteReviewRating(123L, 5);
-
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingDelete(validDeleteEventJson);
-        });
+        ConsumerRecord<String, Object> noCourse = record(CourseRatingConsumerService.TOPIC_ADD, CourseRatingAddEvent.create(null, 5, 1L));
 
-        assertEquals("Redis delete failed", exception.getMessage());
-        verify(courseRatingRedisRepository).deleteReviewRating(123L, 5);
-    }
-    //endregion
-
-    //region Edge Cases and Error Scenarios
-    @Test
-    void courseRatingAdd_WhenJsonIsNullOrEmpty_ShouldFailGracefully() throws JsonProcessingException {
-        // when & then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            courseRatingConsumerService.courseRatingAdd(null);
-        });
+        // when
+        courseRatingConsumerService.courseRatingEvents(List.of(noCourse), acknowledgment);
 
-        assertTrue(exception.getMessage().contains("Failed to parse Kafka message") ||
-                   exception instanceof NullPointerException);
-        verify(objectMapper, never()).readValue(any(String.class), eq(CourseRatingAddEvent.class));
+        // then
+        verify(dltPublisher).publishToDlt(eq(noCourse), any(IllegalArgumentException.class));
+        assertTrue(capturedDeltas().isEmpty());
     }
 
     @Test
-    void courseRatingAdd_WhenObjectMapperReturnsNull_ShouldThrow() throws JsonProcessingException {
+    void courseRatingEvents_WhenRedisFlushFails_ShouldThrowAndNotAcknowledge() {
         // given
-        when(objectMapper.readValue(validAddEventJson, CourseRatingAddEvent.class)).thenReturn(null);
+        doThrow(new RuntimeException("Redis connection failed"))
+                .when(courseRatingRedisRepository).applyRatingDeltas(anyMap());
 
         // when & then
-        assertThrows(NullPointerException.class, () -> {
-            courseRatingConsumerService.courseRatingAdd(validAddEventJson);
-        });
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                courseRatingConsumerService.courseRatingEvents(
+                        List.of(record(CourseRatingConsumerService.TOPIC_ADD, validAddEvent)), acknowledgment));
 
-        verify(courseRatingRedisRepository, never()).cacheReviewRating(anyLong(), anyInt());
+        assertEquals("Redis connection failed", exception.getMessage());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void courseRatingAdd_WhenKafkaSystemExceptionOccurs_ShPropagateException() throws JsonProcessingException {
+    void courseRatingEvents_WhenKafkaSystemExceptionOccurs_ShouldPropagateException() {
         // given
-        CourseRatingAddEvent event = new CourseRatingAddEvent();
-        event.setCourseId(123L);
-        event.setRating(5);
-        event.setEventId("event-123");
-
-        when(objectMapper.readValue(validAddEventJson, CourseRatingAddEvent.class)).thenReturn(event);
         doThrow(new KafkaException("Kafka system error"))
-                .when(courseRatingRedisRepository).cacheReviewRating(123L, 5);
+                .when(courseRatingRedisRepository).applyRatingDeltas(anyMap());
 
         // when & then
-        KafkaException exception = assertThrows(KafkaException.class, () -> {
-            courseRatingConsumerService.courseRatingAdd(validAddEventJson);
-        });
+        assertThrows(KafkaException.class, () ->
+                courseRatingConsumerService.courseRatingEvents(
+                        List.of(record(CourseRatingConsumerService.TOPIC_DELETE, validDeleteEvent)), acknowledgment));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void courseRatingEvents_WhenBatchIsEmpty_ShouldAcknowledge() {
+        // when
+        courseRatingConsumerService.courseRatingEvents(List.of(), acknowledgment);
 
-        assertEquals("Kafka system error", exception.getMessage());
+        // then
+        assertTrue(capturedDeltas().isEmpty());
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(dltPublisher);
     }
     //endregion
 
-    //region Idempotency Tests
-    @Test
-    void courseRatingAdd_WhenCalledMultipleTimesWithSameEvent_ShouldProcessIdempotently() throws JsonProcessingException {
-        // given
-        CourseRatingAddEvent event = new CourseRatingAddEvent();
-        event.setCourseId(123L);
-        event.setRating(5);
-        event.setEventId("event-123");
+    private ConsumerRecord<String, Object> record(String topic, Object value) {
+        return new ConsumerRecord<>(topic, 0, offset++, null, value);
+    }
 
-        when(objectMapper.readValue(validAddEventJson, CourseRatingAddEvent.class)).thenReturn(event);
+    @SuppressWarnings("unchecked")
+    private Map<Long, CourseRatingDelta> capturedDeltas() {
+        ArgumentCaptor<Map<Long, CourseRatingDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(courseRatingRedisRepository).applyRatingDeltas(captor.capture());
+        return captor.getValue();
+    }
 
-        // when - call multiple times with same event
-        courseRatingConsumerService.courseRatingAdd(validAddEventJson);
-        courseRatingConsumerService.courseRatingAdd(validAddEventJson);
-        courseRatingConsumerService.courseRatingAdd(validAddEventJson);
+    private static long netTotal(CourseRatingDelta delta) {
+        return delta.getTotal() + delta.getEvents().values().stream().mapToLong(CourseRatingDelta.Change::total).sum();
+    }
 
-        // then - Redis should be called only once per event (actual implementation may handle this differently)
-        verify(courseRatingRedisRepository, times(3)).cacheReviewRating(123L, 5);
+    private static long netCount(CourseRatingDelta delta) {
+        return delta.getCount() + delta.getEvents().values().stream().mapToLong(CourseRatingDelta.Change::count).sum();
     }
-    //endregion
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.edunexuscourseservice.application.service.kafka;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.RatingOutboxEvent;
+import com.edunexuscourseservice.adapter.out.persistence.repository.RatingOutboxRepository;
+import com.edunexuscourseservice.application.saga.event.CourseRatingDeleteEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
+import com.edunexuscourseservice.application.service.kafka.codec.RatingEventCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for CourseRatingProducerService
+ *
+ * Tests that rating events are written to the outbox keyed by course ID,
+ * with payloads the consumer can decode.
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseRatingProducerServiceTest {
+
+    @Mock
+    private RatingOutboxRepository outboxRepository;
+
+    @InjectMocks
+    private CourseRatingProducerService producerService;
+
+    @Test
+    void sendRatingUpdatedEvent_ShouldAppendEncodedEventToOutbox() {
+        // when
+        producerService.sendRatingUpdatedEvent(7L, 2, 5, "comment, with \"quotes\"");
+
+        // then
+        RatingOutboxEvent outboxEvent = savedEvent();
+        assertEquals("course-rating-update", outboxEvent.getTopic());
+        assertEquals("7", outboxEvent.getMessageKey());
+
+        CourseRatingUpdateEvent event = (CourseRatingUpdateEvent) RatingEventCodec.decode(outboxEvent.getTopic(), outboxEvent.getPayload());
+        assertEquals(7L, event.getCourseId());
+        assertEquals(2, event.getOldRating());
+        assertEquals(5, event.getNewRating());
+        assertEquals("comment, with \"quotes\"", event.getComment());
+        assertNotNull(event.getEventId());
+    }
+
+    @Test
+    void sendRatingDeletedEvent_ShouldAppendToDeleteTopic() {
+        // when
+        producerService.sendRatingDeletedEvent(7L, 4);
+
+        // then
+        RatingOutboxEvent outboxEvent = savedEvent();
+        assertEquals("course-rating-delete", outboxEvent.getTopic());
+        assertEquals(4, ((CourseRatingDeleteEvent) RatingEventCodec.decode(outboxEvent.getTopic(), outboxEvent.getPayload())).getOldRating());
+    }
+
+    private RatingOutboxEvent savedEvent() {
+        ArgumentCaptor<RatingOutboxEvent> captor = ArgumentCaptor.forClass(RatingOutboxEvent.class);
+        verify(outboxRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
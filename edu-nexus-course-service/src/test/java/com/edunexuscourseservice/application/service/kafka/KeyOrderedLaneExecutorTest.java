@@ -0,0 +1,91 @@
+package com.edunexuscourseservice.application.service.kafka;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for KeyOrderedLaneExecutor
+ *
+ * Tests that every entry is processed exactly once, that a key always lands in
+ * the same lane, and that lane failures reach the caller.
+ */
+class KeyOrderedLaneExecutorTest {
+
+    private KeyOrderedLaneExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedLaneExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void forEachLane_ShouldProcessEveryEntryOnceWithKeysGroupedByLane() {
+        // given
+        Map<Long, Integer> entries = new LinkedHashMap<>();
+        for (long id = 1; id <= 100; id++) {
+            entries.put(id, (int) id);
+        }
+        Map<Long, Integer> processed = new ConcurrentHashMap<>();
+        Set<Integer> lanesSeen = ConcurrentHashMap.newKeySet();
+
+        // when
+        executor.forEachLane(entries, lane -> {
+            int laneIndex = executor.laneOf(lane.keySet().iterator().next());
+            lane.forEach((key, value) -> {
+                assertEquals(laneIndex, executor.laneOf(key));
+                assertNull(processed.put(key, value));
+            });
+            lanesSeen.add(laneIndex);
+        });
+
+        // then
+        assertEquals(entries, processed);
+        assertEquals(4, lanesSeen.size());
+    }
+
+    @Test
+    void laneOf_ShouldBeStableForSameKey() {
+        assertEquals(executor.laneOf(42L), executor.laneOf(42L));
+    }
+
+    @Test
+    void forEachLane_WhenLaneFails_ShouldRethrowToCaller() {
+        // given
+        Map<Long, Integer> entries = Map.of(1L, 1, 2L, 2, 3L, 3);
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                executor.forEachLane(entries, lane -> {
+                    if (lane.containsKey(2L)) {
+                        throw new IllegalStateException("Redis down");
+                    }
+                }));
+        assertEquals("Redis down", exception.getMessage());
+    }
+
+    @Test
+    void forEachLane_WhenSingleLane_ShouldRunInline() {
+        // given
+        KeyOrderedLaneExecutor inline = new KeyOrderedLaneExecutor(1);
+        Thread caller = Thread.currentThread();
+
+        // when & then
+        inline.forEachLane(Map.of(1L, 1, 2L, 2), lane -> {
+            assertSame(caller, Thread.currentThread());
+            assertEquals(2, lane.size());
+        });
+    }
+}
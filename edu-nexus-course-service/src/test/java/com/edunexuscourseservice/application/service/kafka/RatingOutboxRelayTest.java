@@ -0,0 +1,132 @@
+package com.edunexuscourseservice.application.service.kafka;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.RatingOutboxEvent;
+import com.edunexuscourseservice.adapter.out.persistence.repository.RatingOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RatingOutboxRelay
+ *
+ * Tests batch publishing, deletion after broker acks, rollback on send failure
+ * and draining of full batches.
+ */
+@ExtendWith(MockitoExtension.class)
+class RatingOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private RatingOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RatingOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RatingOutboxRelay(outboxRepository, kafkaTemplate, transactionTemplate, true, BATCH_SIZE, Duration.ofSeconds(1));
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void relayBatch_ShouldSendEveryEventAndDeleteBatch() {
+        // given
+        List<RatingOutboxEvent> batch = events(2);
+        when(outboxRepository.findBatchForPublish(any(Pageable.class))).thenReturn(batch);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(acked());
+
+        // when
+        int published = relay.relayBatch();
+
+        // then
+        assertEquals(2, published);
+        verify(kafkaTemplate).send("course-rating-add", "1", batch.get(0).getPayload());
+        verify(kafkaTemplate).send("course-rating-add", "2", batch.get(1).getPayload());
+        verify(outboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    void relayBatch_WhenOutboxEmpty_ShouldNotSend() {
+        // given
+        when(outboxRepository.findBatchForPublish(any(Pageable.class))).thenReturn(List.of());
+
+        // when & then
+        assertEquals(0, relay.relayBatch());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void relayBatch_WhenSendFails_ShouldThrowAndKeepRows() {
+        // given
+        when(outboxRepository.findBatchForPublish(any(Pageable.class))).thenReturn(events(2));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(acked())
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> relay.relayBatch());
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void relay_WhenBatchIsFull_ShouldDrainUntilShortBatch() {
+        // given
+        when(outboxRepository.findBatchForPublish(any(Pageable.class)))
+                .thenReturn(events(2))
+                .thenReturn(events(1));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(acked());
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxRepository, times(2)).findBatchForPublish(any(Pageable.class));
+        verify(kafkaTemplate, times(3)).send(anyString(), anyString(), any(byte[].class));
+    }
+
+    @Test
+    void relay_WhenDisabled_ShouldDoNothing() {
+        // given
+        relay = new RatingOutboxRelay(outboxRepository, kafkaTemplate, transactionTemplate, false, BATCH_SIZE, Duration.ofSeconds(1));
+
+        // when
+        relay.relay();
+
+        // then
+        verifyNoInteractions(outboxRepository, kafkaTemplate);
+    }
+
+    private static List<RatingOutboxEvent> events(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> RatingOutboxEvent.of("course-rating-add", String.valueOf(i), new byte[]{0x01, (byte) i}))
+                .toList();
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.edunexuscourseservice.application.service.kafka.codec;
+
+import com.edunexuscourseservice.application.saga.event.CourseRatingAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingBulkAddEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingDeleteEvent;
+import com.edunexuscourseservice.application.saga.event.CourseRatingUpdateEvent;
+import com.edunexuscourseservice.domain.course.util.KafkaTopic;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RatingEventCodec
+ *
+ * Tests binary round trips for each event type, null handling, the leading
+ * version byte, and decoding of legacy JSON payloads.
+ */
+class RatingEventCodecTest {
+
+    private static final Instant OCCURRED_AT = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    void encode_ShouldStartWithVersionAndTypeBytes() {
+        byte[] bytes = RatingEventCodec.encode(CourseRatingDeleteEvent.create(1L, 3));
+
+        assertEquals(RatingEventCodec.FORMAT_V1, bytes[0]);
+        assertEquals(RatingEventCodec.TYPE_DELETE, bytes[1]);
+    }
+
+    @Test
+    void addEvent_ShouldRoundTrip() {
+        CourseRatingAddEvent event = new CourseRatingAddEvent("2b1f6f0e-6c1c-4a2e-9a53-1c9b0f6d2a11", OCCURRED_AT, 10L, 4, 99L);
+
+        assertEquals(event, roundTrip(KafkaTopic.COURSE_RATING_ADD, event));
+    }
+
+    @Test
+    void updateEvent_ShouldRoundTripUnicodeComment() {
+        CourseRatingUpdateEvent event = new CourseRatingUpdateEvent(
+                "2b1f6f0e-6c1c-4a2e-9a53-1c9b0f6d2a11", OCCURRED_AT, 10L, 2, 5, "정말 \"좋은\" 강의, 추천합니다");
+
+        assertEquals(event, roundTrip(KafkaTopic.COURSE_RATING_UPDATE, event));
+    }
+
+    @Test
+    void deleteEvent_ShouldRoundTrip() {
+        CourseRatingDeleteEvent event = new CourseRatingDeleteEvent("2b1f6f0e-6c1c-4a2e-9a53-1c9b0f6d2a11", OCCURRED_AT, 10L, 3);
+
+        assertEquals(event, roundTrip(KafkaTopic.COURSE_RATING_DELETE, event));
+    }
+
+    @Test
+    void bulkAddEvent_ShouldRoundTripOnAddTopic() {
+        CourseRatingBulkAddEvent event = new CourseRatingBulkAddEvent("2b1f6f0e-6c1c-4a2e-9a53-1c9b0f6d2a11", OCCURRED_AT, 10L, 3_412L, 800);
+
+        assertEquals(event, roundTrip(KafkaTopic.COURSE_RATING_ADD, event));
+        assertEquals(RatingEventCodec.TYPE_BULK_ADD, RatingEventCodec.encode(event)[1]);
+    }
+
+    @Test
+    void nullableFields_ShouldRoundTripAsNull() {
+        CourseRatingUpdateEvent event = new CourseRatingUpdateEvent(null, null, null, 1, 2, null);
+
+        assertEquals(event, roundTrip(KafkaTopic.COURSE_RATING_UPDATE, event));
+    }
+
+    @Test
+    void nonUuidEventId_ShouldRoundTrip() {
+        CourseRatingAddEvent event = new CourseRatingAddEvent("event-123", OCCURRED_AT, 10L, 4, null);
+
+        assertEquals(event, roundTrip(KafkaTopic.COURSE_RATING_ADD, event));
+    }
+
+    @Test
+    void decode_WhenLegacyJson_ShouldUseTopicToPickType() throws Exception {
+        CourseRatingAddEvent event = CourseRatingAddEvent.create(10L, 4, 99L);
+        byte[] json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(event);
+
+        Object decoded = RatingEventCodec.decode(KafkaTopic.COURSE_RATING_ADD.getTopic(), json);
+
+        assertInstanceOf(CourseRatingAddEvent.class, decoded);
+        assertEquals(10L, ((CourseRatingAddEvent) decoded).getCourseId());
+        assertEquals(4, ((CourseRatingAddEvent) decoded).getRating());
+    }
+
+    @Test
+    void decode_WhenLegacyJsonIsMalformed_ShouldThrow() {
+        byte[] json = "{\"courseId\": 1, \"oldRating\": 2, \"newRating\": 3, \"comment\": nice}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(SerializationException.class, () ->
+                RatingEventCodec.decode(KafkaTopic.COURSE_RATING_UPDATE.getTopic(), json));
+    }
+
+    @Test
+    void decode_WhenUnknownVersion_ShouldThrow() {
+        assertThrows(SerializationException.class, () ->
+                RatingEventCodec.decode(KafkaTopic.COURSE_RATING_ADD.getTopic(), new byte[]{0x7F, 0x01}));
+    }
+
+    @Test
+    void encode_ShouldBeSmallerThanJson() throws Exception {
+        CourseRatingUpdateEvent event = CourseRatingUpdateEvent.create(10L, 2, 5, "good");
+
+        byte[] binary = RatingEventCodec.encode(event);
+        byte[] json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(event);
+
+        assertTrue(binary.length < json.length);
+    }
+
+    @Test
+    void encodeAndDecode_WhenNull_ShouldReturnNull() {
+        assertNull(RatingEventCodec.encode(null));
+        assertNull(RatingEventCodec.decode(KafkaTopic.COURSE_RATING_ADD.getTopic(), null));
+    }
+
+    private static Object roundTrip(KafkaTopic topic, Object event) {
+        return new RatingEventDeserializer().deserialize(topic.getTopic(), RatingEventCodec.encode(event));
+    }
+}
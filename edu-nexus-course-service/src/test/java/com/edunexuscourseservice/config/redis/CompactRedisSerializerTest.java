@@ -0,0 +1,146 @@
+package com.edunexuscourseservice.config.redis;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCoursePage;
+import com.edunexuscourseservice.domain.course.template.CachedEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CompactRedisSerializer
+ *
+ * Tests round trips of every wire format, reading legacy JSON entries,
+ * and that binary payloads are smaller than the JSON ones they replace.
+ * Encode/decode timing lives in the JMH source set (src/jmh).
+ */
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(Map.of(
+            RCourse.class, (byte) 0x02,
+            RCoursePage.class, (byte) 0x03));
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    void serialize_WhenCounter_ShouldWritePlainDecimal() {
+        // when
+        byte[] bytes = serializer.serialize(42L);
+
+        // then
+        assertEquals("42", new String(bytes, StandardCharsets.US_ASCII));
+        assertEquals(42L, serializer.deserialize(bytes));
+        assertEquals(-7L, serializer.deserialize(serializer.serialize(-7)));
+    }
+
+    @Test
+    void serialize_WhenRegisteredType_ShouldRoundTripWithVersionByte() {
+        // given
+        RCourse course = new RCourse(1L, "Spring Boot", "Spring Boot 입문", 100L);
+
+        // when
+        byte[] bytes = serializer.serialize(course);
+        RCourse result = (RCourse) serializer.deserialize(bytes);
+
+        // then
+        assertEquals(CompactRedisSerializer.FORMAT_V1, bytes[0]);
+        assertEquals(1L, result.getId());
+        assertEquals("Spring Boot", result.getTitle());
+        assertEquals("Spring Boot 입문", result.getDescription());
+        assertEquals(100L, result.getInstructorId());
+    }
+
+    @Test
+    void serialize_WhenCoursePage_ShouldRoundTripNestedCourses() {
+        // given
+        RCoursePage page = new RCoursePage(List.of(
+                new RCourse(1L, "Spring Boot", "Spring Boot 입문", 100L),
+                new RCourse(2L, "Kafka", null, 101L)));
+
+        // when
+        RCoursePage result = (RCoursePage) serializer.deserialize(serializer.serialize(page));
+
+        // then
+        assertEquals(2, result.getCourses().size());
+        assertEquals("Spring Boot 입문", result.getCourses().get(0).getDescription());
+        assertEquals(2L, result.getCourses().get(1).getId());
+        assertNull(result.getCourses().get(1).getDescription());
+    }
+
+    @Test
+    void serialize_WhenCachedEntry_ShouldRoundTripEnvelopeAndValue() {
+        // given
+        CachedEntry entry = new CachedEntry(new RCourse(1L, "title", "description", 100L), 12L, 1_700_000_000_000L);
+
+        // when
+        CachedEntry result = (CachedEntry) serializer.deserialize(serializer.serialize(entry));
+
+        // then
+        assertEquals(12L, result.getComputeMillis());
+        assertEquals(1_700_000_000_000L, result.getExpiresAtMillis());
+        assertEquals("title", ((RCourse) result.getValue()).getTitle());
+    }
+
+    @Test
+    void deserialize_WhenLegacyJsonEntry_ShouldReadIt() {
+        // given
+        byte[] legacy = jsonSerializer.serialize(new RCourse(1L, "title", "description", 100L));
+
+        // when
+        RCourse result = (RCourse) serializer.deserialize(legacy);
+
+        // then
+        assertEquals("title", result.getTitle());
+        assertEquals(5L, ((Number) serializer.deserialize(jsonSerializer.serialize(5))).longValue());
+    }
+
+    @Test
+    void serialize_WhenUnregisteredType_ShouldFallBackToJson() {
+        // when
+        byte[] bytes = serializer.serialize("plain");
+
+        // then
+        assertEquals("plain", serializer.deserialize(bytes));
+    }
+
+    @Test
+    void serialize_ShouldBeSmallerThanJson() {
+        // given
+        RCourse course = new RCourse(1L, "Spring Boot", "Spring Boot 입문", 100L);
+        CachedEntry entry = new CachedEntry(course, 12L, 1_700_000_000_000L);
+
+        // then
+        assertTrue(serializer.serialize(course).length < jsonSerializer.serialize(course).length);
+        assertTrue(serializer.serialize(entry).length < jsonSerializer.serialize(entry).length);
+        assertTrue(serializer.serialize(1234L).length <= jsonSerializer.serialize(1234L).length);
+    }
+
+    @Test
+    void serialize_PayloadSizes_ShouldStayWithinBudget() {
+        // given
+        RCourse course = new RCourse(1L, "Spring Boot 완벽 가이드", "Spring Boot 3 기반 백엔드 개발 입문 강의", 100L);
+        CachedEntry entry = new CachedEntry(course, 12L, 1_700_000_000_000L);
+
+        // when
+        int courseBytes = serializer.serialize(course).length;
+        int entryBytes = serializer.serialize(entry).length;
+
+        // then - no class metadata: at most 3/4 of the JSON payload
+        assertTrue(courseBytes * 4 <= jsonSerializer.serialize(course).length * 3);
+        assertTrue(entryBytes * 4 <= jsonSerializer.serialize(entry).length * 3);
+        // envelope: format byte, tag byte and two longs around the nested value
+        assertEquals(2 + 2 * Long.BYTES + courseBytes, entryBytes);
+        // counters stay plain decimals, so INCRBY keeps working
+        assertEquals(6, serializer.serialize(123_456L).length);
+    }
+
+    @Test
+    void constructor_WhenReservedTag_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompactRedisSerializer(Map.of(RCourse.class, CompactRedisSerializer.TAG_CACHED_ENTRY)));
+    }
+}
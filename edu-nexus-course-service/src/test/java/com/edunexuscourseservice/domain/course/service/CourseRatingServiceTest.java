@@ -1,5 +1,6 @@
 package com.edunexuscourseservice.domain.course.service;
 
+import com.edunexuscourseservice.application.service.BulkRequestLimit;
 import com.edunexuscourseservice.application.service.CourseRatingCacheOrchestrator;
 import com.edunexuscourseservice.application.service.CourseRatingCrudService;
 import com.edunexuscourseservice.application.service.CourseRatingQueryService;
@@ -9,12 +10,14 @@ import com.edunexuscourseservice.config.course.metrics.CourseMetrics;
 import com.edunexuscourseservice.domain.course.dto.CourseRatingInfoDto;
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseRating;
+import com.edunexus.common.exception.ValidationException;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
@@ -46,6 +49,9 @@ public class CourseRatingServiceTest {
     @Mock
     private MeterRegistry meterRegistry;
 
+    @Spy
+    private BulkRequestLimit bulkRequestLimit = new BulkRequestLimit(3);
+
     @InjectMocks
     private CourseRatingService courseRatingService;
 
@@ -77,6 +83,51 @@ public class CourseRatingServiceTest {
         assertEquals(1L, result.getId());
     }
 
+    @Test
+    void testAddRatingsToCourse() {
+        // given
+        CourseRating first = new CourseRating();
+        first.setRating(4);
+        CourseRating second = new CourseRating();
+        second.setRating(5);
+        List<CourseRating> ratings = List.of(first, second);
+
+        Timer.Sample sample = mock(Timer.Sample.class);
+        when(courseMetrics.startCourseRetrieval()).thenReturn(sample);
+        when(crudService.saveAll(1L, ratings)).thenReturn(ratings);
+
+        // when
+        List<CourseRating> result = courseRatingService.addRatingsToCourse(1L, ratings);
+
+        // then
+        assertEquals(ratings, result);
+        verify(crudService).saveAll(1L, ratings);
+        verify(cacheOrchestrator).onRatingsAdded(1L, 9L, 2);
+        verify(courseMetrics).recordRatingsCreated(2);
+        verify(courseMetrics).stopCourseRetrieval(sample, "addRatings");
+    }
+
+    @Test
+    void testAddRatingsToCourse_OverBulkLimit_Rejected() {
+        // given
+        List<CourseRating> ratings = List.of(
+                new CourseRating(), new CourseRating(), new CourseRating(), new CourseRating());
+
+        // when & then
+        assertThrows(ValidationException.class, () -> courseRatingService.addRatingsToCourse(1L, ratings));
+        verifyNoInteractions(crudService, cacheOrchestrator);
+    }
+
+    @Test
+    void testAddRatingsToCourse_Empty_SkipsSave() {
+        // when
+        List<CourseRating> result = courseRatingService.addRatingsToCourse(1L, List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(crudService, cacheOrchestrator, courseMetrics);
+    }
+
     @Test
     void testUpdateRating() throws Exception {
         // given
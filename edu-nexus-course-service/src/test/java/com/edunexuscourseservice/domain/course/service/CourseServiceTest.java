@@ -1,12 +1,23 @@
 package com.edunexuscourseservice.domain.course.service;
 
+import com.edunexuscourseservice.application.service.CourseCacheWriter;
+import com.edunexuscourseservice.application.service.CourseListCache;
+import com.edunexuscourseservice.application.service.CourseRatingCrudService;
+import com.edunexuscourseservice.application.service.CourseSearchIndexer;
 import com.edunexuscourseservice.application.service.CourseService;
 import com.edunexuscourseservice.domain.course.dto.CourseInfoDto;
+import com.edunexuscourseservice.domain.course.dto.CourseSummaryDto;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
+import com.edunexuscourseservice.domain.course.util.CursorToken;
 import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.condition.CourseSearchCondition;
-import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRedisRepository;
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
+import com.edunexuscourseservice.domain.course.template.CacheAsideTemplate;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import com.edunexus.common.exception.NotFoundException;
 import com.edunexuscourseservice.port.in.CourseUseCase;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,10 +28,15 @@ import org.springframework.data.domain.PageRequest;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.lang.reflect.Field;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,11 +47,31 @@ public class CourseServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private CourseRedisRepository courseRedisRepository;
+    private CacheAsideTemplate cacheAsideTemplate;
+
+    @Mock
+    private CourseSearchIndexer courseSearchIndexer;
+
+    @Mock
+    private CourseListCache courseListCache;
+
+    @Mock
+    private CourseCacheWriter courseCacheWriter;
+
+    @Mock
+    private CourseRatingCrudService courseRatingCrudService;
 
     @InjectMocks
     private CourseService courseService;
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Listing cache always misses: run the query
+        lenient().when(courseListCache.getOrLoad(any(), any(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<List<CourseSummaryDto>>) invocation.getArgument(2)).get());
+    }
+
     @Test
     void testSaveCourse() {
         // given
@@ -48,6 +84,10 @@ public class CourseServiceTest {
         Course result = courseService.saveCourse(course);
         assertNotNull(result);
         verify(courseRepository).save(course);
+        verify(courseRatingCrudService).createStats(course.getId());
+        verify(courseCacheWriter).refreshAfterCommit(course);
+        verify(courseSearchIndexer).indexAfterCommit(course);
+        verify(courseListCache).invalidateAfterCommit();
     }
 
     @Test
@@ -75,7 +115,6 @@ public class CourseServiceTest {
 
         // when
         when(courseRepository.findById(1L)).thenReturn(Optional.of(existingCourse));
-        when(courseRedisRepository.findById(1L)).thenReturn(Optional.empty());
 
         // then
         Course result = courseService.updateCourse(1L, updatedDetails);
@@ -83,42 +122,165 @@ public class CourseServiceTest {
         assertEquals("updated title", result.getTitle());
         assertEquals("updated description", result.getDescription());
         assertEquals(101L, result.getInstructorId());
+        verify(courseCacheWriter).refreshAfterCommit(existingCourse);
+        verify(cacheAsideTemplate, never()).evict(any());
+        verify(courseSearchIndexer).indexAfterCommit(existingCourse);
+        verify(courseListCache).invalidateAfterCommit();
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testGetCourseById() {
         // given
-        Course course = new Course();
+        CourseSummaryDto summary = new CourseSummaryDto(1L, "title", "description", 100L);
 
         // when
-        when(courseRedisRepository.findById(1L)).thenReturn(Optional.empty());
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(cacheAsideTemplate.getOrLoadEarly(eq(RedisKey.COURSE.getKey(1L)), any(Supplier.class), any()))
+                .thenAnswer(invocation -> ((Supplier<RCourse>) invocation.getArgument(1)).get());
+        when(courseRepository.findSummaryById(1L)).thenReturn(Optional.of(summary));
 
         // then
         Optional<Course> result = courseService.getCourseById(1L);
         assertTrue(result.isPresent());
-        assertSame(course, result.get());
-        verify(courseRepository).findById(1L);
+        assertEquals(1L, result.get().getId());
+        assertEquals("title", result.get().getTitle());
+        assertEquals("description", result.get().getDescription());
+        assertEquals(100L, result.get().getInstructorId());
+        verify(courseRepository).findSummaryById(1L);
+        verify(courseRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetCourseByIdFromCache() {
+        // given
+        RCourse cached = new RCourse(1L, "title", "description", 100L);
+
+        // when
+        when(cacheAsideTemplate.getOrLoadEarly(eq(RedisKey.COURSE.getKey(1L)), any(), any())).thenReturn(cached);
+
+        // then
+        Optional<Course> result = courseService.getCourseById(1L);
+        assertTrue(result.isPresent());
+        assertEquals(1L, result.get().getId());
+        assertEquals("title", result.get().getTitle());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetCourseByIdNotFound() {
+        // when
+        when(cacheAsideTemplate.getOrLoadEarly(eq(RedisKey.COURSE.getKey(1L)), any(Supplier.class), any()))
+                .thenAnswer(invocation -> ((Supplier<RCourse>) invocation.getArgument(1)).get());
+        when(courseRepository.findSummaryById(1L)).thenReturn(Optional.empty());
+
+        // then
+        assertThrows(NotFoundException.class, () -> courseService.getCourseById(1L));
     }
 
     @Test
     void testGetAllCourses() {
         // given
-        List<Course> courses = Arrays.asList(new Course(), new Course());
+        List<CourseSummaryDto> courses = Arrays.asList(summary(1L), summary(2L));
         CourseSearchCondition condition = new CourseSearchCondition();
 
         PageRequest page = PageRequest.of(0, 20);
 
         // when
-        when(courseRepository.findAll(condition, page)).thenReturn(courses);
+        when(courseRepository.findSummaries(condition, page)).thenReturn(courses);
 
 
         // then
-        List<Course> result = courseService.getAllCourses(condition, page);
+        List<CourseSummaryDto> result = courseService.getAllCourses(condition, page);
 
         assertNotNull(result);
         assertEquals(courses.size(), result.size());
-        verify(courseRepository).findAll(condition, page);
+        verify(courseRepository).findSummaries(condition, page);
+    }
+
+    @Test
+    void testGetAllCoursesFromListCache() {
+        // given
+        List<CourseSummaryDto> cached = List.of(summary(1L));
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setTitle("spring");
+
+        PageRequest page = PageRequest.of(0, 20);
+
+        // when
+        when(courseListCache.getOrLoad(eq(condition), eq(page), any())).thenReturn(cached);
+
+        // then
+        List<CourseSummaryDto> result = courseService.getAllCourses(condition, page);
+
+        assertSame(cached, result);
+        verify(courseRepository, never()).findSummaries(condition, page);
+        verify(courseSearchIndexer, never()).search(condition, page);
+    }
+
+    @Test
+    void testGetAllCoursesFromSearchIndex() {
+        // given
+        CourseSummaryDto first = summary(1L);
+        CourseSummaryDto second = summary(2L);
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setTitle("spring");
+
+        PageRequest page = PageRequest.of(0, 20);
+
+        // when
+        when(courseSearchIndexer.canServe(condition)).thenReturn(true);
+        when(courseSearchIndexer.search(condition, page)).thenReturn(List.of(2L, 1L));
+        when(courseRepository.findSummariesByIds(List.of(2L, 1L))).thenReturn(List.of(first, second));
+
+        // then
+        List<CourseSummaryDto> result = courseService.getAllCourses(condition, page);
+
+        assertEquals(List.of(second, first), result);
+        verify(courseRepository, never()).findSummaries(condition, page);
+    }
+
+    @Test
+    void testGetCoursesAfter() {
+        // given
+        CourseSummaryDto first = summary(101L);
+        CourseSummaryDto second = summary(102L);
+        CourseSearchCondition condition = new CourseSearchCondition();
+
+        // when
+        when(courseRepository.findSummariesAfter(condition, 100L, 3)).thenReturn(List.of(first, second));
+
+        // then
+        CursorPage<CourseSummaryDto> result = courseService.getCoursesAfter(condition, CursorToken.encode(100L), 2);
+
+        assertEquals(List.of(first, second), result.getItems());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetCoursesAfterFromSearchIndex() {
+        // given
+        CourseSummaryDto first = summary(3L);
+        CourseSummaryDto second = summary(7L);
+        CourseSearchCondition condition = new CourseSearchCondition();
+        condition.setTitle("spring");
+
+        // when
+        when(courseSearchIndexer.canServe(condition)).thenReturn(true);
+        when(courseSearchIndexer.searchAfter(condition, 0L, 2)).thenReturn(List.of(3L, 7L));
+        when(courseRepository.findSummariesByIds(List.of(3L, 7L))).thenReturn(List.of(second, first));
+
+        // then
+        CursorPage<CourseSummaryDto> result = courseService.getCoursesAfter(condition, null, 1);
+
+        assertEquals(List.of(first), result.getItems());
+        assertTrue(result.isHasNext());
+        assertEquals(3L, CursorToken.decode(result.getNextCursor()));
+        verify(courseRepository, never()).findSummariesAfter(any(), any(), anyInt());
+    }
+
+    private static CourseSummaryDto summary(Long id) {
+        return new CourseSummaryDto(id, "Course " + id, "Description " + id, 100L);
     }
 
     private void setId(Object target, Long id) throws Exception {
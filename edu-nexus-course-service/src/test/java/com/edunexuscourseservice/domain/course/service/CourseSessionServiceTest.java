@@ -4,13 +4,19 @@ import com.edunexuscourseservice.adapter.out.persistence.entity.Course;
 import com.edunexuscourseservice.adapter.out.persistence.entity.CourseSession;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseRepository;
 import com.edunexuscourseservice.adapter.out.persistence.repository.CourseSessionRepository;
+import com.edunexuscourseservice.application.service.BulkRequestLimit;
 import com.edunexuscourseservice.application.service.CourseSessionService;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
+import com.edunexuscourseservice.domain.course.util.CursorToken;
 import com.edunexuscourseservice.port.in.CourseSessionUseCase;
+import com.edunexus.common.exception.ValidationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -20,6 +26,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +38,9 @@ public class CourseSessionServiceTest {
     @Mock
     private CourseSessionRepository courseSessionRepository;
 
+    @Spy
+    private BulkRequestLimit bulkRequestLimit = new BulkRequestLimit(3);
+
     @InjectMocks
     private CourseSessionService courseSessionService;  // Use concrete class instead of interface
 
@@ -56,6 +66,47 @@ public class CourseSessionServiceTest {
 
     }
 
+    @Test
+    void testAddSessionsToCourse() throws Exception {
+        // given
+        Course course = new Course();
+        setId(course, 1L);
+
+        List<CourseSession> sessions = List.of(new CourseSession(), new CourseSession(), new CourseSession());
+
+        // when
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseSessionRepository.saveAll(sessions)).thenReturn(sessions);
+
+        // then
+        List<CourseSession> result = courseSessionService.addSessionsToCourse(1L, sessions);
+        assertEquals(sessions, result);
+        assertTrue(result.stream().allMatch(session -> session.getCourse() == course));
+        verify(courseRepository).findById(1L);
+        verify(courseSessionRepository).saveAll(sessions);
+    }
+
+    @Test
+    void testAddSessionsToCourse_OverBulkLimit_Rejected() {
+        // given
+        List<CourseSession> sessions = List.of(
+                new CourseSession(), new CourseSession(), new CourseSession(), new CourseSession());
+
+        // when & then
+        assertThrows(ValidationException.class, () -> courseSessionService.addSessionsToCourse(1L, sessions));
+        verifyNoInteractions(courseRepository, courseSessionRepository);
+    }
+
+    @Test
+    void testAddSessionsToCourse_Empty_SkipsRepositories() {
+        // when
+        List<CourseSession> result = courseSessionService.addSessionsToCourse(1L, List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(courseRepository, courseSessionRepository);
+    }
+
     @Test
     void testUpdateSession() throws Exception {
         CourseSession courseSession = new CourseSession();
@@ -99,6 +150,27 @@ public class CourseSessionServiceTest {
 
     }
 
+    @Test
+    void testGetSessionsByCourseIdAfter() throws Exception {
+        // given
+        CourseSession first = new CourseSession();
+        setId(first, 11L);
+        CourseSession second = new CourseSession();
+        setId(second, 12L);
+        CourseSession extra = new CourseSession();
+        setId(extra, 13L);
+
+        // when
+        when(courseSessionRepository.findByCourseIdAndIdGreaterThanOrderByIdAsc(1L, 10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(first, second, extra));
+
+        // then
+        CursorPage<CourseSession> result = courseSessionService.getSessionsByCourseIdAfter(1L, CursorToken.encode(10L), 2);
+        assertEquals(List.of(first, second), result.getItems());
+        assertTrue(result.isHasNext());
+        assertEquals(12L, CursorToken.decode(result.getNextCursor()));
+    }
+
     private void setId(Object target, Long id) throws Exception {
         Field field = target.getClass().getDeclaredField("id");
         field.setAccessible(true); // private 필드 접근 허용
@@ -0,0 +1,156 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.edunexusobservability.metrics.MetricsRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkEvictionJob
+ *
+ * Tests batch-by-batch unlinking, progress reporting, and pausing/resuming a job.
+ * Rate limiting is disabled (keys-per-second = 0) to keep the tests fast.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkEvictionJobTest {
+
+    private static final String PATTERN = "edu-nexus-course:*";
+
+    @Mock
+    private RedisScanOperations scanOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkEvictionJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new BulkEvictionJob(scanOperations, new MetricsRegistry(meterRegistry), 2, 0);
+    }
+
+    @Test
+    void start_ShouldUnlinkEveryBatchAndComplete() throws Exception {
+        // given
+        givenScanReturns(batch("a", "b"), batch("c"));
+        when(scanOperations.unlink(anyList())).thenAnswer(invocation -> (long) ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        BulkEvictionJob.Progress progress = job.start(PATTERN).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(BulkEvictionJob.State.COMPLETED, progress.state());
+        assertEquals(3, progress.scanned());
+        assertEquals(3, progress.unlinked());
+        assertEquals(progress, job.getProgress());
+        verify(scanOperations).scanBatches(eq(PATTERN), eq(2), any());
+        verify(scanOperations, times(2)).unlink(anyList());
+        assertEquals(3.0, meterRegistry.get("gauge.cache.eviction.keys.unlinked").gauge().value());
+        assertEquals(0.0, meterRegistry.get("gauge.cache.eviction.running").gauge().value());
+    }
+
+    @Test
+    void run_WhenPaused_ShouldStopAfterCurrentBatchAndResumeWithCounters() throws Exception {
+        // given
+        givenScanReturns(batch("a", "b"), batch("c", "d"));
+        when(scanOperations.unlink(anyList())).thenAnswer(invocation -> {
+            job.pause();
+            return 2L;
+        });
+        job.start(PATTERN).get(5, TimeUnit.SECONDS);
+
+        // when
+        BulkEvictionJob.Progress paused = job.getProgress();
+        givenScanReturns(batch("c", "d"));
+        doReturn(2L).when(scanOperations).unlink(anyList());
+        BulkEvictionJob.Progress resumed = job.start(PATTERN).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(BulkEvictionJob.State.PAUSED, paused.state());
+        assertEquals(2, paused.unlinked());
+        assertEquals(BulkEvictionJob.State.COMPLETED, resumed.state());
+        assertEquals(4, resumed.unlinked());
+        assertEquals(paused.startedAtMillis(), resumed.startedAtMillis());
+    }
+
+    @Test
+    void run_WhenRedisFails_ShouldBeResumable() throws Exception {
+        // given
+        when(scanOperations.scanBatches(eq(PATTERN), anyInt(), any()))
+                .thenThrow(new QueryTimeoutException("Redis command timed out"));
+
+        // when
+        BulkEvictionJob.Progress progress = job.start(PATTERN).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(BulkEvictionJob.State.FAILED, progress.state());
+        assertTrue(progress.isResumable());
+        assertEquals("Redis command timed out", progress.error());
+    }
+
+    @Test
+    void start_WithAnotherPattern_ShouldStartFreshInsteadOfResuming() throws Exception {
+        // given
+        givenScanReturns(batch("a", "b"), batch("c", "d"));
+        when(scanOperations.unlink(anyList())).thenAnswer(invocation -> {
+            job.pause();
+            return 2L;
+        });
+        job.start(PATTERN).get(5, TimeUnit.SECONDS);
+
+        // when
+        givenScanReturns();
+        BulkEvictionJob.Progress progress = job.start("edu-nexus-course:rating:*").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals("edu-nexus-course:rating:*", progress.pattern());
+        assertEquals(0, progress.unlinked());
+    }
+
+    @Test
+    void pause_WhenNothingRunning_ShouldReturnFalse() {
+        // when & then
+        assertFalse(job.pause());
+        assertNull(job.getProgress());
+    }
+
+    @SafeVarargs
+    private void givenScanReturns(List<byte[]>... batches) {
+        doAnswer(invocation -> {
+            Predicate<List<byte[]>> consumer = invocation.getArgument(2);
+            long scanned = 0;
+            for (List<byte[]> batch : batches) {
+                scanned += batch.size();
+                if (!consumer.test(batch)) {
+                    break;
+                }
+            }
+            return scanned;
+        }).when(scanOperations).scanBatches(anyString(), anyInt(), any());
+    }
+
+    private static List<byte[]> batch(String... keys) {
+        List<byte[]> batch = new ArrayList<>();
+        for (String key : keys) {
+            batch.add(("edu-nexus-course:" + key).getBytes(StandardCharsets.UTF_8));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,99 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.edunexuscourseservice.adapter.out.persistence.entity.redis.RCourse;
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CacheAsideTemplate
+ *
+ * Covers reads that go through the distributed single-flight lock with mocked Redis.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheAsideTemplateTest {
+
+    private static final String KEY = RedisKey.COURSE.getKey(1L);
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ValueOperations<String, String> lockOperations;
+
+    @Mock
+    private RedisScanOperations scanOperations;
+
+    @Mock
+    private RedisCounterOperations counterOperations;
+
+    @Mock
+    private LocalCacheTier localCacheTier;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private EarlyRefreshPolicy earlyRefreshPolicy;
+
+    @Mock
+    private HotKeyReplica hotKeyReplica;
+
+    private CacheMetrics metrics;
+    private CacheAsideTemplate cacheAsideTemplate;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CacheMetrics();
+        SingleFlightLoader singleFlightLoader = new SingleFlightLoader(redisTemplate, stringRedisTemplate, metrics,
+                true, Duration.ofSeconds(3), Duration.ofMillis(10));
+        cacheAsideTemplate = new CacheAsideTemplate(redisTemplate, metrics, scanOperations, counterOperations,
+                localCacheTier, invalidationBus, singleFlightLoader, earlyRefreshPolicy, hotKeyReplica);
+    }
+
+    @Test
+    void getOrLoadEarly_WhenOtherReplicaFilledEntry_ShouldReturnUnwrappedValue() {
+        // given
+        RCourse course = new RCourse(1L, "Spring Boot 완벽 가이드", "Spring Boot 3 기반 백엔드 개발 입문 강의", 100L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(null, new CachedEntry(course, 12L, System.currentTimeMillis() + 60_000));
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOperations);
+        when(lockOperations.setIfAbsent(eq(KEY + ":lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(stringRedisTemplate.getExpire(KEY + ":lock", TimeUnit.MILLISECONDS)).thenReturn(2_000L);
+        when(stringRedisTemplate.hasKey(KEY + ":lock")).thenReturn(true);
+
+        // when
+        RCourse result = cacheAsideTemplate.getOrLoadEarly(KEY, () -> {
+            throw new IllegalStateException("loader must not run");
+        }, TTL);
+
+        // then
+        assertSame(course, result);
+        assertEquals(1, metrics.getRemoteCoalesced());
+        verify(localCacheTier).put(KEY, course, TTL);
+        verify(hotKeyReplica).offer(KEY, course);
+    }
+}
@@ -0,0 +1,90 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for CacheInvalidationBus
+ *
+ * Tests that hot-key replicas are dropped across instances even with the L1 tier disabled.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    private static final String KEY = "course:1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final CacheMetrics metrics = new CacheMetrics();
+    private final LocalCacheTier localCacheTier = new LocalCacheTier(false, 100, Duration.ofSeconds(30), metrics);
+
+    @Test
+    void invalidate_WhenOnlyHotKeysEnabled_ShouldDropReplicaAndPublish() {
+        // given
+        HotKeyReplica replica = hotReplica(true);
+        CacheInvalidationBus bus = new CacheInvalidationBus(stringRedisTemplate, localCacheTier, replica);
+
+        // when
+        bus.invalidate(KEY);
+
+        // then
+        assertNull(replica.get(KEY));
+        verify(stringRedisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), endsWith("|" + KEY));
+    }
+
+    @Test
+    void onMessage_WhenPeerInvalidatesWithL1Disabled_ShouldDropReplica() {
+        // given
+        HotKeyReplica replica = hotReplica(true);
+        CacheInvalidationBus bus = new CacheInvalidationBus(stringRedisTemplate, localCacheTier, replica);
+
+        // when
+        bus.onMessage(message("peer-instance|" + KEY), null);
+
+        // then
+        assertNull(replica.get(KEY));
+    }
+
+    @Test
+    void invalidate_WhenL1AndHotKeysDisabled_ShouldNotPublish() {
+        // given
+        HotKeyReplica replica = hotReplica(false);
+        CacheInvalidationBus bus = new CacheInvalidationBus(stringRedisTemplate, localCacheTier, replica);
+
+        // when
+        bus.invalidate(KEY);
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private HotKeyReplica hotReplica(boolean enabled) {
+        HotKeyDetector detector = new HotKeyDetector(enabled, 1, Duration.ofSeconds(10), 5, 1024, 16);
+        HotKeyReplica replica = new HotKeyReplica(detector, metrics, Duration.ofSeconds(2), 16);
+        if (enabled) {
+            replica.get(KEY);
+            replica.offer(KEY, "value");
+            assertEquals("value", replica.get(KEY));
+        }
+        return replica;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
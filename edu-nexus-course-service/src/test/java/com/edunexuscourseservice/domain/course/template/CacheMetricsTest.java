@@ -0,0 +1,134 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import com.edunexuscourseservice.domain.course.util.RedisKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CacheMetrics and CacheRegion
+ *
+ * Tests region resolution from keys, per-region hit ratios, that concurrent
+ * increments are not lost, and the meters exported to Micrometer.
+ */
+class CacheMetricsTest {
+
+    //region CacheRegion
+    @Test
+    void of_ShouldResolveRegionFromKeyPrefix() {
+        // when & then
+        assertEquals(CacheRegion.COURSE, CacheRegion.of(RedisKey.COURSE.getKey(1L)));
+        assertEquals(CacheRegion.RATING, CacheRegion.of(RedisKey.COURSE_RATING_STATS.getKey(1L)));
+        assertEquals(CacheRegion.RATING, CacheRegion.of(RedisKey.COURSE_RATING_EVENT.getKey(1L) + ":event-1"));
+        assertEquals(CacheRegion.COURSE_LIST, CacheRegion.of(RedisKey.COURSE_LIST.getKeyWithoutId() + ":v1:p=0"));
+        assertEquals(CacheRegion.COURSE_LIST, CacheRegion.of(RedisKey.COURSE_CATALOG_VERSION.getKeyWithoutId()));
+        assertEquals(CacheRegion.OTHER, CacheRegion.of("kafka:idempotency:rating:1"));
+        assertEquals(CacheRegion.OTHER, CacheRegion.of(null));
+    }
+    //endregion
+
+    //region counters
+    @Test
+    void getHitRate_ShouldBeTrackedPerRegionAndOverall() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+
+        // when
+        metrics.recordHit(CacheRegion.COURSE);
+        metrics.recordHit(CacheRegion.COURSE);
+        metrics.recordHit(CacheRegion.COURSE);
+        metrics.recordMiss(CacheRegion.COURSE);
+        metrics.recordMiss(CacheRegion.RATING);
+
+        // then
+        assertEquals(0.75, metrics.getHitRate(CacheRegion.COURSE));
+        assertEquals(0.0, metrics.getHitRate(CacheRegion.RATING));
+        assertEquals(0.0, metrics.getHitRate(CacheRegion.COURSE_LIST));
+        assertEquals(3, metrics.getHits());
+        assertEquals(5, metrics.getTotalRequests());
+        assertEquals(0.6, metrics.getHitRate());
+    }
+
+    @Test
+    void recordHit_WhenConcurrent_ShouldNotLoseIncrements() throws Exception {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.recordHit(CacheRegion.COURSE);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(80_000, metrics.getHits(CacheRegion.COURSE));
+    }
+
+    @Test
+    void reset_ShouldClearAllCounters() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        metrics.recordHit(CacheRegion.RATING);
+        metrics.recordL1Hit();
+
+        // when
+        metrics.reset();
+
+        // then
+        assertEquals(0, metrics.getTotalRequests());
+        assertEquals(0, metrics.getL1Hits());
+    }
+    //endregion
+
+    //region Micrometer
+    @Test
+    void bindTo_ShouldExportPerRegionMeters() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+
+        // when
+        metrics.recordHit(CacheRegion.COURSE);
+        metrics.recordMiss(CacheRegion.COURSE);
+        metrics.recordLoad(CacheRegion.COURSE, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordRedisCall(CacheRegion.RATING, "hmget", TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.recordPayloadSize(CacheRegion.COURSE, "write", 120);
+        metrics.recordTtl(CacheRegion.COURSE, Duration.ofMinutes(5));
+
+        // then
+        assertEquals(1.0, registry.get("cache.requests").tags("region", "course", "result", "hit").functionCounter().count());
+        assertEquals(0.5, registry.get("cache.hit.ratio").tags("region", "course").gauge().value());
+        assertEquals(1, registry.get("cache.load.duration").tags("region", "course").timer().count());
+        assertEquals(1, registry.get("cache.redis.duration").tags("region", "rating", "op", "hmget").timer().count());
+        assertEquals(120.0, registry.get("cache.payload.size").tags("region", "course", "direction", "write").summary().totalAmount());
+        assertEquals(300.0, registry.get("cache.ttl").tags("region", "course").gauge().value());
+        assertEquals(1.0, registry.get("cache.tier.requests").tags("tier", "l2", "result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void recordLoad_WhenNotBound_ShouldBeNoOp() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+
+        // when & then
+        assertDoesNotThrow(() -> {
+            metrics.recordLoad(CacheRegion.COURSE, 1_000);
+            metrics.recordRedisCall(CacheRegion.COURSE, "get", 1_000);
+            metrics.recordPayloadSize(CacheRegion.COURSE, "read", 64);
+        });
+    }
+    //endregion
+}
@@ -0,0 +1,97 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EarlyRefreshPolicy
+ *
+ * Tests the XFetch refresh decision and per-key deduplication of background refreshes.
+ */
+class EarlyRefreshPolicyTest {
+
+    private CacheMetrics metrics;
+    private EarlyRefreshPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CacheMetrics();
+        policy = new EarlyRefreshPolicy(1.0, 1, 10, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        policy.shutdown();
+    }
+
+    @Test
+    void shouldRefresh_WhenExpired_ShouldAlwaysRefresh() {
+        assertTrue(policy.shouldRefresh(10, 0));
+        assertTrue(policy.shouldRefresh(10, -5));
+    }
+
+    @Test
+    void shouldRefresh_WhenFarFromExpiry_ShouldAlmostNeverRefresh() {
+        // given: 10 ms recompute, 5 minutes left -> probability e^-30000
+        int refreshes = 0;
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            if (policy.shouldRefresh(10, 300_000)) {
+                refreshes++;
+            }
+        }
+
+        // then
+        assertEquals(0, refreshes);
+    }
+
+    @Test
+    void shouldRefresh_WhenCloseToExpiry_ShouldUsuallyRefresh() {
+        // given: 100 ms recompute, 10 ms left -> probability e^-0.1 (~90%)
+        int refreshes = 0;
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            if (policy.shouldRefresh(100, 10)) {
+                refreshes++;
+            }
+        }
+
+        // then
+        assertTrue(refreshes > 8_000, "refreshes = " + refreshes);
+    }
+
+    @Test
+    void refreshAsync_WhenSameKeyAlreadyRefreshing_ShouldRunOnce() throws Exception {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        policy.refreshAsync("key", () -> {
+            runs.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        policy.refreshAsync("key", runs::incrementAndGet);
+        release.countDown();
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(1, metrics.getEarlyRefreshes());
+    }
+}
@@ -0,0 +1,151 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HotKeyDetector and HotKeyReplica
+ *
+ * Tests threshold crossing over the sliding window, expiry of hot keys,
+ * the hot-key cap, and that only hot keys are replicated locally.
+ */
+class HotKeyDetectorTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    //region detection
+    @Test
+    void recordAccess_WhenThresholdReached_ShouldMarkKeyHot() {
+        // given
+        HotKeyDetector detector = detector(10, 16);
+
+        // when
+        for (int i = 0; i < 9; i++) {
+            assertFalse(detector.recordAccess("course:1"));
+        }
+
+        // then
+        assertTrue(detector.recordAccess("course:1"));
+        assertTrue(detector.isHot("course:1"));
+        assertFalse(detector.isHot("course:2"));
+        assertEquals(1, detector.getPromotions());
+    }
+
+    @Test
+    void recordAccess_ShouldSumAccessesAcrossBucketsOfTheWindow() {
+        // given: 2 accesses in each 2 second bucket, 10 over the window
+        HotKeyDetector detector = detector(10, 16);
+
+        // when
+        boolean hot = false;
+        for (int bucket = 0; bucket < 5; bucket++) {
+            detector.recordAccess("course:1");
+            hot = detector.recordAccess("course:1");
+            if (bucket < 4) {
+                assertFalse(hot);
+            }
+            clock.addAndGet(2_000);
+        }
+
+        // then
+        assertTrue(hot);
+    }
+
+    @Test
+    void recordAccess_ShouldForgetAccessesOlderThanTheWindow() {
+        // given
+        HotKeyDetector detector = detector(10, 16);
+        for (int i = 0; i < 9; i++) {
+            detector.recordAccess("course:1");
+        }
+
+        // when
+        clock.addAndGet(WINDOW.toMillis() + 1);
+
+        // then
+        assertFalse(detector.recordAccess("course:1"));
+    }
+    //endregion
+
+    //region hot key set
+    @Test
+    void isHot_WhenNoHotAccessForAWindow_ShouldExpire() {
+        // given
+        HotKeyDetector detector = detector(3, 16);
+        for (int i = 0; i < 3; i++) {
+            detector.recordAccess("course:1");
+        }
+
+        // when
+        clock.addAndGet(WINDOW.toMillis());
+
+        // then
+        assertFalse(detector.isHot("course:1"));
+        assertTrue(detector.getHotKeys().isEmpty());
+    }
+
+    @Test
+    void getHotKeys_ShouldBeCappedAndOrderedHottestFirst() {
+        // given
+        HotKeyDetector detector = detector(3, 2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            detector.recordAccess("course:1");
+        }
+        for (int i = 0; i < 3; i++) {
+            detector.recordAccess("course:2");
+            detector.recordAccess("course:3");
+        }
+
+        // then
+        List<HotKeyDetector.HotKey> hotKeys = detector.getHotKeys();
+        assertEquals(List.of("course:1", "course:2"), hotKeys.stream().map(HotKeyDetector.HotKey::key).toList());
+        assertFalse(detector.isHot("course:3"));
+    }
+
+    @Test
+    void recordAccess_WhenDisabled_ShouldNeverReportHot() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(false, 1, WINDOW, 5, 1024, 16, clock::get);
+
+        // when & then
+        assertFalse(detector.recordAccess("course:1"));
+        assertFalse(detector.isHot("course:1"));
+    }
+    //endregion
+
+    //region replica
+    @Test
+    void replica_ShouldOnlyServeHotKeys() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        HotKeyReplica replica = new HotKeyReplica(detector(3, 16), metrics, Duration.ofSeconds(2), 16);
+
+        // when
+        replica.offer("course:1", "cold");
+        for (int i = 0; i < 3; i++) {
+            assertNull(replica.get("course:1"));
+        }
+        replica.offer("course:1", "hot");
+
+        // then
+        assertEquals("hot", replica.get("course:1"));
+        assertEquals(1, metrics.getReplicaHits());
+
+        replica.invalidate("course:1");
+        assertNull(replica.get("course:1"));
+    }
+    //endregion
+
+    private HotKeyDetector detector(long threshold, int maxHotKeys) {
+        return new HotKeyDetector(true, threshold, WINDOW, 5, 1024, maxHotKeys, clock::get);
+    }
+}
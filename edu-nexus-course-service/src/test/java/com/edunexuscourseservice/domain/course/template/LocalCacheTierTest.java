@@ -0,0 +1,73 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalCacheTier
+ *
+ * Tests the enabled/disabled switch, invalidation and L1 metric recording.
+ */
+class LocalCacheTierTest {
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysMissWithoutRecording() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        LocalCacheTier tier = new LocalCacheTier(false, 100, Duration.ofSeconds(30), metrics);
+
+        // when
+        tier.put("key", "value", Duration.ofMinutes(5));
+
+        // then
+        assertNull(tier.get("key"));
+        assertEquals(0, metrics.getL1Hits());
+        assertEquals(0, metrics.getL1Misses());
+    }
+
+    @Test
+    void get_WhenEnabledAndPresent_ShouldReturnValueAndRecordHit() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        LocalCacheTier tier = new LocalCacheTier(true, 100, Duration.ofSeconds(30), metrics);
+        tier.put("key", "value", Duration.ofMinutes(5));
+
+        // when
+        Object result = tier.get("key");
+
+        // then
+        assertEquals("value", result);
+        assertEquals(1, metrics.getL1Hits());
+        assertEquals(0, metrics.getL1Misses());
+    }
+
+    @Test
+    void get_WhenInvalidated_ShouldMissAndRecordMiss() {
+        // given
+        CacheMetrics metrics = new CacheMetrics();
+        LocalCacheTier tier = new LocalCacheTier(true, 100, Duration.ofSeconds(30), metrics);
+        tier.put("key", "value", Duration.ofMinutes(5));
+
+        // when
+        tier.invalidate("key");
+
+        // then
+        assertNull(tier.get("key"));
+        assertEquals(1, metrics.getL1Misses());
+    }
+
+    @Test
+    void put_WhenValueIsNull_ShouldNotCache() {
+        // given
+        LocalCacheTier tier = new LocalCacheTier(true, 100, Duration.ofSeconds(30), new CacheMetrics());
+
+        // when
+        tier.put("key", null, Duration.ofMinutes(5));
+
+        // then
+        assertNull(tier.get("key"));
+    }
+}
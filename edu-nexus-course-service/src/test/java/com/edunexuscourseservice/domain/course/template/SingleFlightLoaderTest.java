@@ -0,0 +1,199 @@
+package com.edunexuscourseservice.domain.course.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SingleFlightLoader
+ *
+ * Tests in-process coalescing of concurrent loads for the same key
+ * (distributed lock disabled, so no Redis interaction is expected),
+ * and waiting on another replica's lock with mocked Redis.
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightLoaderTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> lockOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private CacheMetrics metrics;
+    private SingleFlightLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CacheMetrics();
+        loader = new SingleFlightLoader(redisTemplate, stringRedisTemplate, metrics,
+                false, Duration.ofSeconds(3), Duration.ofMillis(50));
+    }
+
+    @Test
+    void load_WhenConcurrentCallersForSameKey_ShouldRunLoaderOnce() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> loader.load("course:1", () -> {
+                loaderCalls.incrementAndGet();
+                loaderStarted.countDown();
+                awaitQuietly(releaseLoader);
+                return "value";
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> loader.load("course:1", () -> {
+                    loaderCalls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (metrics.getLocalCoalesced() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loaderCalls.get());
+            assertEquals(callers - 1, metrics.getLocalCoalesced());
+            assertEquals(0, loader.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+        verifyNoInteractions(redisTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    void load_WhenSequentialCalls_ShouldNotCoalesce() {
+        // given
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        // when
+        loader.load("course:1", loaderCalls::incrementAndGet);
+        loader.load("course:1", loaderCalls::incrementAndGet);
+
+        // then
+        assertEquals(2, loaderCalls.get());
+        assertEquals(0, metrics.getLocalCoalesced());
+    }
+
+    @Test
+    void load_WhenLoaderThrows_ShouldPropagateAndClearInFlight() {
+        // when & then
+        assertThrows(IllegalStateException.class, () -> loader.load("course:1", () -> {
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals(0, loader.inFlightCount());
+        assertEquals("value", loader.load("course:1", () -> "value"));
+    }
+
+    @Test
+    void load_WhenOtherReplicaReleasedLockWithoutValue_ShouldLoadLocallyWithoutWaiting() {
+        // given
+        SingleFlightLoader distributed = new SingleFlightLoader(redisTemplate, stringRedisTemplate, metrics,
+                true, Duration.ofSeconds(3), Duration.ofMillis(50));
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOperations);
+        when(lockOperations.setIfAbsent(eq("course:1:lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(stringRedisTemplate.getExpire("course:1:lock", TimeUnit.MILLISECONDS)).thenReturn(2_000L);
+        when(stringRedisTemplate.hasKey("course:1:lock")).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("course:1")).thenReturn(null);
+
+        // when
+        long start = System.nanoTime();
+        String value = distributed.load("course:1", () -> null);
+
+        // then
+        assertNull(value);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, metrics.getRemoteCoalesced());
+    }
+
+    @Test
+    void load_WhenOtherReplicaFilledValue_ShouldReturnIt() {
+        // given
+        SingleFlightLoader distributed = new SingleFlightLoader(redisTemplate, stringRedisTemplate, metrics,
+                true, Duration.ofSeconds(3), Duration.ofMillis(10));
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOperations);
+        when(lockOperations.setIfAbsent(eq("course:1:lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(stringRedisTemplate.getExpire("course:1:lock", TimeUnit.MILLISECONDS)).thenReturn(2_000L);
+        when(stringRedisTemplate.hasKey("course:1:lock")).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("course:1")).thenReturn(null, "remote");
+
+        // when
+        String value = distributed.load("course:1", () -> "local");
+
+        // then
+        assertEquals("remote", value);
+        assertEquals(1, metrics.getRemoteCoalesced());
+    }
+
+    @Test
+    void load_WhenOtherReplicaFilledEnvelope_ShouldReturnExtractedValue() {
+        // given
+        SingleFlightLoader distributed = new SingleFlightLoader(redisTemplate, stringRedisTemplate, metrics,
+                true, Duration.ofSeconds(3), Duration.ofMillis(10));
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOperations);
+        when(lockOperations.setIfAbsent(eq("course:1:lock"), anyString(), any(Duration.class))).thenReturn(false);
+        when(stringRedisTemplate.getExpire("course:1:lock", TimeUnit.MILLISECONDS)).thenReturn(2_000L);
+        when(stringRedisTemplate.hasKey("course:1:lock")).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("course:1")).thenReturn(new CachedEntry("remote", 5L, Long.MAX_VALUE));
+
+        // when
+        String value = distributed.load("course:1", () -> "local",
+                cached -> (String) ((CachedEntry) cached).getValue());
+
+        // then
+        assertEquals("remote", value);
+        assertEquals(1, metrics.getRemoteCoalesced());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.edunexuscourseservice.domain.course.util;
+
+import com.edunexus.common.exception.ValidationException;
+import com.edunexuscourseservice.domain.course.dto.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CursorToken and CursorPage
+ *
+ * Tests that continuation tokens round-trip, malformed tokens are rejected,
+ * and pages detect the next page from the extra fetched row.
+ */
+class CursorTokenTest {
+
+    //region CursorToken
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 1_000_000_007L, Long.MAX_VALUE})
+    void decode_ShouldReturnEncodedId(long lastId) {
+        // when
+        String cursor = CursorToken.encode(lastId);
+
+        // then
+        assertEquals(lastId, CursorToken.decode(cursor));
+        assertFalse(cursor.contains("="));
+    }
+
+    @Test
+    void decode_WhenCursorAbsent_ShouldStartFromBeginning() {
+        // when & then
+        assertEquals(0L, CursorToken.decode(null));
+        assertEquals(0L, CursorToken.decode(""));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "AAAA", "__________8"})
+    void decode_WhenCursorMalformed_ShouldThrowValidationException(String cursor) {
+        // when & then
+        assertThrows(ValidationException.class, () -> CursorToken.decode(cursor));
+    }
+    //endregion
+
+    //region CursorPage
+    @Test
+    void of_WhenExtraRowFetched_ShouldExposeNextCursor() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(3L, 5L, 8L), 2, id -> id);
+
+        // then
+        assertEquals(List.of(3L, 5L), page.getItems());
+        assertTrue(page.isHasNext());
+        assertEquals(5L, CursorToken.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void of_WhenLastPage_ShouldHaveNoNextCursor() {
+        // when
+        CursorPage<Long> page = CursorPage.of(List.of(3L, 5L), 2, id -> id);
+
+        // then
+        assertEquals(List.of(3L, 5L), page.getItems());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void sizeOf_ShouldClampRequestedSize() {
+        // when & then
+        assertEquals(CursorPage.DEFAULT_SIZE, CursorPage.sizeOf(null));
+        assertEquals(1, CursorPage.sizeOf(0));
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.sizeOf(10_000));
+    }
+    //endregion
+}
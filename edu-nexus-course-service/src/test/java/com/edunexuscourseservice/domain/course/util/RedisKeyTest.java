@@ -0,0 +1,39 @@
+package com.edunexuscourseservice.domain.course.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RedisKey
+ *
+ * Tests that per-course keys are hash-tagged with the course ID,
+ * so all keys of one course map to the same cluster slot.
+ */
+class RedisKeyTest {
+
+    @Test
+    void getKey_ShouldHashTagTheId() {
+        // when & then
+        assertEquals("edu-nexus-course:course:entity:{42}", RedisKey.COURSE.getKey(42L));
+        assertEquals("edu-nexus-course:course_ratings:stats:{42}", RedisKey.COURSE_RATING_STATS.getKey(42L));
+    }
+
+    @Test
+    void getKey_ForTheSameCourse_ShouldMapToTheSameSlot() {
+        // given
+        String course = RedisKey.COURSE.getKey(42L);
+        String ratingStats = RedisKey.COURSE_RATING_STATS.getKey(42L);
+        String ratingEvent = RedisKey.COURSE_RATING_EVENT.getKey(42L) + ":event-1";
+
+        // when
+        int slot = ClusterSlotHashUtil.calculateSlot(course);
+
+        // then
+        assertEquals(ClusterSlotHashUtil.calculateSlot("42"), slot);
+        assertEquals(slot, ClusterSlotHashUtil.calculateSlot(ratingStats));
+        assertEquals(slot, ClusterSlotHashUtil.calculateSlot(ratingEvent));
+        assertEquals(slot, ClusterSlotHashUtil.calculateSlot(course + ":lock"));
+    }
+}
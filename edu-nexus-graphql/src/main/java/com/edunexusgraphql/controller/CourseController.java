@@ -1,6 +1,7 @@
 package com.edunexusgraphql.controller;
 
 import com.edunexusgraphql.model.Course;
+import com.edunexusgraphql.model.CoursePage;
 import com.edunexusgraphql.model.CourseRating;
 import com.edunexusgraphql.model.CourseSession;
 import com.edunexusgraphql.service.CourseService;
@@ -27,6 +28,16 @@ public class CourseController {
         return courseService.findAllCourses(title, description, page);
     }
 
+    @QueryMapping
+    public CoursePage listCoursesPage(
+            @Argument String title,
+            @Argument String description,
+            @Argument String after,
+            @Argument Integer first
+    ) {
+        return courseService.findCoursesPage(title, description, after, first);
+    }
+
     @QueryMapping
     public Course getCourse(@Argument Long userId, @Argument Long courseId) {
         return courseService.findCourseById(courseId)
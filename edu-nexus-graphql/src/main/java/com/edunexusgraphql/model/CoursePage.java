@@ -0,0 +1,16 @@
+package com.edunexusgraphql.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePage {
+    private List<Course> items;
+    private String nextCursor;   // Continuation token for the next page (null on the last page)
+    private boolean hasNext;
+}
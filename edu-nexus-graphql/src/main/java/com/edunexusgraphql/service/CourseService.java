@@ -1,6 +1,7 @@
 package com.edunexusgraphql.service;
 
 import com.edunexusgraphql.model.Course;
+import com.edunexusgraphql.model.CoursePage;
 import com.edunexusgraphql.model.CourseRating;
 import com.edunexusgraphql.model.CourseSession;
 import lombok.extern.slf4j.Slf4j;
@@ -90,6 +91,28 @@ public class CourseService {
         return Arrays.asList(courses);
     }
 
+    /**
+     * Cursor based course listing: each page seeks past the previous page's last course
+     * instead of using an offset, so paging through the whole catalog stays constant time per page.
+     */
+    public CoursePage findCoursesPage(String title, String description, String after, Integer first) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(BASE_URL + "/scroll")
+                .queryParamIfPresent("title", Optional.ofNullable(title))
+                .queryParamIfPresent("description", Optional.ofNullable(description))
+                .queryParamIfPresent("cursor", Optional.ofNullable(after))
+                .queryParamIfPresent("size", Optional.ofNullable(first))
+                .encode()
+                .build()
+                .toUri();
+
+        CoursePage page = restTemplate.getForObject(uri, CoursePage.class);
+        if (page == null) {
+            return new CoursePage(Collections.emptyList(), null, false);
+        }
+
+        return page;
+    }
+
     public CourseSession addSessionToCourse(Long courseId, String title) {
         CourseSession courseSession = new CourseSession();
         courseSession.setTitle(title);